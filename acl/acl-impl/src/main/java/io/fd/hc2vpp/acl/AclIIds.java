@@ -103,6 +103,15 @@ public class AclIIds {
         );
     }
 
+    public static Set<InstanceIdentifier<?>> attachmentPointsHandledChildren() {
+        final InstanceIdentifier<Interface> interfaceId =
+                InstanceIdentifier.create(AttachmentPoints.class).child(Interface.class);
+        return ImmutableSet.<InstanceIdentifier<?>>builder()
+                .add(interfaceId)
+                .addAll(aclHandledChildren(interfaceId))
+                .build();
+    }
+
     public static Set<InstanceIdentifier<?>> aclHandledChildren(final InstanceIdentifier<Interface> parentId) {
         return ImmutableSet.of(
                 parentId.child(Ingress.class),
@@ -17,16 +17,17 @@
 package io.fd.hc2vpp.acl.util;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
-import java.util.Optional;
+import com.google.common.util.concurrent.Striped;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collector;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
@@ -46,20 +47,34 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
  * Facade on top of {@link MappingContext} that manages {@link VppAclContext}.
+ *
+ * <p/>Index to name lookups are answered from in-memory {@link NameIndex}es (one for ACLs and one per ACL for its
+ * ACEs), so translating dumped ACL does not require scanning of all mappings for each rule. Context data stays the
+ * source of truth: index hits are verified by keyed read of the mapping, misses reload the index from context data
+ * unless it was fully loaded and no mapping was removed since then. Entries that can not be verified are kept, since
+ * they can belong to transactions not committed yet, the lookup falls back to the reloaded index instead.
+ *
+ * <p/>All modifications of the underlying context are expected to be done using this instance.
  */
 @ThreadSafe
 public final class AclContextManagerImpl implements AclContextManager {
 
-    private static final Collector<AclMapping, ?, AclMapping> SINGLE_ITEM_ACL_COLLECTOR =
-        RWUtils.singleItemCollector();
-
-    private static final Collector<AceMapping, ?, AceMapping> SINGLE_ITEM_ACE_COLLECTOR =
-        RWUtils.singleItemCollector();
+    private static final int LOCK_STRIPES = 64;
 
     private final InstanceIdentifier<VppAclContext> ctxIid;
 
+    /**
+     * Guard creation of artificial mappings only. Reads do not lock, as all data is held by transaction scoped
+     * {@link MappingContext}.
+     */
+    private final Striped<Lock> aclIndexLocks = Striped.lock(LOCK_STRIPES);
+    private final Striped<Lock> aclNameLocks = Striped.lock(LOCK_STRIPES);
+
     private final String artificialNamePrefix;
 
+    private final NameIndex aclNames = new NameIndex();
+    private final Map<String, NameIndex> aceNames = new ConcurrentHashMap<>();
+
     public AclContextManagerImpl(@Nonnull final String artificialNamePrefix, @Nonnull final String aclContextName) {
         this.artificialNamePrefix = requireNonNull(artificialNamePrefix, "artificialNamePrefix should not be null");
         requireNonNull(aclContextName, "aclContextName should not be null");
@@ -69,51 +84,86 @@ public final class AclContextManagerImpl implements AclContextManager {
     }
 
     @Override
-    public synchronized void addAcl(final int id, @Nonnull final String name, @Nonnull final List<Ace> aces,
-                                    @Nonnull final MappingContext ctx) {
+    public void addAcl(final int id, @Nonnull final String name, @Nonnull final List<Ace> aces,
+                       @Nonnull final MappingContext ctx) {
         final KeyedInstanceIdentifier<AclMapping, AclMappingKey> mappingIid = getAclIid(name);
         final AclMappingBuilder aclMapping = new AclMappingBuilder().setIndex(id).setName(name);
 
         final List<AceMapping> mappings = new ArrayList<>(aces.size());
+        final NameIndex aceIndexes = new NameIndex();
         int aceIndex = 0;
         for (final Ace ace : aces) {
-            mappings.add(new AceMappingBuilder().setName(ace.getName()).setIndex(aceIndex++).build());
+            mappings.add(new AceMappingBuilder().setName(ace.getName()).setIndex(aceIndex).build());
+            aceIndexes.put(aceIndex++, ace.getName());
         }
         aclMapping.setAceMapping(mappings);
         ctx.put(mappingIid, aclMapping.build());
+
+        // existing mapping is overwritten, the new ace index is not fully loaded, because overwrite can be reverted
+        aceNames.put(name, aceIndexes);
+        aclNames.put(id, name);
     }
 
     @Override
-    public synchronized boolean containsAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+    public boolean containsAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         final Optional<AclMapping> read = ctx.read(getAclIid(name));
         return read.isPresent();
     }
 
     @Override
-    public synchronized int getAclIndex(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+    public int getAclIndex(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         final Optional<AclMapping> read = ctx.read(getAclIid(name));
         checkArgument(read.isPresent(), "No mapping stored for name: %s", name);
         return read.get().getIndex();
     }
 
     @Override
-    public synchronized String getAclName(final int id, @Nonnull final MappingContext ctx) {
-        if (!containsAclName(id, ctx)) {
+    public String getAclName(final int id, @Nonnull final MappingContext ctx) {
+        final Optional<String> name = findAclName(id, ctx);
+        if (name.isPresent()) {
+            return name.get();
+        }
+
+        final Lock lock = aclIndexLocks.get(id);
+        lock.lock();
+        try {
+            final Optional<String> created = findAclName(id, ctx);
+            if (created.isPresent()) {
+                return created.get();
+            }
             final String artificialName = getArtificialAclName(id);
             addAcl(id, artificialName, Collections.emptyList(), ctx);
+            return artificialName;
+        } finally {
+            lock.unlock();
         }
+    }
 
-        final Optional<VppAclContext> read = ctx.read(ctxIid);
-        checkState(read.isPresent(), "VppAclContext for index: %s is not present. But should be", id);
+    private Optional<String> findAclName(final int id, @Nonnull final MappingContext ctx) {
+        final String indexed = aclNames.get(id);
+        if (indexed != null) {
+            if (isAclMapped(id, indexed, ctx)) {
+                return Optional.of(indexed);
+            }
+            // mapping is not visible to this transaction, but might be committed by other one, so it is kept
+        } else if (aclNames.isFullyLoaded()) {
+            return Optional.empty();
+        }
 
-        return read.get().getAclMapping().stream()
-            .filter(t -> t.getIndex().equals(id))
-            .collect(SINGLE_ITEM_ACL_COLLECTOR).getName();
+        final Optional<VppAclContext> read = ctx.read(ctxIid);
+        final List<AclMapping> mappings = read.isPresent() && read.get().getAclMapping() != null
+            ? read.get().getAclMapping()
+            : Collections.emptyList();
+        aclNames.load(mappings, AclMapping::getIndex, AclMapping::getName);
+        final String loaded = aclNames.get(id);
+        return loaded != null && isAclMapped(id, loaded, ctx)
+            ? Optional.of(loaded)
+            : Optional.empty();
     }
 
-    private boolean containsAclName(final int id, @Nonnull final MappingContext mappingContext) {
-        final Optional<VppAclContext> read = mappingContext.read(ctxIid);
-        return read.isPresent() && read.get().getAclMapping().stream().anyMatch(t -> t.getIndex().equals(id));
+    private boolean isAclMapped(final int id, @Nonnull final String name, @Nonnull final MappingContext ctx) {
+        final Optional<AclMapping> read = ctx.read(getAclIid(name));
+        return read.isPresent() && Integer.valueOf(id).equals(read.get().getIndex());
     }
 
     private String getArtificialAclName(final int index) {
@@ -121,29 +171,64 @@ public final class AclContextManagerImpl implements AclContextManager {
     }
 
     @Override
-    public synchronized void removeAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
+    public void removeAcl(@Nonnull final String name, @Nonnull final MappingContext ctx) {
         ctx.delete(getAclIid(name));
+        // removal can still be reverted, so misses have to be verified against context data until next load
+        aclNames.invalidate();
+        aceNames.remove(name);
     }
 
     @Override
-    public synchronized String getAceName(@Nonnull final String aclName, final int aceIndex,
-                                          @Nonnull final MappingContext ctx) {
-        if (!containsAceName(aclName, aceIndex, ctx)) {
+    public String getAceName(@Nonnull final String aclName, final int aceIndex,
+                             @Nonnull final MappingContext ctx) {
+        final NameIndex aceIndexes = aceNames.computeIfAbsent(aclName, key -> new NameIndex());
+        final Optional<String> name = findAceName(aclName, aceIndex, aceIndexes, ctx);
+        if (name.isPresent()) {
+            return name.get();
+        }
+
+        final Lock lock = aclNameLocks.get(aclName);
+        lock.lock();
+        try {
+            final Optional<String> created = findAceName(aclName, aceIndex, aceIndexes, ctx);
+            if (created.isPresent()) {
+                return created.get();
+            }
             final String artificialName = getArtificialAceName(aceIndex);
             addAce(aclName, aceIndex, artificialName, ctx);
+            aceIndexes.put(aceIndex, artificialName);
+            return artificialName;
+        } finally {
+            lock.unlock();
         }
+    }
 
-        final Optional<AclMapping> read = ctx.read(getAclIid(aclName));
-        checkState(read.isPresent(), "AclMapping for name: %s is not present. But should be", aclName);
+    private Optional<String> findAceName(@Nonnull final String aclName, final int aceIndex,
+                                         @Nonnull final NameIndex aceIndexes, @Nonnull final MappingContext ctx) {
+        final String indexed = aceIndexes.get(aceIndex);
+        if (indexed != null) {
+            if (isAceMapped(aclName, aceIndex, indexed, ctx)) {
+                return Optional.of(indexed);
+            }
+            // mapping is not visible to this transaction, but might be committed by other one, so it is kept
+        } else if (aceIndexes.isFullyLoaded()) {
+            return Optional.empty();
+        }
 
-        return read.get().getAceMapping().stream()
-            .filter(t -> t.getIndex().equals(aceIndex))
-            .collect(SINGLE_ITEM_ACE_COLLECTOR).getName();
+        final Optional<AclMapping> read = ctx.read(getAclIid(aclName));
+        if (read.isPresent() && read.get().getAceMapping() != null) {
+            aceIndexes.load(read.get().getAceMapping(), AceMapping::getIndex, AceMapping::getName);
+        }
+        final String loaded = aceIndexes.get(aceIndex);
+        return loaded != null && isAceMapped(aclName, aceIndex, loaded, ctx)
+            ? Optional.of(loaded)
+            : Optional.empty();
     }
 
-    private boolean containsAceName(@Nonnull final String aclName, final int id, @Nonnull final MappingContext ctx) {
-        final Optional<AclMapping> read = ctx.read(getAclIid(aclName));
-        return read.isPresent() && read.get().getAceMapping().stream().anyMatch(t -> t.getIndex().equals(id));
+    private boolean isAceMapped(@Nonnull final String aclName, final int aceIndex, @Nonnull final String aceName,
+                                @Nonnull final MappingContext ctx) {
+        final Optional<AceMapping> read = ctx.read(getAceIid(aclName, aceName));
+        return read.isPresent() && Integer.valueOf(aceIndex).equals(read.get().getIndex());
     }
 
     private String getArtificialAceName(final int index) {
@@ -154,13 +239,16 @@ public final class AclContextManagerImpl implements AclContextManager {
         return ctxIid.child(AclMapping.class, new AclMappingKey(name));
     }
 
+    private KeyedInstanceIdentifier<AceMapping, AceMappingKey> getAceIid(@Nonnull final String aclName,
+                                                                         @Nonnull final String aceName) {
+        return getAclIid(aclName).child(AceMapping.class, new AceMappingKey(aceName));
+    }
+
     private void addAce(@Nonnull final String aclName, final int aceIndex, @Nonnull final String aceName,
                         @Nonnull final MappingContext ctx) {
         final AceMappingBuilder aceMapping = new AceMappingBuilder();
         aceMapping.setIndex(aceIndex);
         aceMapping.setName(aceName);
-        final KeyedInstanceIdentifier<AceMapping, AceMappingKey> iid =
-            getAclIid(aclName).child(AceMapping.class, new AceMappingKey(aceName));
-        ctx.put(iid, aceMapping.build());
+        ctx.put(getAceIid(aclName, aceName), aceMapping.build());
     }
 }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPoints;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.AclSets;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.acl.sets.AclSet;
+
+/**
+ * Reverse index of ACL references from attachment points, maps ACL name to ids of interfaces referencing the ACL in
+ * ingress or egress acl sets. Allows to find references of ACL without reading all attachment points.
+ *
+ * <p/>Index is updated by writers of attachment points, so it reflects references that were written, not the ones
+ * in current transaction. References can be also kept for writes that failed and were reverted. Users are therefore
+ * expected to verify returned interfaces against data of current transaction.
+ *
+ * <p/>Attachment points can get to configuration without being written by writers (e.g. by initializers, after
+ * restart of Honeycomb), so index has to be initialized by {@link #initialize(Supplier)} before its first use.
+ *
+ * <p/>ACL names are compared ignoring case.
+ */
+@ThreadSafe
+public final class AclReferenceIndex {
+
+    private final Map<String, Set<String>> references = new ConcurrentHashMap<>();
+    private volatile boolean initialized;
+
+    /**
+     * Adds references of all attachment points stored in configuration, if not done yet. References recorded by
+     * writers before are kept.
+     *
+     * @param attachmentPoints reads attachment points from configuration, invoked only on first call
+     */
+    public void initialize(@Nonnull final Supplier<Optional<AttachmentPoints>> attachmentPoints) {
+        if (initialized) {
+            return;
+        }
+        synchronized (this) {
+            if (initialized) {
+                return;
+            }
+            final Optional<AttachmentPoints> read = attachmentPoints.get();
+            if (read.isPresent() && read.get().getInterface() != null) {
+                for (final Interface ifc : read.get().getInterface()) {
+                    add(ifc.getInterfaceId(), getAclNames(ifc));
+                }
+            }
+            initialized = true;
+        }
+    }
+
+    /**
+     * Records references of ACLs from interface.
+     */
+    public void add(@Nonnull final String interfaceId, @Nonnull final Collection<String> aclNames) {
+        for (final String aclName : aclNames) {
+            references.computeIfAbsent(key(aclName), name -> ConcurrentHashMap.newKeySet()).add(interfaceId);
+        }
+    }
+
+    /**
+     * Removes references of ACLs from interface.
+     */
+    public void remove(@Nonnull final String interfaceId, @Nonnull final Collection<String> aclNames) {
+        for (final String aclName : aclNames) {
+            references.computeIfPresent(key(aclName), (name, interfaces) -> {
+                interfaces.remove(interfaceId);
+                return interfaces.isEmpty()
+                    ? null
+                    : interfaces;
+            });
+        }
+    }
+
+    /**
+     * Returns ids of interfaces, that were referencing ACL with given name, when they were last written.
+     */
+    @Nonnull
+    public Set<String> getInterfaces(@Nonnull final String aclName) {
+        final Set<String> interfaces = references.get(key(aclName));
+        return interfaces == null
+            ? Collections.emptySet()
+            : Collections.unmodifiableSet(interfaces);
+    }
+
+    /**
+     * Returns names of all ACLs referenced by interface, both in ingress and egress direction.
+     */
+    @Nonnull
+    public static List<String> getAclNames(@Nullable final Interface attachmentPoint) {
+        if (attachmentPoint == null) {
+            return Collections.emptyList();
+        }
+        final List<String> names = new ArrayList<>();
+        if (attachmentPoint.getIngress() != null) {
+            addNames(attachmentPoint.getIngress().getAclSets(), names);
+        }
+        if (attachmentPoint.getEgress() != null) {
+            addNames(attachmentPoint.getEgress().getAclSets(), names);
+        }
+        return names;
+    }
+
+    private static void addNames(@Nullable final AclSets aclSets, final List<String> names) {
+        if (aclSets != null && aclSets.getAclSet() != null) {
+            for (final AclSet aclSet : aclSets.getAclSet()) {
+                if (aclSet.getName() != null) {
+                    names.add(aclSet.getName());
+                }
+            }
+        }
+    }
+
+    private static String key(final String aclName) {
+        return aclName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * In-memory index to name mapping backed by array indexed directly by VPP index. Suitable for dense indexes, such as
+ * ACL indexes (allocated from VPP pool) and ACE indexes (rule positions within ACL).
+ *
+ * <p/>Lookups do not lock. Modifications are synchronized, the array grows geometrically, so adding mappings for all
+ * rules of ACL one by one takes linear time.
+ */
+@ThreadSafe
+final class NameIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private volatile AtomicReferenceArray<String> names = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    private volatile boolean fullyLoaded = false;
+
+    /**
+     * Returns name stored for given index, or null if there is none.
+     */
+    @Nullable
+    String get(final int index) {
+        final AtomicReferenceArray<String> current = names;
+        return index >= 0 && index < current.length()
+            ? current.get(index)
+            : null;
+    }
+
+    /**
+     * @return true if index was loaded from context data and no mapping was removed since then
+     */
+    boolean isFullyLoaded() {
+        return fullyLoaded;
+    }
+
+    synchronized void put(final int index, @Nonnull final String name) {
+        if (index >= 0) {
+            ensureCapacity(index + 1).set(index, name);
+        }
+    }
+
+    /**
+     * Marks index as not fully loaded, e.g. after removal of mapping, that can be still reverted together with its
+     * transaction.
+     */
+    void invalidate() {
+        fullyLoaded = false;
+    }
+
+    /**
+     * Loads mappings read from context data. Existing entries are overwritten but not removed, because they can belong
+     * to transactions not yet visible to context used for the load. Entries are expected to be verified on access.
+     *
+     * @param mappings all mappings stored in context data
+     * @param index    extracts index from mapping
+     * @param name     extracts name from mapping
+     */
+    synchronized <T> void load(@Nonnull final Collection<T> mappings, @Nonnull final ToIntFunction<T> index,
+                               @Nonnull final Function<T, String> name) {
+        for (final T mapping : mappings) {
+            put(index.applyAsInt(mapping), name.apply(mapping));
+        }
+        fullyLoaded = true;
+    }
+
+    private AtomicReferenceArray<String> ensureCapacity(final int capacity) {
+        final AtomicReferenceArray<String> current = names;
+        if (capacity <= current.length()) {
+            return current;
+        }
+        final AtomicReferenceArray<String> grown =
+            new AtomicReferenceArray<>(Math.max(capacity, current.length() * 2));
+        for (int i = 0; i < current.length(); i++) {
+            grown.set(i, current.get(i));
+        }
+        names = grown;
+        return grown;
+    }
+}
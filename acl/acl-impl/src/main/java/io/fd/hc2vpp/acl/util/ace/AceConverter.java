@@ -26,7 +26,6 @@ import io.fd.jvpp.acl.types.AclRule;
 import io.fd.jvpp.acl.types.MacipAclRule;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.AceBuilder;
@@ -44,92 +43,104 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.packet.fiel
  */
 public interface AceConverter extends MacIpAceDataExtractor, StandardAceDataExtractor, ProtoPreBindRuleProducer {
 
+    /**
+     * Converts aces with eth matches to vpp rules. Large ACLs are converted in parallel. Returned rules can be cached,
+     * so they must not be modified.
+     */
     default MacipAclRule[] toMacIpAclRules(@Nonnull final List<Ace> aces) {
-        return aces.stream()
-                .filter(ace -> ace.getMatches() != null && ace.getMatches().getL2() != null)
-                .filter(ace -> ace.getMatches().getL2().getImplementedInterface()
-                        .equals(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l2.Eth.class))
-                .map(ace -> {
-                    MacipAclRule rule = new MacipAclRule();
-                    org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l2.Eth
-                            l2 =
-                            (org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l2.Eth) ace
-                                    .getMatches().getL2();
-
-                    Eth eth = Preconditions
-                            .checkNotNull(l2.getEth(), "Cannot parse eth for MacIpAcl ACE rule: {}", ace);
-
-                    rule.srcMac = sourceMacAsBytes(eth.getSourceMacAddress());
-                    rule.srcMacMask = sourceMacMaskAsBytes(eth.getSourceMacAddressMask());
-                    rule.isPermit = macIpAction(ace);
-
-                    L3 l3 = ace.getMatches().getL3();
-
-                    if (l3 != null && l3.getImplementedInterface()
-                            .equals(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv4.class)) {
-                        Ipv4 ipv4 =
-                                ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv4) l3)
-                                        .getIpv4();
-                        if (ipv4 != null && ipv4.getSourceNetwork() != null) {
-                            // IPv4 is set for MacIpAcl
-                            SourceNetwork sourceNetwork = ipv4.getSourceNetwork();
-                            rule.isIpv6 = 0;
-                            rule.srcIpAddr = ipv4Address(sourceNetwork);
-                            rule.srcIpPrefixLen = ipv4AddressPrefix(sourceNetwork);
-                        }
-                    } else if (l3 != null && l3.getImplementedInterface()
-                            .equals(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv6.class)) {
-                        Ipv6 ipv6 =
-                                ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv6) l3)
-                                        .getIpv6();
-                        if (ipv6 != null && ipv6.getSourceNetwork() != null) {
-                            // IPv6 is set for MacIpAcl
-                            org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.packet.fields.rev181001.acl.ipv6.header.fields.SourceNetwork
-                                    sourceNetwork = ipv6.getSourceNetwork();
-                            rule.isIpv6 = 1;
-                            rule.srcIpAddr = ipv6Address(sourceNetwork);
-                            rule.srcIpPrefixLen = ipv6AddressPrefix(sourceNetwork);
-                        }
-                    } else {
-                        // No IP is set for MacIpAcl
-                        rule.isIpv6 = 0;
-                        rule.srcIpAddr = new byte[4];
-                        rule.srcIpPrefixLen = 0;
-                    }
-
-                    return rule;
-                })
-                .collect(Collectors.toList())
-                .toArray(new MacipAclRule[aces.size()]);
+        return AceRuleConversions.toMacIpRules(aces,
+                ace -> ace.getMatches() != null && ace.getMatches().getL2() != null
+                        && ace.getMatches().getL2().getImplementedInterface()
+                        .equals(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l2.Eth.class),
+                this::toMacIpAclRule);
     }
 
+    /**
+     * Converts single ace to vpp rule. Ace is expected to have eth matches set.
+     */
+    default MacipAclRule toMacIpAclRule(@Nonnull final Ace ace) {
+        MacipAclRule rule = new MacipAclRule();
+        org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l2.Eth
+                l2 =
+                (org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l2.Eth) ace
+                        .getMatches().getL2();
+
+        Eth eth = Preconditions
+                .checkNotNull(l2.getEth(), "Cannot parse eth for MacIpAcl ACE rule: {}", ace);
+
+        rule.srcMac = sourceMacAsBytes(eth.getSourceMacAddress());
+        rule.srcMacMask = sourceMacMaskAsBytes(eth.getSourceMacAddressMask());
+        rule.isPermit = macIpAction(ace);
+
+        L3 l3 = ace.getMatches().getL3();
+
+        if (l3 != null && l3.getImplementedInterface()
+                .equals(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv4.class)) {
+            Ipv4 ipv4 =
+                    ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv4) l3)
+                            .getIpv4();
+            if (ipv4 != null && ipv4.getSourceNetwork() != null) {
+                // IPv4 is set for MacIpAcl
+                SourceNetwork sourceNetwork = ipv4.getSourceNetwork();
+                rule.isIpv6 = 0;
+                rule.srcIpAddr = ipv4Address(sourceNetwork);
+                rule.srcIpPrefixLen = ipv4AddressPrefix(sourceNetwork);
+            }
+        } else if (l3 != null && l3.getImplementedInterface()
+                .equals(org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv6.class)) {
+            Ipv6 ipv6 =
+                    ((org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv6) l3)
+                            .getIpv6();
+            if (ipv6 != null && ipv6.getSourceNetwork() != null) {
+                // IPv6 is set for MacIpAcl
+                org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.packet.fields.rev181001.acl.ipv6.header.fields.SourceNetwork
+                        sourceNetwork = ipv6.getSourceNetwork();
+                rule.isIpv6 = 1;
+                rule.srcIpAddr = ipv6Address(sourceNetwork);
+                rule.srcIpPrefixLen = ipv6AddressPrefix(sourceNetwork);
+            }
+        } else {
+            // No IP is set for MacIpAcl
+            rule.isIpv6 = 0;
+            rule.srcIpAddr = new byte[4];
+            rule.srcIpPrefixLen = 0;
+        }
+
+        return rule;
+    }
+
+    /**
+     * Converts aces with matches to vpp rules. Large ACLs are converted in parallel. Returned rules can be cached,
+     * so they must not be modified.
+     */
     default AclRule[] toStandardAclRules(@Nonnull final List<Ace> aces) {
-        return aces.stream()
-                .filter(ace -> ace.getMatches() != null)
-                .map(ace -> {
-                    // pre-bind rule with protocol based attributes (if present)
-                    AclRule rule = createPreBindRule(ace);
-
-                    rule.isPermit = standardAction(ace);
-
-                    if (standardIsIpv6(ace.getMatches())) {
-                        rule.isIpv6 = 1;
-                        rule.srcIpAddr = ipv6SourceAddress(ace.getMatches());
-                        rule.srcIpPrefixLen = ipv6SourceAddressPrefix(ace.getMatches());
-                        rule.dstIpAddr = ipv6DestinationAddress(ace.getMatches());
-                        rule.dstIpPrefixLen = ipv6DestinationAddressPrefix(ace.getMatches());
-                    } else {
-                        rule.isIpv6 = 0;
-                        rule.srcIpAddr = ipv4SourceAddress(ace.getMatches());
-                        rule.srcIpPrefixLen = ipv4SourceAddressPrefix(ace.getMatches());
-                        rule.dstIpAddr = ipv4DestinationAddress(ace.getMatches());
-                        rule.dstIpPrefixLen = ipv4DestinationAddressPrefix(ace.getMatches());
-                    }
-
-                    return rule;
-                })
-                .collect(Collectors.toList())
-                .toArray(new AclRule[aces.size()]);
+        return AceRuleConversions.toStandardRules(aces, ace -> ace.getMatches() != null, this::toStandardAclRule);
+    }
+
+    /**
+     * Converts single ace to vpp rule. Ace is expected to have matches set.
+     */
+    default AclRule toStandardAclRule(@Nonnull final Ace ace) {
+        // pre-bind rule with protocol based attributes (if present)
+        AclRule rule = createPreBindRule(ace);
+
+        rule.isPermit = standardAction(ace);
+
+        if (standardIsIpv6(ace.getMatches())) {
+            rule.isIpv6 = 1;
+            rule.srcIpAddr = ipv6SourceAddress(ace.getMatches());
+            rule.srcIpPrefixLen = ipv6SourceAddressPrefix(ace.getMatches());
+            rule.dstIpAddr = ipv6DestinationAddress(ace.getMatches());
+            rule.dstIpPrefixLen = ipv6DestinationAddressPrefix(ace.getMatches());
+        } else {
+            rule.isIpv6 = 0;
+            rule.srcIpAddr = ipv4SourceAddress(ace.getMatches());
+            rule.srcIpPrefixLen = ipv4SourceAddressPrefix(ace.getMatches());
+            rule.dstIpAddr = ipv4DestinationAddress(ace.getMatches());
+            rule.dstIpPrefixLen = ipv4DestinationAddressPrefix(ace.getMatches());
+        }
+
+        return rule;
     }
 
     default List<Ace> toMacIpAces(final String aclName, @Nonnull MacipAclRule[] rules,
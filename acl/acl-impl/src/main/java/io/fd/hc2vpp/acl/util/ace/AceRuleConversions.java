@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util.ace;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.fd.jvpp.acl.types.AclRule;
+import io.fd.jvpp.acl.types.MacipAclRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.Actions;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.Matches;
+
+/**
+ * Conversion of aces to vpp rules used by {@link AceConverter}.
+ *
+ * <p/>Rules are cached by content of ace (matches and actions), so the same ace is not parsed again when ACL is
+ * written again or the same rules are used by multiple ACLs. Cached rules are shared, so they must not be modified.
+ *
+ * <p/>ACLs with at least {@link #PARALLEL_CONVERSION_THRESHOLD} aces are converted in parallel using dedicated
+ * {@link ForkJoinPool}.
+ */
+@ThreadSafe
+final class AceRuleConversions {
+
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1024;
+    private static final long MAX_CACHED_RULES = 65536;
+
+    private static final Cache<AceContent, AclRule> STANDARD_RULES =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_RULES).build();
+    private static final Cache<AceContent, MacipAclRule> MAC_IP_RULES =
+        CacheBuilder.newBuilder().maximumSize(MAX_CACHED_RULES).build();
+
+    // worker threads of fork join pool are daemon threads, so pool does not need to be shut down
+    private static final ForkJoinPool CONVERSION_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private AceRuleConversions() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    static AclRule[] toStandardRules(@Nonnull final List<Ace> aces, @Nonnull final Predicate<Ace> filter,
+                                     @Nonnull final Function<Ace, AclRule> converter) {
+        return convert(aces, filter, ace -> cached(STANDARD_RULES, ace, converter), AclRule[]::new);
+    }
+
+    static MacipAclRule[] toMacIpRules(@Nonnull final List<Ace> aces, @Nonnull final Predicate<Ace> filter,
+                                       @Nonnull final Function<Ace, MacipAclRule> converter) {
+        return convert(aces, filter, ace -> cached(MAC_IP_RULES, ace, converter), MacipAclRule[]::new);
+    }
+
+    private static <R> R[] convert(final List<Ace> aces, final Predicate<Ace> filter,
+                                   final Function<Ace, R> converter, final IntFunction<R[]> arrayFactory) {
+        final List<Ace> converted = new ArrayList<>(aces.size());
+        for (final Ace ace : aces) {
+            if (filter.test(ace)) {
+                converted.add(ace);
+            }
+        }
+
+        final R[] rules = arrayFactory.apply(converted.size());
+        if (converted.size() < PARALLEL_CONVERSION_THRESHOLD) {
+            for (int i = 0; i < rules.length; i++) {
+                rules[i] = converter.apply(converted.get(i));
+            }
+        } else {
+            // parallel stream submitted from pool worker runs in that pool
+            CONVERSION_POOL.submit(() -> IntStream.range(0, rules.length).parallel()
+                .forEach(i -> rules[i] = converter.apply(converted.get(i))))
+                .join();
+        }
+        return rules;
+    }
+
+    private static <R> R cached(final Cache<AceContent, R> cache, final Ace ace, final Function<Ace, R> converter) {
+        try {
+            return cache.get(new AceContent(ace), () -> converter.apply(ace));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            // conversion failures are unchecked, rethrow the original one
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Key of cached rule. Rule is derived only from matches and actions, ace name is not part of it.
+     */
+    private static final class AceContent {
+        private final Matches matches;
+        private final Actions actions;
+        private final int hash;
+
+        private AceContent(final Ace ace) {
+            this.matches = ace.getMatches();
+            this.actions = ace.getActions();
+            this.hash = Objects.hash(matches, actions);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final AceContent that = (AceContent) o;
+            return hash == that.hash && Objects.equals(matches, that.matches) && Objects.equals(actions, that.actions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import io.fd.hc2vpp.acl.util.AclContextManager;
 import io.fd.hc2vpp.acl.util.FutureJVppAclCustomizer;
 import io.fd.hc2vpp.acl.util.acl.AclDataExtractor;
 import io.fd.hc2vpp.acl.write.request.AclAddReplaceRequest;
+import io.fd.hc2vpp.acl.write.request.ProgrammedStandardAcls;
 import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
@@ -34,6 +35,7 @@ public class AclCustomizer extends FutureJVppAclCustomizer
 
     private final AclContextManager standardAclContext;
     private final AclContextManager macIpAclContext;
+    private final ProgrammedStandardAcls programmedStandardAcls = new ProgrammedStandardAcls();
 
     public AclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
                          @Nonnull final AclContextManager standardAclContext,
@@ -48,7 +50,7 @@ public class AclCustomizer extends FutureJVppAclCustomizer
                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
         AclAddReplaceRequest request = new AclAddReplaceRequest(getjVppAclFacade(), writeContext.getMappingContext());
         if (isStandardAcl(dataAfter)) {
-            request.addStandardAcl(id, dataAfter, standardAclContext);
+            request.addStandardAcl(id, dataAfter, standardAclContext, programmedStandardAcls);
         } else if (isMacIpAcl(dataAfter)) {
             request.addMacIpAcl(id, dataAfter, macIpAclContext);
         } else {
@@ -65,7 +67,7 @@ public class AclCustomizer extends FutureJVppAclCustomizer
         AclAddReplaceRequest request = new AclAddReplaceRequest(getjVppAclFacade(), writeContext.getMappingContext());
 
         if (isStandardAcl(dataAfter)) {
-            request.updateStandardAcl(id, dataAfter, standardAclContext);
+            request.updateStandardAcl(id, dataAfter, standardAclContext, programmedStandardAcls);
         } else if (isMacIpAcl(dataAfter)) {
             synchronized (macIpAclContext) {
                 // there is no direct support for update of mac-ip acl, but only one is allowed per interface
@@ -87,7 +89,7 @@ public class AclCustomizer extends FutureJVppAclCustomizer
         AclAddReplaceRequest request = new AclAddReplaceRequest(getjVppAclFacade(), writeContext.getMappingContext());
 
         if (isStandardAcl(dataBefore)) {
-            request.deleteStandardAcl(id, dataBefore, standardAclContext);
+            request.deleteStandardAcl(id, dataBefore, standardAclContext, programmedStandardAcls);
         } else if (isMacIpAcl(dataBefore)) {
             request.deleteMacIpAcl(id, dataBefore, macIpAclContext);
         } else {
@@ -24,17 +24,14 @@ import java.util.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import io.fd.hc2vpp.acl.AclIIds;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
 import io.fd.hc2vpp.acl.util.acl.AclDataExtractor;
 import io.fd.honeycomb.translate.write.DataValidationFailedException.CreateValidationFailedException;
 import io.fd.honeycomb.translate.write.DataValidationFailedException.DeleteValidationFailedException;
 import io.fd.honeycomb.translate.write.DataValidationFailedException.UpdateValidationFailedException;
 import io.fd.honeycomb.translate.write.Validator;
 import io.fd.honeycomb.translate.write.WriteContext;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
@@ -42,7 +39,6 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.rev181022.Vpp
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.rev181022.VppMacipAcl;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.AclBase;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.Acl;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPoints;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.Aces;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.Matches;
@@ -51,8 +47,7 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.cont
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv4;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv6;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.AclSets;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.acl.sets.AclSet;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.packet.fields.rev181001.acl.ipv4.header.fields.source.network.SourceIpv4Network;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.packet.fields.rev181001.acl.ipv6.header.fields.source.network.SourceIpv6Network;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -62,6 +57,12 @@ public final class AclValidator implements Validator<Acl>, AclDataExtractor {
     private static final Set<Class<? extends AclBase>> SUPPORTED_ACL_TYPES =
             ImmutableSet.of(VppAcl.class, VppMacipAcl.class);
 
+    private final AclReferenceIndex aclReferences;
+
+    public AclValidator(@Nonnull final AclReferenceIndex aclReferences) {
+        this.aclReferences = aclReferences;
+    }
+
     @Override
     public void validateWrite(final InstanceIdentifier<Acl> id, final Acl dataAfter, final WriteContext ctx)
             throws CreateValidationFailedException {
@@ -184,50 +185,26 @@ public final class AclValidator implements Validator<Acl>, AclDataExtractor {
     }
 
     @VisibleForTesting
-    static List<String> checkAclReferenced(@Nonnull final WriteContext writeContext, @Nonnull final Acl acl) {
+    List<String> checkAclReferenced(@Nonnull final WriteContext writeContext, @Nonnull final Acl acl) {
         Preconditions.checkNotNull(acl.getType(), "Cannot validate acl: {}, type is not set.", acl);
         if (!acl.getType().equals(VppAcl.class) && !acl.getType().equals(VppMacipAcl.class)) {
             throw new IllegalArgumentException(String.format("Acl type %s not supported", acl.getType()));
         }
 
-        Optional<AttachmentPoints> attachmentPointsOpt = writeContext.readAfter(AclIIds.ACLS_AP);
-        if (!attachmentPointsOpt.isPresent() || attachmentPointsOpt.get().getInterface() == null) {
-            return Collections.emptyList();
-        }
-
-        final List<Interface> interfaces = attachmentPointsOpt.get().getInterface();
-        if (interfaces == null) {
-            return Collections.emptyList();
-        }
         final String aclName = acl.getName();
-
-        HashMap<String, AclSets> sets = getIngressAclSets(interfaces);
-        sets.putAll(getEgressAclSets(interfaces));
-        List<String> referencedIfcs = new ArrayList<>();
-        sets.forEach((ifc, aclSets) -> {
-            if (aclSets.getAclSet() != null) {
-                if (aclSets.getAclSet().stream()
-                        .map(AclSet::getName)
-                        .filter(Objects::nonNull)
-                        .anyMatch(name -> name.equalsIgnoreCase(aclName))) {
-                    referencedIfcs.add(ifc);
-                }
-            }
-        });
-        return referencedIfcs.stream().distinct().collect(Collectors.toList());
-    }
-
-    private static HashMap<String, AclSets> getEgressAclSets(final List<Interface> interfaces) {
-        HashMap<String, AclSets> map = new HashMap<>();
-        interfaces.stream().filter(anInterface -> anInterface.getEgress() != null)
-                .forEach(anInterface -> map.put(anInterface.getInterfaceId(), anInterface.getEgress().getAclSets()));
-        return map;
+        // attachment points not written by this instance (e.g. initialized after restart) are not indexed otherwise
+        aclReferences.initialize(() -> writeContext.readBefore(AclIIds.ACLS_AP));
+        // index provides interfaces that referenced acl when they were written, references could have been removed
+        // by current transaction
+        return aclReferences.getInterfaces(aclName).stream()
+                .filter(ifc -> isReferenced(writeContext.readAfter(AclIIds.ACLS_AP.child(Interface.class,
+                        new InterfaceKey(ifc))), aclName))
+                .sorted()
+                .collect(Collectors.toList());
     }
 
-    private static HashMap<String, AclSets> getIngressAclSets(final List<Interface> interfaces) {
-        HashMap<String, AclSets> map = new HashMap<>();
-        interfaces.stream().filter(anInterface -> anInterface.getIngress() != null)
-                .forEach(anInterface -> map.put(anInterface.getInterfaceId(), anInterface.getIngress().getAclSets()));
-        return map;
+    private static boolean isReferenced(final Optional<Interface> attachmentPoint, final String aclName) {
+        return attachmentPoint.isPresent() && AclReferenceIndex.getAclNames(attachmentPoint.get()).stream()
+                .anyMatch(name -> name.equalsIgnoreCase(aclName));
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.write;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.fd.hc2vpp.acl.util.FutureJVppAclCustomizer;
+import io.fd.hc2vpp.acl.write.request.AclInterfaceAssignmentBatch;
+import io.fd.honeycomb.translate.spi.write.WriterCustomizer;
+import io.fd.honeycomb.translate.write.WriteContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPoints;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handles acl assignments of all interfaces modified by write transaction. Each interface is processed by
+ * {@link InterfaceAclCustomizer}, but standard ACL assignments of all interfaces are collected to single
+ * {@link AclInterfaceAssignmentBatch} and sent once all interfaces are processed.
+ *
+ * <p/>Attachment points are single node for Honeycomb, so it does not revert modifications of individual interfaces.
+ * If processing fails, interfaces that were already processed are reverted here, by applying their data before
+ * the modification, before the failure is reported.
+ */
+public class AttachmentPointsCustomizer extends FutureJVppAclCustomizer implements WriterCustomizer<AttachmentPoints> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AttachmentPointsCustomizer.class);
+
+    private final InterfaceAclCustomizer interfaceAclCustomizer;
+
+    public AttachmentPointsCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
+                                      @Nonnull final InterfaceAclCustomizer interfaceAclCustomizer) {
+        super(jVppAclFacade);
+        this.interfaceAclCustomizer = checkNotNull(interfaceAclCustomizer, "Interface ACL customizer cannot be null");
+    }
+
+    @Override
+    public void writeCurrentAttributes(@Nonnull final InstanceIdentifier<AttachmentPoints> id,
+                                       @Nonnull final AttachmentPoints dataAfter,
+                                       @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        processInterfaces(id, Collections.emptyMap(), getInterfaces(dataAfter), writeContext);
+    }
+
+    @Override
+    public void updateCurrentAttributes(@Nonnull final InstanceIdentifier<AttachmentPoints> id,
+                                        @Nonnull final AttachmentPoints dataBefore,
+                                        @Nonnull final AttachmentPoints dataAfter,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        processInterfaces(id, getInterfaces(dataBefore), getInterfaces(dataAfter), writeContext);
+    }
+
+    @Override
+    public void deleteCurrentAttributes(@Nonnull final InstanceIdentifier<AttachmentPoints> id,
+                                        @Nonnull final AttachmentPoints dataBefore,
+                                        @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        processInterfaces(id, getInterfaces(dataBefore), Collections.emptyMap(), writeContext);
+    }
+
+    private void processInterfaces(@Nonnull final InstanceIdentifier<AttachmentPoints> id,
+                                   @Nonnull final Map<InterfaceKey, Interface> before,
+                                   @Nonnull final Map<InterfaceKey, Interface> after,
+                                   @Nonnull final WriteContext writeContext) throws WriteFailedException {
+        final List<Change> changes = new ArrayList<>();
+        for (final Map.Entry<InterfaceKey, Interface> entry : before.entrySet()) {
+            if (!after.containsKey(entry.getKey())) {
+                changes.add(new Change(id.child(Interface.class, entry.getKey()), entry.getValue(), null));
+            }
+        }
+        for (final Map.Entry<InterfaceKey, Interface> entry : after.entrySet()) {
+            final Interface dataBefore = before.get(entry.getKey());
+            if (!entry.getValue().equals(dataBefore)) {
+                changes.add(new Change(id.child(Interface.class, entry.getKey()), dataBefore, entry.getValue()));
+            }
+        }
+
+        final AclInterfaceAssignmentBatch batch = new AclInterfaceAssignmentBatch();
+        final List<Change> processed = new ArrayList<>(changes.size());
+        try {
+            for (final Change change : changes) {
+                apply(change.id, change.dataBefore, change.dataAfter, writeContext, batch);
+                processed.add(change);
+            }
+            batch.execute(getjVppAclFacade());
+        } catch (WriteFailedException | RuntimeException e) {
+            // standard acl assignments of all processed interfaces might be sent, or not, revert all of them
+            revert(processed, writeContext);
+            throw e;
+        }
+    }
+
+    private void apply(@Nonnull final InstanceIdentifier<Interface> id, @Nullable final Interface dataBefore,
+                       @Nullable final Interface dataAfter, @Nonnull final WriteContext writeContext,
+                       @Nonnull final AclInterfaceAssignmentBatch batch) throws WriteFailedException {
+        if (dataAfter == null) {
+            interfaceAclCustomizer.delete(id, dataBefore, writeContext, batch);
+        } else if (dataBefore == null) {
+            interfaceAclCustomizer.write(id, dataAfter, writeContext, batch);
+        } else {
+            interfaceAclCustomizer.update(id, dataBefore, dataAfter, writeContext, batch);
+        }
+    }
+
+    /**
+     * Best effort revert of processed interfaces, failures are only logged, so that original failure is reported.
+     */
+    private void revert(@Nonnull final List<Change> processed, @Nonnull final WriteContext writeContext) {
+        final AclInterfaceAssignmentBatch batch = new AclInterfaceAssignmentBatch();
+        for (int i = processed.size() - 1; i >= 0; i--) {
+            final Change change = processed.get(i);
+            LOG.debug("Reverting acl assignment of {}", change.id);
+            try {
+                apply(change.id, change.dataAfter, change.dataBefore, writeContext, batch);
+            } catch (WriteFailedException | RuntimeException e) {
+                LOG.warn("Unable to revert acl assignment of {}", change.id, e);
+            }
+        }
+        try {
+            // set_acl_list replaces all ACLs of interface, so it reverts also assignments that were not sent
+            batch.execute(getjVppAclFacade());
+        } catch (WriteFailedException | RuntimeException e) {
+            LOG.warn("Unable to revert acl assignments", e);
+        }
+    }
+
+    static Map<InterfaceKey, Interface> getInterfaces(@Nullable final AttachmentPoints attachmentPoints) {
+        if (attachmentPoints == null || attachmentPoints.getInterface() == null) {
+            return Collections.emptyMap();
+        }
+        final Map<InterfaceKey, Interface> interfaces = new LinkedHashMap<>();
+        for (final Interface ifc : attachmentPoints.getInterface()) {
+            interfaces.put(ifc.key(), ifc);
+        }
+        return interfaces;
+    }
+
+    private static final class Change {
+        private final InstanceIdentifier<Interface> id;
+        private final Interface dataBefore;
+        private final Interface dataAfter;
+
+        private Change(final InstanceIdentifier<Interface> id, final Interface dataBefore,
+                       final Interface dataAfter) {
+            this.id = id;
+            this.dataBefore = dataBefore;
+            this.dataAfter = dataAfter;
+        }
+    }
+}
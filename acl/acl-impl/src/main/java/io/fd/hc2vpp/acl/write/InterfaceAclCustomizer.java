@@ -20,17 +20,20 @@ import static io.fd.hc2vpp.acl.write.request.MacIpInterfaceAssignmentRequest.del
 import static java.util.stream.Collectors.toList;
 
 import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
 import io.fd.hc2vpp.acl.util.FutureJVppAclCustomizer;
+import io.fd.hc2vpp.acl.write.request.AclInterfaceAssignmentBatch;
 import io.fd.hc2vpp.acl.write.request.AclInterfaceAssignmentRequest;
 import io.fd.hc2vpp.acl.write.request.MacIpInterfaceAssignmentRequest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.spi.write.WriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.acl.future.FutureJVppAclFacade;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
@@ -39,22 +42,28 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.cont
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 /**
- * Handles acl assignments(only standard ones, mac-ip have dedicated customizer)
+ * Handles acl assignments of single interface for {@link AttachmentPointsCustomizer}.
+ *
+ * <p/>Standard ACL assignments are collected to {@link AclInterfaceAssignmentBatch} shared by all interfaces modified
+ * by the transaction. Mac-ip ACL assignments are sent immediately.
  */
-public class InterfaceAclCustomizer extends FutureJVppAclCustomizer implements WriterCustomizer<Interface> {
+public class InterfaceAclCustomizer extends FutureJVppAclCustomizer {
 
     private final NamingContext interfaceContext;
     private final AclContextManager standardAclContext;
     private final AclContextManager macIpAclContext;
+    private final AclReferenceIndex aclReferences;
 
     public InterfaceAclCustomizer(@Nonnull final FutureJVppAclFacade jVppAclFacade,
                                   @Nonnull final NamingContext interfaceContext,
                                   @Nonnull final AclContextManager standardAclContext,
-                                  @Nonnull final AclContextManager macIpAclContext) {
+                                  @Nonnull final AclContextManager macIpAclContext,
+                                  @Nonnull final AclReferenceIndex aclReferences) {
         super(jVppAclFacade);
         this.interfaceContext = interfaceContext;
         this.standardAclContext = standardAclContext;
         this.macIpAclContext = macIpAclContext;
+        this.aclReferences = aclReferences;
     }
 
     private static List<String> getAclNames(final AclSets acls) {
@@ -65,10 +74,12 @@ public class InterfaceAclCustomizer extends FutureJVppAclCustomizer implements W
         }
     }
 
-    @Override
-    public void writeCurrentAttributes(@Nonnull final InstanceIdentifier<Interface> id,
-                                       @Nonnull final Interface dataAfter,
-                                       @Nonnull final WriteContext writeContext) throws WriteFailedException {
+    void write(@Nonnull final InstanceIdentifier<Interface> id, @Nonnull final Interface dataAfter,
+               @Nonnull final WriteContext writeContext, @Nonnull final AclInterfaceAssignmentBatch batch)
+            throws WriteFailedException {
+        // references are indexed before assignment, so that they are found even if assignment fails half way
+        aclReferences.add(interfaceId(id), AclReferenceIndex.getAclNames(dataAfter));
+
         AclSets egress = dataAfter.getEgress() != null ? dataAfter.getEgress().getAclSets() : null;
         AclSets ingress = dataAfter.getIngress() != null ? dataAfter.getIngress().getAclSets() : null;
         List<String> macIngress = parseMacRules(getAclNames(ingress), writeContext.getMappingContext());
@@ -83,7 +94,7 @@ public class InterfaceAclCustomizer extends FutureJVppAclCustomizer implements W
                     .identifier(id)
                     .inputAclNames(standardIngress)
                     .outputAclNames(standardEgress)
-                    .executeAsCreate(getjVppAclFacade());
+                    .addTo(batch);
         }
         // Process mac ACLs
         if (!macIngress.isEmpty()) {
@@ -91,11 +102,12 @@ public class InterfaceAclCustomizer extends FutureJVppAclCustomizer implements W
         }
     }
 
-    @Override
-    public void updateCurrentAttributes(@Nonnull final InstanceIdentifier<Interface> id,
-                                        @Nonnull final Interface dataBefore,
-                                        @Nonnull final Interface dataAfter, @Nonnull final WriteContext writeContext)
-            throws WriteFailedException {
+    void update(@Nonnull final InstanceIdentifier<Interface> id, @Nonnull final Interface dataBefore,
+                @Nonnull final Interface dataAfter, @Nonnull final WriteContext writeContext,
+                @Nonnull final AclInterfaceAssignmentBatch batch) throws WriteFailedException {
+        final List<String> referencedAfter = AclReferenceIndex.getAclNames(dataAfter);
+        aclReferences.add(interfaceId(id), referencedAfter);
+
         AclSets egress = dataAfter.getEgress() != null ? dataAfter.getEgress().getAclSets() : null;
         AclSets ingress = dataAfter.getIngress() != null ? dataAfter.getIngress().getAclSets() : null;
         List<String> standardIngress = parseStandardRules(getAclNames(ingress), writeContext.getMappingContext());
@@ -108,7 +120,7 @@ public class InterfaceAclCustomizer extends FutureJVppAclCustomizer implements W
                 .identifier(id)
                 .inputAclNames(standardIngress)
                 .outputAclNames(standardEgress)
-                .executeAsUpdate(getjVppAclFacade(), dataBefore, dataAfter);
+                .addTo(batch);
 
         // Process mac ACLs
         AclSets ingressBefore = dataBefore.getIngress() != null ? dataBefore.getIngress().getAclSets() : null;
@@ -126,11 +138,17 @@ public class InterfaceAclCustomizer extends FutureJVppAclCustomizer implements W
         if (!added.isEmpty()) {
             addMacAcls(id, writeContext, added);
         }
+
+        // index compares names ignoring case
+        final Set<String> stillReferenced = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        stillReferenced.addAll(referencedAfter);
+        aclReferences.remove(interfaceId(id), AclReferenceIndex.getAclNames(dataBefore).stream()
+                .filter(aclName -> !stillReferenced.contains(aclName))
+                .collect(toList()));
     }
 
-    @Override
-    public void deleteCurrentAttributes(@Nonnull final InstanceIdentifier<Interface> id,
-                                        @Nonnull final Interface dataBefore, @Nonnull final WriteContext writeContext)
+    void delete(@Nonnull final InstanceIdentifier<Interface> id, @Nonnull final Interface dataBefore,
+                @Nonnull final WriteContext writeContext, @Nonnull final AclInterfaceAssignmentBatch batch)
             throws WriteFailedException {
         AclSets ingress = dataBefore.getIngress() != null ? dataBefore.getIngress().getAclSets() : null;
         List<String> standardIngress = parseStandardRules(getAclNames(ingress), writeContext.getMappingContext());
@@ -142,13 +160,19 @@ public class InterfaceAclCustomizer extends FutureJVppAclCustomizer implements W
                     .standardAclContext(standardAclContext)
                     .interfaceContext(interfaceContext)
                     .identifier(id)
-                    .executeAsDelete(getjVppAclFacade());
+                    .addDeleteTo(batch);
         }
 
         // Process mac ACLs
         if (!macIngress.isEmpty()) {
             deleteMacACLs(id, writeContext, macIngress);
         }
+
+        aclReferences.remove(interfaceId(id), AclReferenceIndex.getAclNames(dataBefore));
+    }
+
+    private static String interfaceId(@Nonnull final InstanceIdentifier<Interface> id) {
+        return id.firstKeyOf(Interface.class).getInterfaceId();
     }
 
     private List<String> parseMacRules(final List<String> ingress, final MappingContext mappingContext) {
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.write;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import io.fd.hc2vpp.acl.AclIIds;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
+import io.fd.honeycomb.translate.write.DataValidationFailedException.CreateValidationFailedException;
+import io.fd.honeycomb.translate.write.DataValidationFailedException.UpdateValidationFailedException;
+import io.fd.honeycomb.translate.write.Validator;
+import io.fd.honeycomb.translate.write.WriteContext;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.Acl;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AclKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPoints;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Rejects references to ACLs removed by the same transaction. {@link AclValidator} checks references using
+ * {@link AclReferenceIndex}, that contains only references that were already written, so references added together
+ * with removal of ACL have to be checked here.
+ */
+public final class InterfaceAclValidator implements Validator<AttachmentPoints> {
+
+    @Override
+    public void validateWrite(@Nonnull final InstanceIdentifier<AttachmentPoints> id,
+                              @Nonnull final AttachmentPoints dataAfter,
+                              @Nonnull final WriteContext writeContext) throws CreateValidationFailedException {
+        try {
+            for (final Interface ifc : AttachmentPointsCustomizer.getInterfaces(dataAfter).values()) {
+                checkNotRemoved(AclReferenceIndex.getAclNames(ifc), writeContext);
+            }
+        } catch (RuntimeException e) {
+            throw new CreateValidationFailedException(id, dataAfter, e);
+        }
+    }
+
+    @Override
+    public void validateUpdate(@Nonnull final InstanceIdentifier<AttachmentPoints> id,
+                               @Nonnull final AttachmentPoints dataBefore,
+                               @Nonnull final AttachmentPoints dataAfter, @Nonnull final WriteContext writeContext)
+            throws UpdateValidationFailedException {
+        try {
+            final Map<InterfaceKey, Interface> interfacesBefore = AttachmentPointsCustomizer.getInterfaces(dataBefore);
+            for (final Interface ifc : AttachmentPointsCustomizer.getInterfaces(dataAfter).values()) {
+                final Set<String> added = new HashSet<>(AclReferenceIndex.getAclNames(ifc));
+                added.removeAll(AclReferenceIndex.getAclNames(interfacesBefore.get(ifc.key())));
+                checkNotRemoved(added, writeContext);
+            }
+        } catch (RuntimeException e) {
+            throw new UpdateValidationFailedException(id, dataBefore, dataAfter, e);
+        }
+    }
+
+    private static void checkNotRemoved(final Collection<String> aclNames, final WriteContext writeContext) {
+        for (final String aclName : aclNames) {
+            final InstanceIdentifier<Acl> aclId = AclIIds.ACLS.child(Acl.class, new AclKey(aclName));
+            checkState(!writeContext.readBefore(aclId).isPresent() || writeContext.readAfter(aclId).isPresent(),
+                    "Acl %s cannot be referenced, it is removed by the same transaction", aclName);
+        }
+    }
+}
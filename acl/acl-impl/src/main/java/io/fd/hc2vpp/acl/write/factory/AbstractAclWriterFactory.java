@@ -20,6 +20,7 @@ import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.fd.hc2vpp.acl.AclModule;
 import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.jvpp.acl.future.FutureJVppAclFacade;
 
@@ -42,4 +43,7 @@ abstract class AbstractAclWriterFactory {
     @Inject
     @Named("interface-context")
     protected NamingContext interfaceContext;
+
+    @Inject
+    protected AclReferenceIndex aclReferences;
 }
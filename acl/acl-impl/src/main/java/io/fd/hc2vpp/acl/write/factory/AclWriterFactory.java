@@ -32,7 +32,7 @@ public class AclWriterFactory extends AbstractAclWriterFactory implements Writer
         registry.subtreeAddBefore(AclIIds.vppAclChildren(AclIIds.ACL),
                 new GenericListWriter<>(AclIIds.ACLS_ACL,
                         new AclCustomizer(futureAclFacade, standardAclContext, macIpAclContext),
-                        new AclValidator()
+                        new AclValidator(aclReferences)
                 ),
                 AclIIds.aclHandledChildren(AclIIds.IFC_ACL));
     }
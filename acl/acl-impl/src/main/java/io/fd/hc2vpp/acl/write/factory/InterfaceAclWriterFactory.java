@@ -18,7 +18,9 @@ package io.fd.hc2vpp.acl.write.factory;
 
 import com.google.common.collect.ImmutableSet;
 import io.fd.hc2vpp.acl.AclIIds;
+import io.fd.hc2vpp.acl.write.AttachmentPointsCustomizer;
 import io.fd.hc2vpp.acl.write.InterfaceAclCustomizer;
+import io.fd.hc2vpp.acl.write.InterfaceAclValidator;
 import io.fd.honeycomb.translate.impl.write.GenericWriter;
 import io.fd.honeycomb.translate.write.WriterFactory;
 import io.fd.honeycomb.translate.write.registry.ModifiableWriterRegistryBuilder;
@@ -30,10 +32,13 @@ public class InterfaceAclWriterFactory extends AbstractAclWriterFactory implemen
 
     @Override
     public void init(@Nonnull final ModifiableWriterRegistryBuilder registry) {
-        registry.subtreeAddAfter(AclIIds.aclHandledChildren(AclIIds.IFC_ACL),
-                new GenericWriter<>(AclIIds.ACLS_AP_INT,
-                        new InterfaceAclCustomizer(futureAclFacade, interfaceContext, standardAclContext,
-                                macIpAclContext)),
+        // whole attachment points are handled by single writer, so that acl assignments are batched per transaction
+        registry.subtreeAddAfter(AclIIds.attachmentPointsHandledChildren(),
+                new GenericWriter<>(AclIIds.ACLS_AP,
+                        new AttachmentPointsCustomizer(futureAclFacade,
+                                new InterfaceAclCustomizer(futureAclFacade, interfaceContext, standardAclContext,
+                                        macIpAclContext, aclReferences)),
+                        new InterfaceAclValidator()),
                 aclRequiredIids());
     }
 
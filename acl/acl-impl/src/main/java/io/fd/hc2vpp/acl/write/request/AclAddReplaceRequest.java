@@ -29,14 +29,19 @@ import io.fd.jvpp.acl.dto.MacipAclAdd;
 import io.fd.jvpp.acl.dto.MacipAclAddReply;
 import io.fd.jvpp.acl.dto.MacipAclDel;
 import io.fd.jvpp.acl.future.FutureJVppAclFacade;
+import io.fd.jvpp.acl.types.AclRule;
 import java.util.List;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.Acl;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class AclAddReplaceRequest implements AclDataExtractor, AceConverter, JvppReplyConsumer {
 
+    private static final Logger LOG = LoggerFactory.getLogger(AclAddReplaceRequest.class);
+
     int ACL_INDEX_CREATE_NEW = -1;
     private final FutureJVppAclFacade futureFacade;
     private final MappingContext mappingContext;
@@ -49,7 +54,8 @@ public class AclAddReplaceRequest implements AclDataExtractor, AceConverter, Jvp
 
 
     public void addStandardAcl(@Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
-                               @Nonnull final AclContextManager standardAclContext) throws WriteFailedException {
+                               @Nonnull final AclContextManager standardAclContext,
+                               @Nonnull final ProgrammedStandardAcls programmedAcls) throws WriteFailedException {
 
         final AclAddReplace request = new AclAddReplace();
 
@@ -63,13 +69,15 @@ public class AclAddReplaceRequest implements AclDataExtractor, AceConverter, Jvp
         final AclAddReplaceReply reply =
                 getReplyForWrite(futureFacade.aclAddReplace(request).toCompletableFuture(), id);
 
+        programmedAcls.programmed(reply.aclIndex, request.tag, aces, request.r);
         // maps new acl to returned index
         standardAclContext.addAcl(reply.aclIndex, acl.getName(), aces, mappingContext);
     }
 
     // according to vpp team, this was tested extensively, and should work
     public void updateStandardAcl(@Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
-                                  @Nonnull final AclContextManager standardAclContext) throws WriteFailedException {
+                                  @Nonnull final AclContextManager standardAclContext,
+                                  @Nonnull final ProgrammedStandardAcls programmedAcls) throws WriteFailedException {
 
         final AclAddReplace request = new AclAddReplace();
 
@@ -78,18 +86,26 @@ public class AclAddReplaceRequest implements AclDataExtractor, AceConverter, Jvp
         request.aclIndex = standardAclContext.getAclIndex(acl.getName(), mappingContext);
 
         final List<Ace> aces = getAces(acl);
-        request.r = toStandardAclRules(aces);
+        // rules of unchanged aces are reused, only changed aces are converted (cached and in parallel if many)
+        final AclRule[] rules = programmedAcls.toRules(request.aclIndex, aces, this::toStandardAclRules);
+        request.r = rules;
         request.count = request.r.length;
 
-        final AclAddReplaceReply reply =
-                getReplyForWrite(futureFacade.aclAddReplace(request).toCompletableFuture(), id);
+        if (programmedAcls.isProgrammed(request.aclIndex, request.tag, rules)) {
+            // replacing acl with the same rules would only make vpp rebuild its lookup tables
+            LOG.debug("Rules of acl {} were not changed, skipping acl update", id);
+        } else {
+            getReplyForWrite(futureFacade.aclAddReplace(request).toCompletableFuture(), id);
+            programmedAcls.programmed(request.aclIndex, request.tag, aces, rules);
+        }
 
         // overwrites existing acl metadata (aces might have been changed):
-        standardAclContext.addAcl(reply.aclIndex, acl.getName(), aces, mappingContext);
+        standardAclContext.addAcl(request.aclIndex, acl.getName(), aces, mappingContext);
     }
 
     public void deleteStandardAcl(@Nonnull final InstanceIdentifier<Acl> id, @Nonnull final Acl acl,
-                                  @Nonnull final AclContextManager standardAclContext) throws WriteFailedException {
+                                  @Nonnull final AclContextManager standardAclContext,
+                                  @Nonnull final ProgrammedStandardAcls programmedAcls) throws WriteFailedException {
 
         final AclDel request = new AclDel();
         final String aclName = acl.getName();
@@ -98,6 +114,7 @@ public class AclAddReplaceRequest implements AclDataExtractor, AceConverter, Jvp
         getReplyForDelete(futureFacade.aclDel(request).toCompletableFuture(), id);
 
         // removes mapping after successful delete
+        programmedAcls.removed(request.aclIndex);
         standardAclContext.removeAcl(aclName, mappingContext);
     }
 
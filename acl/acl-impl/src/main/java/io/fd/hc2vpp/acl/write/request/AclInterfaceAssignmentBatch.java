@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.write.request;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.hc2vpp.common.translate.util.JvppRequestPipeline;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.acl.dto.AclInterfaceSetAclList;
+import io.fd.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects acl_interface_set_acl_list requests of single write transaction, and sends them at once.
+ *
+ * <p/>Request replaces complete list of ACLs assigned to interface, so only last request for each sw_if_index is
+ * sent. Requests for different interfaces do not depend on each other, so they are sent using
+ * {@link JvppRequestPipeline}, without waiting for reply of previous request. Failure is reported for identifier of
+ * interface the failed request was added for.
+ */
+@NotThreadSafe
+public final class AclInterfaceAssignmentBatch {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AclInterfaceAssignmentBatch.class);
+
+    private final int window;
+    private final Map<Integer, Assignment> assignments = new LinkedHashMap<>();
+
+    public AclInterfaceAssignmentBatch() {
+        this(JvppRequestPipeline.DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window maximum number of requests waiting for reply
+     */
+    public AclInterfaceAssignmentBatch(final int window) {
+        checkArgument(window > 0, "Window has to be positive, but was %s", window);
+        this.window = window;
+    }
+
+    void add(@Nonnull final InstanceIdentifier<Interface> identifier,
+             @Nonnull final AclInterfaceSetAclList request) {
+        final Assignment previous = assignments.put(request.swIfIndex, new Assignment(identifier, request));
+        if (previous != null) {
+            LOG.debug("Acl interface assignment for {} replaced by assignment for {}", previous.identifier,
+                    identifier);
+        }
+    }
+
+    public boolean isEmpty() {
+        return assignments.isEmpty();
+    }
+
+    /**
+     * Sends all collected requests and waits for their replies. Batch is empty afterwards, even if some of requests
+     * failed.
+     *
+     * @throws WriteFailedException failure of first failed request, reported for its interface identifier
+     */
+    public void execute(@Nonnull final FutureJVppAclFacade api) throws WriteFailedException {
+        if (assignments.isEmpty()) {
+            return;
+        }
+        LOG.debug("Executing {} acl interface assignment requests", assignments.size());
+        final JvppRequestPipeline pipeline = new JvppRequestPipeline(window);
+        try {
+            for (final Assignment assignment : assignments.values()) {
+                pipeline.submit(assignment.identifier, () -> api.aclInterfaceSetAclList(assignment.request));
+            }
+            pipeline.join();
+        } finally {
+            assignments.clear();
+        }
+        LOG.debug("Acl interface assignment requests successfully passed");
+    }
+
+    private static final class Assignment {
+        private final InstanceIdentifier<Interface> identifier;
+        private final AclInterfaceSetAclList request;
+
+        private Assignment(final InstanceIdentifier<Interface> identifier, final AclInterfaceSetAclList request) {
+            this.identifier = identifier;
+            this.request = request;
+        }
+    }
+}
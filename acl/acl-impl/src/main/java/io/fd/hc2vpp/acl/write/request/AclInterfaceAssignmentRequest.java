@@ -21,13 +21,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableList;
 import io.fd.hc2vpp.acl.util.AclContextManager;
-import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
-import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.acl.dto.AclInterfaceSetAclList;
-import io.fd.jvpp.acl.future.FutureJVppAclFacade;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
@@ -40,7 +36,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Multi-assignment single-request taking advantage from acl_interface_set_acl_list api
  */
-public class AclInterfaceAssignmentRequest implements JvppReplyConsumer, ByteDataTranslator {
+public class AclInterfaceAssignmentRequest {
 
     private static final Logger LOG = LoggerFactory.getLogger(AclInterfaceAssignmentRequest.class);
 
@@ -95,65 +91,32 @@ public class AclInterfaceAssignmentRequest implements JvppReplyConsumer, ByteDat
         checkNotNull(interfaceContext, "Interface context cannot be null");
     }
 
-    public void executeAsCreate(@Nonnull final FutureJVppAclFacade api) throws WriteFailedException {
+    /**
+     * Adds request assigning ACLs to interface to batch. Request is sent by
+     * {@link AclInterfaceAssignmentBatch#execute}, together with requests for other interfaces.
+     */
+    public void addTo(@Nonnull final AclInterfaceAssignmentBatch batch) {
         checkValidRequest();
         final String interfaceName = identifier.firstKeyOf(Interface.class).getInterfaceId();
 
-        // locking on mapping context, to prevent modifying of mappings (for both contexts) during binding/execution of request
+        // mappings are needed only to create request, lock is not held while waiting for reply
         synchronized (mappingContext) {
-            LOG.debug(
-                    "Executing acl interface assignment write request for interface={}, input ACL's={},output ACL's={}",
-                    interfaceName, inputAclNames, outputAclNames);
-
-            getReplyForWrite(api.aclInterfaceSetAclList(createRequest(interfaceName)).toCompletableFuture(),
-                    identifier);
-            LOG.debug(
-                    "Acl interface assignment write request for interface={}, input ACL's={},output ACL's={} successfully passed",
+            LOG.debug("Adding acl interface assignment for interface={}, input ACL's={},output ACL's={} to batch",
                     interfaceName, inputAclNames, outputAclNames);
+            batch.add(identifier, createRequest(interfaceName));
         }
     }
 
-    public void executeAsUpdate(@Nonnull final FutureJVppAclFacade api,
-                                final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface before,
-                                final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface after)
-            throws WriteFailedException {
-        checkValidRequest();
-        final String interfaceName = identifier.firstKeyOf(Interface.class).getInterfaceId();
-
-        // locking on mapping context, to prevent modifying of mappings (for both contexts) during binding/execution of request
-        synchronized (mappingContext) {
-            LOG.debug(
-                    "Executing acl interface assignment update request for interface={}, input ACL's={},output ACL's={}",
-                    interfaceName, inputAclNames, outputAclNames);
-
-            getReplyForUpdate(api.aclInterfaceSetAclList(createRequest(interfaceName)).toCompletableFuture(),
-                    identifier, before, after);
-            LOG.debug(
-                    "Acl interface assignment update request for interface={}, input ACL's={},output ACL's={} successfully passed",
-                    interfaceName, inputAclNames, outputAclNames);
-        }
-    }
-
-    public void executeAsDelete(@Nonnull final FutureJVppAclFacade api) throws WriteFailedException {
-        checkValidRequest();
-        final String interfaceName = identifier.firstKeyOf(Interface.class).getInterfaceId();
-
-        // locking on mapping context, to prevent modifying of mappings (for both contexts) during binding/execution of request
-        synchronized (mappingContext) {
-            LOG.debug(
-                    "Executing acl interface assignment delete request for interface={}, input ACL's={},output ACL's={}",
-                    interfaceName, inputAclNames, outputAclNames);
-
-            // remove all ACLs, just in case they were set by AclInterfaceAssignmentRequest user
-            inputAclNames = Collections.emptyList();
-            outputAclNames = Collections.emptyList();
-
-            getReplyForDelete(api.aclInterfaceSetAclList(createRequest(interfaceName)).toCompletableFuture(),
-                    identifier);
-            LOG.debug(
-                    "Acl interface assignment delete request for interface={}, input ACL's={},output ACL's={} successfully passed",
-                    interfaceName, inputAclNames, outputAclNames);
-        }
+    /**
+     * Adds request removing all ACLs from interface to batch.
+     *
+     * @see #addTo(AclInterfaceAssignmentBatch)
+     */
+    public void addDeleteTo(@Nonnull final AclInterfaceAssignmentBatch batch) {
+        // remove all ACLs, just in case they were set by AclInterfaceAssignmentRequest user
+        inputAclNames = Collections.emptyList();
+        outputAclNames = Collections.emptyList();
+        addTo(batch);
     }
 
     // synchronized on higher layer
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.write.request;
+
+import io.fd.jvpp.acl.types.AclRule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
+
+/**
+ * Keeps rules of standard ACLs as they were last programmed to VPP, keyed by ACL index. Allows updates of ACL to
+ * reuse rules of unchanged ACEs and to skip VPP call completely, if neither rules nor tag were changed.
+ *
+ * <p/>Aces without matches are not converted to rules, so they are skipped the same way as by
+ * {@link io.fd.hc2vpp.acl.util.ace.AceConverter#toStandardAclRules(List)}.
+ */
+@ThreadSafe
+public final class ProgrammedStandardAcls {
+
+    private final Map<Integer, ProgrammedAcl> acls = new ConcurrentHashMap<>();
+
+    /**
+     * Converts aces to rules. Rules of aces that are equal to aces last programmed under the same name are reused.
+     * Changed aces are converted by single call of provided converter, so they can be converted in bulk.
+     *
+     * @param aclIndex  index of updated ACL
+     * @param aces      aces of ACL
+     * @param converter converts aces that were changed, returning one rule per ace in the same order, e.g.
+     *                  {@link io.fd.hc2vpp.acl.util.ace.AceConverter#toStandardAclRules(List)}
+     * @return rules for all aces with matches
+     */
+    @Nonnull
+    AclRule[] toRules(final int aclIndex, @Nonnull final List<Ace> aces,
+                      @Nonnull final Function<List<Ace>, AclRule[]> converter) {
+        final ProgrammedAcl programmed = acls.get(aclIndex);
+        final List<AclRule> rules = new ArrayList<>(aces.size());
+        final List<Ace> changed = new ArrayList<>();
+        final List<Integer> changedPositions = new ArrayList<>();
+        for (final Ace ace : aces) {
+            if (hasMatches(ace)) {
+                final AclRule reused = programmed == null
+                    ? null
+                    : programmed.getRule(ace);
+                if (reused == null) {
+                    changed.add(ace);
+                    changedPositions.add(rules.size());
+                }
+                rules.add(reused);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            final AclRule[] converted = converter.apply(changed);
+            for (int i = 0; i < converted.length; i++) {
+                rules.set(changedPositions.get(i), converted[i]);
+            }
+        }
+        return rules.toArray(new AclRule[0]);
+    }
+
+    /**
+     * @return true if ACL with provided index was last programmed with the same tag and rules
+     */
+    boolean isProgrammed(final int aclIndex, @Nonnull final byte[] tag, @Nonnull final AclRule[] rules) {
+        final ProgrammedAcl programmed = acls.get(aclIndex);
+        return programmed != null && Arrays.equals(programmed.tag, tag) && Arrays.equals(programmed.rules, rules);
+    }
+
+    /**
+     * Records rules successfully programmed to VPP.
+     *
+     * @param aces  aces rules were converted from
+     * @param rules rules as returned by {@link #toRules(int, List, Function)} or
+     *              {@link io.fd.hc2vpp.acl.util.ace.AceConverter#toStandardAclRules(List)}
+     */
+    void programmed(final int aclIndex, @Nonnull final byte[] tag, @Nonnull final List<Ace> aces,
+                    @Nonnull final AclRule[] rules) {
+        final Map<String, ProgrammedAce> byName = new HashMap<>(aces.size() * 2);
+        int ruleIndex = 0;
+        for (final Ace ace : aces) {
+            if (hasMatches(ace) && ruleIndex < rules.length) {
+                byName.put(ace.getName(), new ProgrammedAce(ace, rules[ruleIndex++]));
+            }
+        }
+        acls.put(aclIndex, new ProgrammedAcl(tag, rules, byName));
+    }
+
+    /**
+     * Forgets rules of ACL, e.g. after it was removed from VPP.
+     */
+    void removed(final int aclIndex) {
+        acls.remove(aclIndex);
+    }
+
+    private static boolean hasMatches(final Ace ace) {
+        return ace.getMatches() != null;
+    }
+
+    private static final class ProgrammedAcl {
+        private final byte[] tag;
+        private final AclRule[] rules;
+        private final Map<String, ProgrammedAce> aces;
+
+        private ProgrammedAcl(final byte[] tag, final AclRule[] rules, final Map<String, ProgrammedAce> aces) {
+            this.tag = tag;
+            this.rules = rules;
+            this.aces = aces;
+        }
+
+        @Nullable
+        private AclRule getRule(final Ace ace) {
+            final ProgrammedAce programmed = aces.get(ace.getName());
+            return programmed != null && programmed.ace.equals(ace)
+                ? programmed.rule
+                : null;
+        }
+    }
+
+    private static final class ProgrammedAce {
+        private final Ace ace;
+        private final AclRule rule;
+
+        private ProgrammedAce(final Ace ace, final AclRule rule) {
+            this.ace = ace;
+            this.rule = rule;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.VppAclContextAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.VppAclMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContext;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.AceBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+
+public class AclContextManagerImplTest {
+
+    private static final String ACL_NAME = "acl-1";
+    private static final String ACE_1 = "ace-1";
+    private static final String ACE_2 = "ace-2";
+
+    @Mock
+    private MappingContext mappingContext;
+
+    private AclContextManagerImpl aclContext;
+    private InstanceIdentifier<VppAclContext> ctxIid;
+    private AceMapping ace1;
+    private AceMapping ace2;
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+        aclContext = new AclContextManagerImpl("prefix-", "context");
+        ctxIid = InstanceIdentifier.create(Contexts.class)
+                .augmentation(VppAclContextAugmentation.class).child(VppAclMappings.class)
+                .child(VppAclContext.class, new VppAclContextKey("context"));
+
+        ace1 = new AceMappingBuilder().setIndex(0).setName(ACE_1).build();
+        ace2 = new AceMappingBuilder().setIndex(1).setName(ACE_2).build();
+        final AclMapping acl = new AclMappingBuilder().setIndex(4).setName(ACL_NAME)
+                .setAceMapping(Lists.newArrayList(ace1, ace2)).build();
+        when(mappingContext.read(ctxIid))
+                .thenReturn(Optional.of(new VppAclContextBuilder().setAclMapping(Lists.newArrayList(acl)).build()));
+        when(mappingContext.read(aclIid(ACL_NAME))).thenReturn(Optional.of(acl));
+        when(mappingContext.read(aceIid(ACE_1))).thenReturn(Optional.of(ace1));
+        when(mappingContext.read(aceIid(ACE_2))).thenReturn(Optional.of(ace2));
+        when(mappingContext.read(aceIid("prefix-rule2"))).thenReturn(Optional.empty());
+        when(mappingContext.read(aclIid("prefix-5"))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void testGetAclNameLoadsContextOnce() {
+        assertEquals(ACL_NAME, aclContext.getAclName(4, mappingContext));
+        assertEquals(ACL_NAME, aclContext.getAclName(4, mappingContext));
+        verify(mappingContext, times(1)).read(ctxIid);
+        verify(mappingContext, never()).put(any(), any());
+    }
+
+    @Test
+    public void testGetAclNameAddsArtificialName() {
+        assertEquals("prefix-5", aclContext.getAclName(5, mappingContext));
+        verify(mappingContext).put(aclIid("prefix-5"), new AclMappingBuilder().setIndex(5).setName("prefix-5")
+                .setAceMapping(Lists.newArrayList()).build());
+    }
+
+    @Test
+    public void testGetAceNameLoadsAclMappingOnce() {
+        assertEquals(ACE_1, aclContext.getAceName(ACL_NAME, 0, mappingContext));
+        assertEquals(ACE_2, aclContext.getAceName(ACL_NAME, 1, mappingContext));
+        assertEquals(ACE_1, aclContext.getAceName(ACL_NAME, 0, mappingContext));
+        verify(mappingContext, times(1)).read(aclIid(ACL_NAME));
+        verify(mappingContext, never()).put(any(), any());
+    }
+
+    @Test
+    public void testGetAceNameAddsArtificialName() {
+        assertEquals("prefix-rule2", aclContext.getAceName(ACL_NAME, 2, mappingContext));
+        verify(mappingContext)
+                .put(aceIid("prefix-rule2"), new AceMappingBuilder().setIndex(2).setName("prefix-rule2").build());
+    }
+
+    @Test
+    public void testStaleAceNotReturned() {
+        assertEquals(ACE_2, aclContext.getAceName(ACL_NAME, 1, mappingContext));
+        // ace mapping was overwritten by transaction, that was not committed
+        when(mappingContext.read(aceIid(ACE_2))).thenReturn(Optional.empty());
+        assertEquals("prefix-rule1", aclContext.getAceName(ACL_NAME, 1, mappingContext));
+    }
+
+    @Test
+    public void testUncommittedAclKeptByConcurrentRead() {
+        final MappingContext writeContext = mock(MappingContext.class);
+        aclContext.addAcl(7, "acl-7", Collections.emptyList(), writeContext);
+
+        // concurrent read loads index from context data without uncommitted mapping
+        when(mappingContext.read(aclIid("acl-7"))).thenReturn(Optional.empty());
+        assertEquals(ACL_NAME, aclContext.getAclName(4, mappingContext));
+        assertFalse(aclContext.containsAcl("acl-7", mappingContext));
+
+        // write committed, index entry is still present
+        when(mappingContext.read(aclIid("acl-7"))).thenReturn(Optional.of(
+                new AclMappingBuilder().setIndex(7).setName("acl-7").setAceMapping(Lists.newArrayList()).build()));
+        assertEquals("acl-7", aclContext.getAclName(7, mappingContext));
+        verify(mappingContext, never()).put(any(), any());
+    }
+
+    @Test
+    public void testUncommittedAceResolvedAfterCommit() {
+        final MappingContext writeContext = mock(MappingContext.class);
+        aclContext.addAcl(4, ACL_NAME, Lists.newArrayList(new AceBuilder().setName("ace-3").build()), writeContext);
+
+        // concurrent read does not see new ace mapping, index is reloaded from its context data
+        when(mappingContext.read(aceIid("ace-3"))).thenReturn(Optional.empty());
+        assertEquals(ACE_1, aclContext.getAceName(ACL_NAME, 0, mappingContext));
+
+        // write committed
+        final AceMapping ace3 = new AceMappingBuilder().setIndex(0).setName("ace-3").build();
+        when(mappingContext.read(aceIid("ace-3"))).thenReturn(Optional.of(ace3));
+        when(mappingContext.read(aceIid(ACE_1))).thenReturn(Optional.empty());
+        when(mappingContext.read(aclIid(ACL_NAME))).thenReturn(Optional.of(new AclMappingBuilder().setIndex(4)
+                .setName(ACL_NAME).setAceMapping(Lists.newArrayList(ace3)).build()));
+        assertEquals("ace-3", aclContext.getAceName(ACL_NAME, 0, mappingContext));
+        verify(mappingContext, never()).put(any(), any());
+    }
+
+    @Test
+    public void testRemoveAclInvalidatesMisses() {
+        assertEquals(ACL_NAME, aclContext.getAclName(4, mappingContext));
+        aclContext.removeAcl(ACL_NAME, mappingContext);
+        verify(mappingContext).delete(aclIid(ACL_NAME));
+
+        // removal reverted, mapping still present in context data
+        assertEquals(ACL_NAME, aclContext.getAclName(4, mappingContext));
+        assertEquals(ACE_1, aclContext.getAceName(ACL_NAME, 0, mappingContext));
+        verify(mappingContext, never()).put(any(), any());
+    }
+
+    private KeyedInstanceIdentifier<AclMapping, AclMappingKey> aclIid(final String name) {
+        return ctxIid.child(AclMapping.class, new AclMappingKey(name));
+    }
+
+    private KeyedInstanceIdentifier<AceMapping, AceMappingKey> aceIid(final String name) {
+        return aclIid(ACL_NAME).child(AceMapping.class, new AceMappingKey(name));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.util.ace;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import io.fd.jvpp.acl.types.AclRule;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.Accept;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.AceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.ActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.MatchesBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.Ipv4Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.packet.fields.rev181001.acl.ipv4.header.fields.source.network.SourceIpv4NetworkBuilder;
+
+public class AceConverterTest implements AceConverter {
+
+    @Test
+    public void testAcesWithoutMatchesSkipped() {
+        final AclRule[] rules = toStandardAclRules(
+                Arrays.asList(ace("ace-1", 1), new AceBuilder().setName("ace-2").build(), ace("ace-3", 3)));
+        // array is not padded by nulls for skipped aces
+        assertEquals(2, rules.length);
+        assertArrayEquals(new byte[] {10, 0, 0, 1}, rules[0].srcIpAddr);
+        assertArrayEquals(new byte[] {10, 0, 0, 3}, rules[1].srcIpAddr);
+    }
+
+    @Test
+    public void testRuleCachedByContent() {
+        final AclRule rule = toStandardAclRules(Arrays.asList(ace("ace-1", 1)))[0];
+        // ace name is not part of the rule
+        assertSame(rule, toStandardAclRules(Arrays.asList(ace("renamed", 1)))[0]);
+        assertNotSame(rule, toStandardAclRules(Arrays.asList(ace("ace-1", 2)))[0]);
+    }
+
+    @Test
+    public void testParallelConversionKeepsOrder() {
+        final int size = AceRuleConversions.PARALLEL_CONVERSION_THRESHOLD * 2;
+        final List<Ace> aces = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            aces.add(ace("ace-" + i, i));
+        }
+
+        final AclRule[] rules = toStandardAclRules(aces);
+        assertEquals(size, rules.length);
+        for (int i = 0; i < size; i++) {
+            assertArrayEquals(new byte[] {10, 0, (byte) (i >> 8), (byte) i}, rules[i].srcIpAddr);
+        }
+    }
+
+    private static Ace ace(final String name, final int host) {
+        final Ipv4Prefix source = new Ipv4Prefix("10.0." + (host >> 8) + "." + (host & 0xff) + "/32");
+        return new AceBuilder()
+                .setName(name)
+                .setMatches(new MatchesBuilder().setL3(new Ipv4Builder().setIpv4(
+                        new org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.ace.matches.l3.ipv4.Ipv4Builder()
+                                .setSourceNetwork(new SourceIpv4NetworkBuilder().setSourceIpv4Network(source).build())
+                                .build()).build()).build())
+                .setActions(new ActionsBuilder().setForwarding(Accept.class).build())
+                .build();
+    }
+}
@@ -29,6 +29,7 @@ import static org.mockito.MockitoAnnotations.initMocks;
 import com.google.common.collect.ImmutableList;
 import io.fd.hc2vpp.acl.AclIIds;
 import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.write.request.AclInterfaceAssignmentBatch;
 import io.fd.hc2vpp.acl.write.request.AclInterfaceAssignmentRequest;
 import io.fd.hc2vpp.common.test.util.FutureProducer;
 import io.fd.hc2vpp.common.test.util.NamingContextHelper;
@@ -39,6 +40,7 @@ import io.fd.jvpp.acl.dto.AclInterfaceSetAclList;
 import io.fd.jvpp.acl.dto.AclInterfaceSetAclListReply;
 import io.fd.jvpp.acl.future.FutureJVppAclFacade;
 import java.util.Arrays;
+import java.util.function.Consumer;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -116,7 +118,7 @@ public class AclInterfaceAssignmentRequestTest implements NamingContextHelper, F
 
     @Test
     public void executeAsCreate() throws Exception {
-        createValidRequest().executeAsCreate(api);
+        execute(createValidRequest()::addTo);
 
         verify(api).aclInterfaceSetAclList(requestCaptor.capture());
         verifyValidRequest(requestCaptor.getValue());
@@ -124,11 +126,10 @@ public class AclInterfaceAssignmentRequestTest implements NamingContextHelper, F
 
     @Test
     public void executeAsDelete() throws Exception {
-        create(mappingContext)
+        execute(create(mappingContext)
             .identifier(validIdentifier)
             .standardAclContext(aclContext)
-            .interfaceContext(interfaceContext)
-            .executeAsDelete(api);
+            .interfaceContext(interfaceContext)::addDeleteTo);
 
         verify(api).aclInterfaceSetAclList(requestCaptor.capture());
         final AclInterfaceSetAclList request = requestCaptor.getValue();
@@ -140,7 +141,7 @@ public class AclInterfaceAssignmentRequestTest implements NamingContextHelper, F
 
     @Test
     public void executeAsDeleteWithAclNames() throws Exception {
-        createValidRequest().executeAsDelete(api);
+        execute(createValidRequest()::addDeleteTo);
 
         verify(api).aclInterfaceSetAclList(requestCaptor.capture());
         final AclInterfaceSetAclList request = requestCaptor.getValue();
@@ -150,6 +151,12 @@ public class AclInterfaceAssignmentRequestTest implements NamingContextHelper, F
         assertTrue(Arrays.equals(new int[]{}, request.acls));
     }
 
+    private void execute(final Consumer<AclInterfaceAssignmentBatch> request) throws WriteFailedException {
+        final AclInterfaceAssignmentBatch batch = new AclInterfaceAssignmentBatch();
+        request.accept(batch);
+        batch.execute(api);
+    }
+
     private AclInterfaceAssignmentRequest createValidRequest() {
         return create(mappingContext)
                 .identifier(validIdentifier)
@@ -170,7 +177,7 @@ public class AclInterfaceAssignmentRequestTest implements NamingContextHelper, F
     private void verifyCreateFailsWithNullPointer(final AclInterfaceAssignmentRequest request)
             throws WriteFailedException {
         try {
-            request.executeAsCreate(api);
+            execute(request::addTo);
         } catch (NullPointerException e) {
             return;
         }
@@ -180,7 +187,7 @@ public class AclInterfaceAssignmentRequestTest implements NamingContextHelper, F
     private void verifyDeleteFailsWithNullPointer(final AclInterfaceAssignmentRequest request)
             throws WriteFailedException {
         try {
-            request.executeAsCreate(api);
+            execute(request::addDeleteTo);
         } catch (NullPointerException e) {
             return;
         }
@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.acl.write;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -42,13 +43,17 @@ import io.fd.jvpp.acl.types.AclRule;
 import io.fd.jvpp.acl.types.MacipAclRule;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.rev181022.VppAclAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.rev181022.VppAclAugmentationBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.Acls;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.Acl;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AclBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AclKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.Interfaces;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -179,6 +184,52 @@ public class AclCustomizerTest extends WriterCustomizerTest implements AclTestSc
         verifyTcpRequest(aclIndex);
     }
 
+    @Test
+    public void updateCurrentAttributesUnchangedRules(
+            @InjectTestData(resourcePath = "/acl/standard/standard-acl-tcp.json") Acls standardAcls) throws Exception {
+        final int aclIndex = 4;
+        when(standardAclContext.getAclIndex("standard-acl", mappingContext)).thenReturn(aclIndex);
+        final Acl data = standardAcls.getAcl().get(0);
+        aclCustomizer.updateCurrentAttributes(validId, data, data, writeContext);
+        aclCustomizer.updateCurrentAttributes(validId, data, data, writeContext);
+
+        // rules were already programmed by first update
+        verify(aclApi, times(1)).aclAddReplace(aclAddReplaceRequestCaptor.capture());
+        verifyTcpRequest(aclIndex);
+    }
+
+    @Test
+    public void updateCurrentAttributesTagChanged(
+            @InjectTestData(resourcePath = "/acl/standard/standard-acl-tcp.json") Acls standardAcls) throws Exception {
+        final int aclIndex = 4;
+        when(standardAclContext.getAclIndex("standard-acl", mappingContext)).thenReturn(aclIndex);
+        final Acl data = standardAcls.getAcl().get(0);
+        final Acl retagged = new AclBuilder(data)
+                .addAugmentation(VppAclAugmentation.class, new VppAclAugmentationBuilder().setTag("changed").build())
+                .build();
+        aclCustomizer.updateCurrentAttributes(validId, data, data, writeContext);
+        aclCustomizer.updateCurrentAttributes(validId, data, retagged, writeContext);
+
+        verify(aclApi, times(2)).aclAddReplace(aclAddReplaceRequestCaptor.capture());
+        final List<AclAddReplace> requests = aclAddReplaceRequestCaptor.getAllValues();
+        assertEquals("changed", new String(requests.get(1).tag, StandardCharsets.US_ASCII));
+        // ace was not changed, so its rule is reused
+        assertSame(requests.get(0).r[0], requests.get(1).r[0]);
+    }
+
+    @Test
+    public void updateCurrentAttributesAfterDelete(
+            @InjectTestData(resourcePath = "/acl/standard/standard-acl-tcp.json") Acls standardAcls) throws Exception {
+        final int aclIndex = 4;
+        when(standardAclContext.getAclIndex("standard-acl", mappingContext)).thenReturn(aclIndex);
+        final Acl data = standardAcls.getAcl().get(0);
+        aclCustomizer.updateCurrentAttributes(validId, data, data, writeContext);
+        aclCustomizer.deleteCurrentAttributes(validId, data, writeContext);
+        aclCustomizer.updateCurrentAttributes(validId, data, data, writeContext);
+
+        verify(aclApi, times(2)).aclAddReplace(aclAddReplaceRequestCaptor.capture());
+    }
+
     @Test
     public void updateCurrentAttributesTcpSrcOnly(
             @InjectTestData(resourcePath = "/acl/standard/standard-acl-tcp-src-only.json")
@@ -16,7 +16,6 @@
 
 package io.fd.hc2vpp.acl.write;
 
-import static io.fd.hc2vpp.acl.write.AclValidator.checkAclReferenced;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
@@ -26,6 +25,7 @@ import static org.mockito.MockitoAnnotations.initMocks;
 import java.util.Optional;
 import io.fd.hc2vpp.acl.AclIIds;
 import io.fd.hc2vpp.acl.AclTestSchemaContext;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
 import io.fd.honeycomb.test.tools.HoneycombTestRunner;
 import io.fd.honeycomb.test.tools.annotations.InjectTestData;
 import io.fd.honeycomb.translate.write.DataValidationFailedException;
@@ -43,7 +43,8 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.cont
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AclBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AclKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPoints;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPointsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceKey;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 @RunWith(HoneycombTestRunner.class)
@@ -58,13 +59,23 @@ public class AclValidatorTest implements AclTestSchemaContext {
     @Mock
     private WriteContext writeContext;
 
+    private AclReferenceIndex aclReferences;
     private AclValidator validator;
 
     @Before
     public void init(){
         initMocks(this);
-        when(writeContext.readAfter(AclIIds.ACLS_AP)).thenReturn(Optional.of(attachmentPoints));
-        validator = new AclValidator();
+        aclReferences = new AclReferenceIndex();
+        validator = new AclValidator(aclReferences);
+        writeReferences(attachmentPoints);
+    }
+
+    private void writeReferences(final AttachmentPoints references) {
+        for (final Interface ifc : references.getInterface()) {
+            aclReferences.add(ifc.getInterfaceId(), AclReferenceIndex.getAclNames(ifc));
+            when(writeContext.readAfter(AclIIds.ACLS_AP.child(Interface.class, new InterfaceKey(ifc.getInterfaceId()))))
+                    .thenReturn(Optional.of(ifc));
+        }
     }
 
     @Test
@@ -110,14 +121,34 @@ public class AclValidatorTest implements AclTestSchemaContext {
             @InjectTestData(id = "/ietf-access-control-list:acls/ietf-access-control-list:attachment-points",
                     resourcePath = "/acl/standard/interface-ref-acl-udp.json")
                     AttachmentPoints references) throws Exception {
-        when(writeContext.readAfter(AclIIds.ACLS_AP)).thenReturn(
-                Optional.of(new AttachmentPointsBuilder().setInterface(references.getInterface()).build()));
+        writeReferences(references);
         validator.validateDelete(ID, standardAcls.getAcl().get(0), writeContext);
     }
 
+    @Test
+    public void testReferenceNotWrittenByCustomizer() {
+        // e.g. attachment points restored from operational data after restart
+        validator = new AclValidator(new AclReferenceIndex());
+        when(writeContext.readBefore(AclIIds.ACLS_AP)).thenReturn(Optional.of(attachmentPoints));
+        final List<String> referenced = validator.checkAclReferenced(writeContext, new AclBuilder()
+                .setName("acl1").setType(VppAcl.class).build());
+        assertThat(referenced, hasSize(3));
+        assertThat(new HashSet<>(referenced), containsInAnyOrder("eth0", "eth1", "eth2"));
+    }
+
+    @Test
+    public void testReferenceRemovedByTransaction() {
+        // eth1 is the only interface referencing acl2, reference was removed by current transaction
+        when(writeContext.readAfter(AclIIds.ACLS_AP.child(Interface.class, new InterfaceKey("eth1"))))
+                .thenReturn(Optional.empty());
+        final List<String> referenced = validator.checkAclReferenced(writeContext, new AclBuilder()
+                .setName("acl2").setType(VppAcl.class).build());
+        assertThat(referenced, hasSize(0));
+    }
+
     @Test
     public void testReferencedVppAclFirst() {
-        final List<String> referenced = checkAclReferenced(writeContext, new AclBuilder()
+        final List<String> referenced = validator.checkAclReferenced(writeContext, new AclBuilder()
                 .setName("acl1").setType(VppAcl.class).build());
         assertThat(referenced, hasSize(3));
         assertThat(new HashSet<>(referenced), containsInAnyOrder("eth0", "eth1", "eth2"));
@@ -125,7 +156,7 @@ public class AclValidatorTest implements AclTestSchemaContext {
 
     @Test
     public void testReferencedVppAclSecond() {
-        final List<String> referenced = checkAclReferenced(writeContext, new AclBuilder()
+        final List<String> referenced = validator.checkAclReferenced(writeContext, new AclBuilder()
                 .setName("acl2").setType(VppAcl.class).build());
         assertThat(referenced, hasSize(1));
         assertThat(new HashSet<>(referenced), containsInAnyOrder("eth1"));
@@ -133,7 +164,7 @@ public class AclValidatorTest implements AclTestSchemaContext {
 
     @Test
     public void testReferencedMacipAcl() {
-        final List<String> referenced = checkAclReferenced(writeContext, new AclBuilder()
+        final List<String> referenced = validator.checkAclReferenced(writeContext, new AclBuilder()
                 .setName("acl4").setType(VppMacipAcl.class).build());
         assertThat(referenced, hasSize(1));
         assertThat(new HashSet<>(referenced), containsInAnyOrder("eth2"));
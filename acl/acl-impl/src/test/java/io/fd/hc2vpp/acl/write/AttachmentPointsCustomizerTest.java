@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.acl.write;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.fd.hc2vpp.acl.AclIIds;
+import io.fd.hc2vpp.acl.AclTestSchemaContext;
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
+import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.acl.dto.AclInterfaceSetAclList;
+import io.fd.jvpp.acl.dto.AclInterfaceSetAclListReply;
+import io.fd.jvpp.acl.future.FutureJVppAclFacade;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPoints;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPointsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.IngressBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.AclSetsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.acl.sets.AclSetBuilder;
+
+public class AttachmentPointsCustomizerTest extends WriterCustomizerTest implements AclTestSchemaContext {
+
+    private static final String IFC_CTX_NAME = "ifc-test-instance";
+    private static final String IFACE_NAME_1 = "eth0";
+    private static final String IFACE_NAME_2 = "eth1";
+    private static final int IFACE_ID_1 = 123;
+    private static final int IFACE_ID_2 = 124;
+    private static final String ACL_NAME = "standard_acl";
+    private static final int ACL_ID = 111;
+
+    @Mock
+    private FutureJVppAclFacade aclApi;
+    @Mock
+    private AclContextManager standardAclContext;
+    @Mock
+    private AclContextManager macipAclContext;
+
+    private AttachmentPointsCustomizer customizer;
+
+    @Override
+    protected void setUpTest() {
+        defineMapping(mappingContext, IFACE_NAME_1, IFACE_ID_1, IFC_CTX_NAME);
+        defineMapping(mappingContext, IFACE_NAME_2, IFACE_ID_2, IFC_CTX_NAME);
+        final NamingContext interfaceContext = new NamingContext("generatedIfaceName", IFC_CTX_NAME);
+        customizer = new AttachmentPointsCustomizer(aclApi, new InterfaceAclCustomizer(aclApi, interfaceContext,
+                standardAclContext, macipAclContext, new AclReferenceIndex()));
+        when(standardAclContext.getAclIndex(ACL_NAME, mappingContext)).thenReturn(ACL_ID);
+        when(standardAclContext.containsAcl(ACL_NAME, mappingContext)).thenReturn(true);
+        when(aclApi.aclInterfaceSetAclList(any())).thenReturn(future(new AclInterfaceSetAclListReply()));
+    }
+
+    @Test
+    public void testWrite() throws Exception {
+        customizer.writeCurrentAttributes(AclIIds.ACLS_AP,
+                attachmentPoints(withAcl(IFACE_NAME_1), withAcl(IFACE_NAME_2)), writeContext);
+        verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_1, ACL_ID));
+        verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_2, ACL_ID));
+    }
+
+    @Test
+    public void testUpdateOnlyModifiedInterfaces() throws Exception {
+        customizer.updateCurrentAttributes(AclIIds.ACLS_AP,
+                attachmentPoints(withAcl(IFACE_NAME_1), withoutAcl(IFACE_NAME_2)),
+                attachmentPoints(withAcl(IFACE_NAME_1), withAcl(IFACE_NAME_2)), writeContext);
+        verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_2, ACL_ID));
+        verify(aclApi, times(1)).aclInterfaceSetAclList(any());
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        customizer.deleteCurrentAttributes(AclIIds.ACLS_AP,
+                attachmentPoints(withAcl(IFACE_NAME_1), withAcl(IFACE_NAME_2)), writeContext);
+        verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_1));
+        verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_2));
+    }
+
+    @Test
+    public void testFailureReportedForInterface() throws Exception {
+        when(aclApi.aclInterfaceSetAclList(argThat(request -> request.swIfIndex == IFACE_ID_2)))
+                .thenReturn(failedFuture());
+        try {
+            customizer.writeCurrentAttributes(AclIIds.ACLS_AP,
+                    attachmentPoints(withAcl(IFACE_NAME_1), withAcl(IFACE_NAME_2)), writeContext);
+        } catch (WriteFailedException e) {
+            assertEquals(AclIIds.ACLS_AP.child(Interface.class, new InterfaceKey(IFACE_NAME_2)), e.getFailedId());
+            // assignment accepted by VPP is reverted
+            verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_1, ACL_ID));
+            verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_1));
+            return;
+        }
+        fail("WriteFailedException expected");
+    }
+
+    @Test
+    public void testFailedUpdateReverted() throws Exception {
+        when(aclApi.aclInterfaceSetAclList(argThat(request -> request.swIfIndex == IFACE_ID_2)))
+                .thenReturn(failedFuture());
+        try {
+            customizer.updateCurrentAttributes(AclIIds.ACLS_AP,
+                    attachmentPoints(withoutAcl(IFACE_NAME_1), withoutAcl(IFACE_NAME_2)),
+                    attachmentPoints(withAcl(IFACE_NAME_1), withAcl(IFACE_NAME_2)), writeContext);
+        } catch (WriteFailedException e) {
+            verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_1, ACL_ID));
+            verify(aclApi).aclInterfaceSetAclList(request(IFACE_ID_1));
+            return;
+        }
+        fail("WriteFailedException expected");
+    }
+
+    private static AttachmentPoints attachmentPoints(final Interface... interfaces) {
+        return new AttachmentPointsBuilder().setInterface(Arrays.asList(interfaces)).build();
+    }
+
+    private static Interface withAcl(final String interfaceName) {
+        return new InterfaceBuilder()
+                .setInterfaceId(interfaceName)
+                .setIngress(new IngressBuilder()
+                        .setAclSets(new AclSetsBuilder()
+                                .setAclSet(Collections.singletonList(new AclSetBuilder()
+                                        .setName(ACL_NAME)
+                                        .build()))
+                                .build())
+                        .build())
+                .build();
+    }
+
+    private static Interface withoutAcl(final String interfaceName) {
+        return new InterfaceBuilder().setInterfaceId(interfaceName).build();
+    }
+
+    private static AclInterfaceSetAclList request(final int swIfIndex, final int... inputAcls) {
+        final AclInterfaceSetAclList request = new AclInterfaceSetAclList();
+        request.swIfIndex = swIfIndex;
+        request.acls = inputAcls;
+        request.count = (byte) inputAcls.length;
+        request.nInput = (byte) inputAcls.length;
+        return request;
+    }
+}
@@ -16,6 +16,8 @@
 
 package io.fd.hc2vpp.acl.write;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -23,6 +25,7 @@ import static org.mockito.Mockito.when;
 import io.fd.hc2vpp.acl.AclIIds;
 import io.fd.hc2vpp.acl.AclTestSchemaContext;
 import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
 import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.jvpp.acl.dto.AclInterfaceSetAclList;
@@ -31,13 +34,13 @@ import io.fd.jvpp.acl.future.FutureJVppAclFacade;
 import java.util.Collections;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPoints;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AttachmentPointsBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceBuilder;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points.InterfaceKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.IngressBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.AclSetsBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.attachment.points._interface.acl.acl.sets.AclSetBuilder;
-import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 public class InterfaceAclCustomizerTest extends WriterCustomizerTest implements AclTestSchemaContext {
 
@@ -53,9 +56,8 @@ public class InterfaceAclCustomizerTest extends WriterCustomizerTest implements
     @Mock
     private AclContextManager macipAclContext;
 
-    private InterfaceAclCustomizer customizer;
-    private InstanceIdentifier<Interface> IFC_IID =
-            AclIIds.ACLS_AP.child(Interface.class, new InterfaceKey(IFACE_NAME));
+    private AttachmentPointsCustomizer customizer;
+    private AclReferenceIndex aclReferences;
     private Interface ifcAcl;
     private static final String ACL_NAME = "standard_acl";
 
@@ -64,8 +66,11 @@ public class InterfaceAclCustomizerTest extends WriterCustomizerTest implements
     protected void setUpTest() {
         defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
         final NamingContext interfaceContext = new NamingContext("generatedIfaceName", IFC_CTX_NAME);
-        customizer = new InterfaceAclCustomizer(aclApi, interfaceContext, standardAclContext, macipAclContext);
+        aclReferences = new AclReferenceIndex();
+        customizer = new AttachmentPointsCustomizer(aclApi, new InterfaceAclCustomizer(aclApi, interfaceContext,
+                standardAclContext, macipAclContext, aclReferences));
         ifcAcl = new InterfaceBuilder()
+                .setInterfaceId(IFACE_NAME)
                 .setIngress(new IngressBuilder()
                         .setAclSets(new AclSetsBuilder()
                                 .setAclSet(Collections.singletonList(new AclSetBuilder()
@@ -81,33 +86,50 @@ public class InterfaceAclCustomizerTest extends WriterCustomizerTest implements
 
     @Test
     public void testWrite() throws Exception {
-        customizer.writeCurrentAttributes(IFC_IID, ifcAcl, writeContext);
+        customizer.writeCurrentAttributes(AclIIds.ACLS_AP, attachmentPoints(ifcAcl), writeContext);
         final AclInterfaceSetAclList list = new AclInterfaceSetAclList();
         list.swIfIndex = IFACE_ID;
         list.acls = new int[]{ACL_ID};
         list.count = 1;
         list.nInput = 1;
         verify(aclApi).aclInterfaceSetAclList(list);
+        assertEquals(Collections.singleton(IFACE_NAME), aclReferences.getInterfaces(ACL_NAME));
     }
 
     @Test
     public void testUpdate() throws Exception {
-        final Interface updIfcAcl = new InterfaceBuilder().build();
-        customizer.updateCurrentAttributes(IFC_IID, updIfcAcl, ifcAcl, writeContext);
+        final Interface updIfcAcl = new InterfaceBuilder().setInterfaceId(IFACE_NAME).build();
+        customizer.updateCurrentAttributes(AclIIds.ACLS_AP, attachmentPoints(updIfcAcl), attachmentPoints(ifcAcl),
+                writeContext);
         final AclInterfaceSetAclList list = new AclInterfaceSetAclList();
         list.swIfIndex = IFACE_ID;
         list.acls = new int[]{ACL_ID};
         list.count = 1;
         list.nInput = 1;
         verify(aclApi).aclInterfaceSetAclList(list);
+        assertEquals(Collections.singleton(IFACE_NAME), aclReferences.getInterfaces(ACL_NAME));
+    }
+
+    @Test
+    public void testUpdateRemovesReference() throws Exception {
+        aclReferences.add(IFACE_NAME, Collections.singletonList(ACL_NAME));
+        customizer.updateCurrentAttributes(AclIIds.ACLS_AP, attachmentPoints(ifcAcl),
+                attachmentPoints(new InterfaceBuilder().setInterfaceId(IFACE_NAME).build()), writeContext);
+        assertTrue(aclReferences.getInterfaces(ACL_NAME).isEmpty());
     }
 
     @Test
     public void testDelete() throws Exception {
-        customizer.deleteCurrentAttributes(IFC_IID, ifcAcl, writeContext);
+        aclReferences.add(IFACE_NAME, Collections.singletonList(ACL_NAME));
+        customizer.deleteCurrentAttributes(AclIIds.ACLS_AP, attachmentPoints(ifcAcl), writeContext);
         final AclInterfaceSetAclList list = new AclInterfaceSetAclList();
         list.swIfIndex = IFACE_ID;
         list.acls = new int[]{};
         verify(aclApi).aclInterfaceSetAclList(list);
+        assertTrue(aclReferences.getInterfaces(ACL_NAME).isEmpty());
+    }
+
+    private static AttachmentPoints attachmentPoints(final Interface ifc) {
+        return new AttachmentPointsBuilder().setInterface(Collections.singletonList(ifc)).build();
     }
 }
\ No newline at end of file
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 import io.fd.hc2vpp.acl.AclIIds;
 import io.fd.hc2vpp.acl.AclTestSchemaContext;
 import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclReferenceIndex;
 import io.fd.hc2vpp.common.test.write.WriterCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.jvpp.acl.dto.AclInterfaceSetAclListReply;
@@ -65,7 +66,8 @@ public class InterfaceAclMacipCustomizerTest extends WriterCustomizerTest implem
     protected void setUpTest() throws Exception {
         defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
         interfaceContext = new NamingContext("generatedIfaceName", IFC_CTX_NAME);
-        customizer = new InterfaceAclCustomizer(aclApi, interfaceContext, standardAclContext, macipAclContext);
+        customizer = new InterfaceAclCustomizer(aclApi, interfaceContext, standardAclContext, macipAclContext,
+                new AclReferenceIndex());
         ifcAcl = new InterfaceBuilder().setIngress(new IngressBuilder().setAclSets(new AclSetsBuilder().setAclSet(
                 Collections.singletonList(new AclSetBuilder().setName(ACL_NAME).build())).build()).build()).build();
         when(macipAclContext.getAclIndex(ACL_NAME, mappingContext)).thenReturn(ACL_ID);
@@ -18,6 +18,7 @@ package io.fd.hc2vpp.fib.management.read;
 
 import com.google.inject.Inject;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.SharedDumpCache;
 import io.fd.hc2vpp.fib.management.FibManagementIIds;
 import io.fd.honeycomb.translate.impl.read.GenericInitListReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
@@ -40,6 +41,9 @@ public final class FibManagementReaderFactory implements ReaderFactory, JvppRepl
     @Inject
     private FutureJVppCore vppApi;
 
+    @Inject(optional = true)
+    private SharedDumpCache sharedDumpCache = SharedDumpCache.disabled();
+
     @Override
     public void init(@Nonnull final ModifiableReaderRegistryBuilder registry) {
         final DumpCacheManager<IpFibDetailsReplyDump, Void> ipv4DumpManager = newIpv4RoutesDumpManager(vppApi);
@@ -54,9 +58,9 @@ public final class FibManagementReaderFactory implements ReaderFactory, JvppRepl
     private DumpCacheManager<IpFibDetailsReplyDump, Void> newIpv4RoutesDumpManager(
             @Nonnull final FutureJVppCore vppApi) {
         return new DumpCacheManager.DumpCacheManagerBuilder<IpFibDetailsReplyDump, Void>()
-                .withExecutor(
+                .withExecutor(sharedDumpCache.cached("ipFibDump",
                         (identifier, params) -> getReplyForRead(vppApi.ipFibDump(new IpFibDump()).toCompletableFuture(),
-                                identifier))
+                                identifier, "ipFibDump")))
                 .acceptOnly(IpFibDetailsReplyDump.class)
                 .build();
     }
@@ -64,9 +68,9 @@ public final class FibManagementReaderFactory implements ReaderFactory, JvppRepl
     private DumpCacheManager<Ip6FibDetailsReplyDump, Void> newIpv6RoutesDumpManager(
             @Nonnull final FutureJVppCore vppApi) {
         return new DumpCacheManager.DumpCacheManagerBuilder<Ip6FibDetailsReplyDump, Void>()
-                .withExecutor(
+                .withExecutor(sharedDumpCache.cached("ip6FibDump",
                         (identifier, params) -> getReplyForRead(
-                                vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier))
+                                vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier, "ip6FibDump")))
                 .acceptOnly(Ip6FibDetailsReplyDump.class)
                 .build();
     }
@@ -21,6 +21,7 @@ import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppRequestPipeline;
 import io.fd.honeycomb.translate.spi.write.ListWriterCustomizer;
 import io.fd.honeycomb.translate.write.WriteContext;
 import io.fd.honeycomb.translate.write.WriteFailedException;
@@ -52,9 +53,12 @@ public class IpsecSpdCustomizer extends FutureJVppCustomizer
         spdCreate.spdId = dataAfter.getSpdId();
         getReplyForWrite(getFutureJVpp().ipsecSpdAddDel(spdCreate).toCompletableFuture(), id);
         if (dataAfter.getSpdEntries() != null) {
+            // entries are independent, send them without waiting for each reply
+            final JvppRequestPipeline pipeline = new JvppRequestPipeline();
             for (SpdEntries entry : dataAfter.getSpdEntries()) {
-                addSpdEntry(id, dataAfter.getSpdId(), entry);
+                addSpdEntry(pipeline, id, dataAfter.getSpdId(), entry);
             }
+            pipeline.join();
         }
     }
 
@@ -72,14 +76,17 @@ public class IpsecSpdCustomizer extends FutureJVppCustomizer
                                         @Nonnull final Spd dataAfter, @Nonnull final WriteContext writeContext)
             throws WriteFailedException {
         if (dataAfter.getSpdEntries() != null) {
+            // entries are independent, send them without waiting for each reply
+            final JvppRequestPipeline pipeline = new JvppRequestPipeline();
             for (SpdEntries entry : dataAfter.getSpdEntries()) {
-                addSpdEntry(id, dataAfter.getSpdId(), entry);
+                addSpdEntry(pipeline, id, dataAfter.getSpdId(), entry);
             }
+            pipeline.join();
         }
     }
 
-    private void addSpdEntry(final InstanceIdentifier<Spd> id, int spdId, final SpdEntries entry)
-            throws WriteFailedException {
+    private void addSpdEntry(final JvppRequestPipeline pipeline, final InstanceIdentifier<Spd> id, int spdId,
+                             final SpdEntries entry) throws WriteFailedException {
         IpsecSpdEntryAddDel request = new IpsecSpdEntryAddDel();
         request.entry = new IpsecSpdEntry();
         request.entry.spdId = spdId;
@@ -139,6 +146,6 @@ public class IpsecSpdCustomizer extends FutureJVppCustomizer
         }
 
         //TODO HC2VPP-403: missing local and remote port definitions
-        getReplyForWrite(getFutureJVpp().ipsecSpdEntryAddDel(request).toCompletableFuture(), id);
+        pipeline.submit(id, () -> getFutureJVpp().ipsecSpdEntryAddDel(request));
     }
 }
@@ -0,0 +1,27 @@
+#!/bin/bash -x
+#
+# Copyright (c) 2019 Cisco and/or its affiliates.
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at:
+#
+#     http://www.apache.org/licenses/LICENSE-2.0
+#
+# Unless required by applicable law or agreed to in writing, software
+# distributed under the License is distributed on an "AS IS" BASIS,
+# WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+# See the License for the specific language governing permissions and
+# limitations under the License.
+
+for threads in 1 2 4 8; do
+    echo "NamingContext reads, ${threads} reader thread(s)"
+    java -jar ./target/translate-benchmark*executable.jar -t ${threads} NamingContextReadBenchmark
+done
+
+echo "Translation of dumped data"
+java -jar ./target/translate-benchmark*executable.jar -rf json -rff translate-benchmark.json \
+    "AclReadBenchmark|AceConverterBenchmark|Ipv4RouteReadBenchmark|MappingEntryReadBenchmark|EidTranslatorBenchmark"
+
+echo "Allocation of interface statistics reads"
+java -jar ./target/translate-benchmark*executable.jar -prof gc -rf json -rff interface-statistics-benchmark.json \
+    InterfaceStatisticsReadBenchmark
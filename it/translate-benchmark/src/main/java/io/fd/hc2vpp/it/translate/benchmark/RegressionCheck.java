@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+import javax.annotation.Nonnull;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs translation benchmarks with shortened iterations and compares their scores with baseline recorded by previous
+ * run, failing if any benchmark got slower than allowed by threshold.
+ *
+ * <p/>Scores depend on the machine, so baseline is meaningful only if recorded on the same machine (e.g. dedicated CI
+ * executor). If baseline does not exist, results of current run are stored as baseline and the check passes.
+ *
+ * <p/>Usage: {@code RegressionCheck <baseline> <threshold-percent> <results> [include-regexp]}, where results of
+ * current run are written to {@code <results>}, so they can replace the baseline if accepted.
+ */
+public final class RegressionCheck {
+
+    private static final String DEFAULT_INCLUDE = "AclReadBenchmark|AceConverterBenchmark|Ipv4RouteReadBenchmark"
+            + "|MappingEntryReadBenchmark|EidTranslatorBenchmark";
+
+    private RegressionCheck() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    public static void main(final String[] args) throws IOException, RunnerException {
+        checkArgument(args.length >= 3, "Usage: RegressionCheck <baseline> <threshold-percent> <results> [include]");
+        final Path baselineFile = Paths.get(args[0]);
+        final double threshold = Double.parseDouble(args[1]) / 100;
+        final Path resultsFile = Paths.get(args[2]);
+        final String include = args.length > 3
+                ? args[3]
+                : DEFAULT_INCLUDE;
+
+        final Options options = new OptionsBuilder()
+                .include(include)
+                .param("size", "10000")
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+        final Collection<RunResult> results = new Runner(options).run();
+
+        final Properties current = new Properties();
+        for (final RunResult result : results) {
+            current.setProperty(key(result.getParams()), Double.toString(result.getPrimaryResult().getScore()));
+        }
+        store(current, resultsFile);
+
+        if (!Files.exists(baselineFile)) {
+            System.out.printf("No baseline found, storing results as baseline %s%n", baselineFile);
+            store(current, baselineFile);
+            return;
+        }
+
+        final Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(baselineFile)) {
+            baseline.load(in);
+        }
+        final List<String> regressions = new ArrayList<>();
+        for (final RunResult result : results) {
+            final String key = key(result.getParams());
+            final String baselineScore = baseline.getProperty(key);
+            if (baselineScore == null) {
+                System.out.printf("No baseline of %s, skipping%n", key);
+                continue;
+            }
+            final double before = Double.parseDouble(baselineScore);
+            final double after = result.getPrimaryResult().getScore();
+            // throughput is better when higher, other modes measure time
+            final boolean regressed = result.getParams().getMode() == Mode.Throughput
+                    ? after < before * (1 - threshold)
+                    : after > before * (1 + threshold);
+            System.out.printf("%s: baseline %.3f, current %.3f %s%n", key, before, after,
+                    result.getPrimaryResult().getScoreUnit());
+            if (regressed) {
+                regressions.add(key);
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.printf("Benchmarks regressed by more than %s%%: %s%n", args[1], regressions);
+            System.exit(1);
+        }
+    }
+
+    private static String key(@Nonnull final BenchmarkParams params) {
+        final StringBuilder key = new StringBuilder(params.getBenchmark());
+        for (final String param : new TreeSet<>(params.getParamsKeys())) {
+            key.append(':').append(param).append('=').append(params.getParam(param));
+        }
+        return key.toString();
+    }
+
+    private static void store(@Nonnull final Properties scores, @Nonnull final Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            scores.store(out, "translate-benchmark scores");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.acl;
+
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclContextManagerImpl;
+import io.fd.hc2vpp.acl.util.ace.AceConverter;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticMappingContext;
+import io.fd.jvpp.acl.types.AclRule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.AceBuilder;
+
+/**
+ * Measures time of conversion of size ACEs to VPP rules (write) and back (read) by {@link AceConverter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AceConverterBenchmark {
+
+    private static final String ACL_NAME = "benchmark-acl";
+    private static final AceConverter CONVERTER = new AceConverter() {
+    };
+
+    @Param( {"1000", "10000", "100000"})
+    private int size;
+
+    private AclContextManager aclContext;
+    private StaticMappingContext mappingContext;
+    private AclRule[] rules;
+    private List<Ace> aces;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        rules = new AclRule[size];
+        final List<Ace> names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            rules[i] = AclRules.tcpRule(i);
+            names.add(new AceBuilder().setName("ace-" + i).build());
+        }
+        mappingContext = new StaticMappingContext();
+        aclContext = new AclContextManagerImpl("standard-acl-", "standard-acl-context");
+        AclMappings.addAcl(aclContext, "standard-acl-context", 0, ACL_NAME, names, mappingContext);
+        aces = CONVERTER.toStandardAces(ACL_NAME, rules, aclContext, mappingContext);
+    }
+
+    @Benchmark
+    public AclRule[] toStandardAclRules() {
+        return CONVERTER.toStandardAclRules(aces);
+    }
+
+    @Benchmark
+    public List<Ace> toStandardAces() {
+        return CONVERTER.toStandardAces(ACL_NAME, rules, aclContext, mappingContext);
+    }
+}
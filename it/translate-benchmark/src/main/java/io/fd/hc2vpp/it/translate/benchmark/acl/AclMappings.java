@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.acl;
+
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticMappingContext;
+import java.util.List;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.VppAclContextAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.VppAclMappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContext;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.VppAclContextKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.AclMappingKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.acl.context.rev170104.vpp.acl.context.attributes.vpp.acl.mappings.vpp.acl.context.acl.mapping.AceMappingKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Populates ACL context data for benchmarks.
+ */
+final class AclMappings {
+
+    private AclMappings() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Adds ACL using provided context manager. {@link StaticMappingContext} does not provide data tree semantics, so
+     * ACE mappings are also stored under their own identifiers, as they are read by keyed reads.
+     */
+    static void addAcl(final AclContextManager aclContextManager, final String contextName, final int aclIndex,
+                       final String aclName, final List<Ace> aces, final StaticMappingContext mappingContext) {
+        aclContextManager.addAcl(aclIndex, aclName, aces, mappingContext);
+
+        final InstanceIdentifier<AclMapping> aclIid = InstanceIdentifier.create(Contexts.class)
+                .augmentation(VppAclContextAugmentation.class).child(VppAclMappings.class)
+                .child(VppAclContext.class, new VppAclContextKey(contextName))
+                .child(AclMapping.class, new AclMappingKey(aclName));
+        for (int i = 0; i < aces.size(); i++) {
+            final String aceName = aces.get(i).getName();
+            mappingContext.put(aclIid.child(AceMapping.class, new AceMappingKey(aceName)),
+                    new AceMappingBuilder().setIndex(i).setName(aceName).build());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.acl;
+
+import io.fd.hc2vpp.acl.read.AclCustomizer;
+import io.fd.hc2vpp.acl.util.AclContextManager;
+import io.fd.hc2vpp.acl.util.AclContextManagerImpl;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticMappingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticReadContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StubJvpp;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.JVppRegistry;
+import io.fd.jvpp.acl.JVppAcl;
+import io.fd.jvpp.acl.dto.AclDetails;
+import io.fd.jvpp.acl.dto.AclDetailsReplyDump;
+import io.fd.jvpp.acl.dto.AclDump;
+import io.fd.jvpp.acl.future.FutureJVppAclFacade;
+import io.fd.jvpp.acl.types.AclRule;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.Acls;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.Acl;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AclBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.AclKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.Ace;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.access.control.list.rev181001.acls.acl.aces.AceBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Measures time of reading single standard ACL with size rules by {@link AclCustomizer}, including translation of
+ * dumped rules and lookup of ACE names in ACL context. Acl dump is replayed by stub jvpp.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AclReadBenchmark {
+
+    private static final String ACL_NAME = "benchmark-acl";
+    private static final int ACL_INDEX = 0;
+
+    @Param( {"1000", "10000", "100000"})
+    private int size;
+
+    private AclCustomizer customizer;
+    private StaticMappingContext mappingContext;
+    private InstanceIdentifier<Acl> id;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final AclDetails details = new AclDetails();
+        details.aclIndex = ACL_INDEX;
+        details.r = new AclRule[size];
+        final List<Ace> aces = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            details.r[i] = AclRules.tcpRule(i);
+            aces.add(new AceBuilder().setName("ace-" + i).build());
+        }
+        final AclDetailsReplyDump dump = new AclDetailsReplyDump();
+        dump.aclDetails = Collections.singletonList(details);
+
+        mappingContext = new StaticMappingContext();
+        final AclContextManager standardAclContext =
+                new AclContextManagerImpl("standard-acl-", "standard-acl-context");
+        AclMappings.addAcl(standardAclContext, "standard-acl-context", ACL_INDEX, ACL_NAME, aces, mappingContext);
+        customizer = new AclCustomizer(new StubAclFacade(dump), standardAclContext,
+                new AclContextManagerImpl("macip-acl-", "macip-acl-context"));
+        id = InstanceIdentifier.create(Acls.class).child(Acl.class, new AclKey(ACL_NAME));
+    }
+
+    @Benchmark
+    public Acl readCurrentAttributes() throws ReadFailedException {
+        final AclBuilder builder = new AclBuilder();
+        customizer.readCurrentAttributes(id, builder, new StaticReadContext(mappingContext));
+        return builder.build();
+    }
+
+    /**
+     * Acl facade replaying acl dump. Facade is a class, so it cannot be replaced by {@link StubJvpp} directly.
+     */
+    private static final class StubAclFacade extends FutureJVppAclFacade {
+
+        private final AclDetailsReplyDump dump;
+
+        private StubAclFacade(final AclDetailsReplyDump dump) throws IOException {
+            super(StubJvpp.create(JVppRegistry.class), StubJvpp.create(JVppAcl.class));
+            this.dump = dump;
+        }
+
+        @Override
+        public CompletionStage<AclDetailsReplyDump> aclDump(final AclDump request) {
+            return CompletableFuture.completedFuture(dump);
+        }
+    }
+}
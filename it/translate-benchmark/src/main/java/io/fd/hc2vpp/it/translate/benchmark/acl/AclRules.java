@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.acl;
+
+import io.fd.jvpp.acl.types.AclRule;
+
+/**
+ * Produces distinct VPP acl rules for benchmarks.
+ */
+final class AclRules {
+
+    private static final byte TCP = 6;
+
+    private AclRules() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Returns rule permitting tcp from 10.x.y.z/32 (derived from index) to 192.168.0.0/24 ports 1000-2000.
+     */
+    static AclRule tcpRule(final int index) {
+        final AclRule rule = new AclRule();
+        rule.isPermit = 1;
+        rule.isIpv6 = 0;
+        rule.srcIpAddr = new byte[] {10, (byte) (index >> 16), (byte) (index >> 8), (byte) index};
+        rule.srcIpPrefixLen = 32;
+        rule.dstIpAddr = new byte[] {(byte) 192, (byte) 168, 0, 0};
+        rule.dstIpPrefixLen = 24;
+        rule.proto = TCP;
+        rule.srcportOrIcmptypeFirst = 0;
+        rule.srcportOrIcmptypeLast = (short) 65535;
+        rule.dstportOrIcmpcodeFirst = 1000;
+        rule.dstportOrIcmpcodeLast = 2000;
+        return rule;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.context;
+
+import io.fd.hc2vpp.common.translate.util.IndexedNamingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticMappingContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Measures throughput of index to name lookups of {@link NamingContext} implementations.
+ * Run with increasing number of threads (-t) to see how reads scale with concurrent readers.
+ */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 20, time = 1)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NamingContextReadBenchmark {
+
+    private static final String CONTEXT_NAME = "benchmark-context";
+
+    @Param( {"1000", "10000", "100000"})
+    private int size;
+
+    @Param( {"plain", "indexed"})
+    private String implementation;
+
+    private NamingContext namingContext;
+    private StaticMappingContext mappingContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        namingContext = "indexed".equals(implementation)
+                ? new IndexedNamingContext("benchmark-", CONTEXT_NAME)
+                : new NamingContext("benchmark-", CONTEXT_NAME);
+        mappingContext = new StaticMappingContext();
+
+        final InstanceIdentifier<Mappings> mappingsId = InstanceIdentifier.create(Contexts.class).child(
+                org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContext.class,
+                new NamingContextKey(CONTEXT_NAME)).child(Mappings.class);
+        final List<Mapping> mappings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Mapping mapping = new MappingBuilder().setIndex(i).setName("name-" + i).build();
+            mappings.add(mapping);
+            mappingContext.put(mappingsId.child(Mapping.class, new MappingKey(mapping.getName())), mapping);
+        }
+        mappingContext.put(mappingsId, new MappingsBuilder().setMapping(mappings).build());
+    }
+
+    @Benchmark
+    public String getName() {
+        return namingContext.getName(ThreadLocalRandom.current().nextInt(size), mappingContext);
+    }
+
+    @Benchmark
+    public int getIndex() {
+        return namingContext.getIndex("name-" + ThreadLocalRandom.current().nextInt(size), mappingContext);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.lisp;
+
+import io.fd.hc2vpp.lisp.translate.read.dump.executor.params.MappingsDumpParams.EidType;
+import io.fd.hc2vpp.lisp.translate.util.EidTranslator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid;
+
+/**
+ * Measures time of conversion of size eids of given type between VPP (byte array) and binding representation
+ * by {@link EidTranslator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EidTranslatorBenchmark {
+
+    private static final EidTranslator TRANSLATOR = new EidTranslator() {
+    };
+    private static final int VNI = 12;
+
+    @Param( {"1000", "10000", "100000"})
+    private int size;
+
+    @Param( {"IPV4", "IPV4_PREFIX", "IPV6_PREFIX", "MAC"})
+    private EidType type;
+
+    private byte prefix;
+    private byte[][] addresses;
+    private Eid[] eids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        addresses = new byte[size][];
+        eids = new Eid[size];
+        prefix = prefixLength(type);
+        for (int i = 0; i < size; i++) {
+            addresses[i] = address(type, i);
+            eids[i] = TRANSLATOR.getArrayAsEidLocal(type, addresses[i], prefix, VNI);
+        }
+    }
+
+    @Benchmark
+    public void toEid(final Blackhole blackhole) {
+        for (final byte[] address : addresses) {
+            blackhole.consume(TRANSLATOR.getArrayAsEidLocal(type, address, prefix, VNI));
+        }
+    }
+
+    @Benchmark
+    public void toByteArray(final Blackhole blackhole) {
+        for (final Eid eid : eids) {
+            blackhole.consume(TRANSLATOR.getEidAsByteArray(eid));
+        }
+    }
+
+    private static byte prefixLength(final EidType type) {
+        switch (type) {
+            case IPV4:
+                return 32;
+            case IPV4_PREFIX:
+                return 24;
+            case IPV6_PREFIX:
+                return 64;
+            default:
+                return 0;
+        }
+    }
+
+    private static byte[] address(final EidType type, final int index) {
+        final byte[] address;
+        switch (type) {
+            case IPV4:
+            case IPV4_PREFIX:
+                address = new byte[4];
+                address[0] = 10;
+                break;
+            case IPV6_PREFIX:
+                address = new byte[16];
+                address[0] = 0x20;
+                address[1] = 0x01;
+                break;
+            default:
+                address = new byte[6];
+                address[0] = 0x02;
+                break;
+        }
+        // prefix based eids have index in network part, so that all eids are distinct
+        final int offset;
+        if (type == EidType.IPV4_PREFIX) {
+            offset = 0;
+        } else if (type == EidType.IPV6_PREFIX) {
+            offset = 2;
+        } else {
+            offset = address.length - 3;
+        }
+        address[offset] |= (byte) (index >> 16);
+        address[offset + 1] = (byte) (index >> 8);
+        address[offset + 2] = (byte) index;
+        return address;
+    }
+}
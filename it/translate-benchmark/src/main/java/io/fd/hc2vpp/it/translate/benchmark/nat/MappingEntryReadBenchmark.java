@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.nat;
+
+import com.google.common.collect.ImmutableMap;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticMappingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticReadContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StubJvpp;
+import io.fd.hc2vpp.nat.read.NatReaderFactory;
+import io.fd.hc2vpp.nat.util.MappingEntryContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDetails;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDetailsReplyDump;
+import io.fd.jvpp.nat.dto.Nat44StaticMappingDump;
+import io.fd.jvpp.nat.dto.Nat64BibDetailsReplyDump;
+import io.fd.jvpp.nat.dto.Nat64BibDump;
+import io.fd.jvpp.nat.future.FutureJVppNat;
+import io.fd.jvpp.nat.types.Ip4Address;
+import io.fd.jvpp.nat.types.NatConfigFlags;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.NatMappingEntryCtxAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.NatMappingEntryContext;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.NatInstance;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.NatInstanceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IpPrefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Ipv4Prefix;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.Instances;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.Instance;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.InstanceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.MappingTable;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntryKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Measures time of listing and reading of size nat44 static mapping entries by mapping entry customizer, including
+ * processing of dumps replayed by stub jvpp and lookup of entry indexes in mapping entry context.
+ *
+ * <p/>Customizer is created by {@link NatReaderFactory#mappingEntryCustomizer}. Dumps are executed directly by stub
+ * jvpp, since nat dump executors require jvpp facade.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MappingEntryReadBenchmark {
+
+    // default vrf, the only nat instance listed by nat reader
+    private static final InstanceKey NAT_INSTANCE = new InstanceKey(0L);
+    private static final long NAT_INSTANCE_ID = NAT_INSTANCE.getId();
+
+    @Param( {"1000", "10000", "100000"})
+    private int size;
+
+    private InitializingListReaderCustomizer<MappingEntry, MappingEntryKey, MappingEntryBuilder> customizer;
+    private StaticMappingContext mappingContext;
+    private InstanceIdentifier<MappingEntry> wildcardedId;
+    private List<InstanceIdentifier<MappingEntry>> entryIds;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Nat44StaticMappingDetailsReplyDump nat44Dump = new Nat44StaticMappingDetailsReplyDump();
+        nat44Dump.nat44StaticMappingDetails = new ArrayList<>(size);
+        final Nat64BibDetailsReplyDump nat64Dump = new Nat64BibDetailsReplyDump();
+        nat64Dump.nat64BibDetails = Collections.emptyList();
+        final FutureJVppNat jvppNat = StubJvpp.create(FutureJVppNat.class, ImmutableMap.of(
+                "nat44StaticMappingDump", nat44Dump, "nat64BibDump", nat64Dump));
+
+        mappingContext = new StaticMappingContext();
+        wildcardedId = InstanceIdentifier.create(Instances.class)
+                .child(Instance.class, NAT_INSTANCE)
+                .child(MappingTable.class)
+                .child(MappingEntry.class);
+        entryIds = new ArrayList<>(size);
+        final List<org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry>
+                ctxEntries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final Nat44StaticMappingDetails details = staticMapping(i);
+            nat44Dump.nat44StaticMappingDetails.add(details);
+            ctxEntries.add(ctxEntry(details, i));
+            entryIds.add(InstanceIdentifier.create(Instances.class)
+                    .child(Instance.class, NAT_INSTANCE)
+                    .child(MappingTable.class)
+                    .child(MappingEntry.class, new MappingEntryKey((long) i)));
+        }
+        storeContext(ctxEntries);
+
+        customizer = NatReaderFactory.mappingEntryCustomizer(
+                new DumpCacheManager.DumpCacheManagerBuilder<Nat44StaticMappingDetailsReplyDump, Void>()
+                        .withExecutor((identifier, params) -> JvppReplyConsumer.INSTANCE.getReplyForRead(
+                                jvppNat.nat44StaticMappingDump(new Nat44StaticMappingDump()).toCompletableFuture(),
+                                identifier))
+                        .acceptOnly(Nat44StaticMappingDetailsReplyDump.class)
+                        .build(),
+                new DumpCacheManager.DumpCacheManagerBuilder<Nat64BibDetailsReplyDump, Void>()
+                        .withExecutor((identifier, params) -> JvppReplyConsumer.INSTANCE.getReplyForRead(
+                                jvppNat.nat64BibDump(new Nat64BibDump()).toCompletableFuture(), identifier))
+                        .acceptOnly(Nat64BibDetailsReplyDump.class)
+                        .build(),
+                new MappingEntryContext());
+    }
+
+    @Benchmark
+    public List<MappingEntryKey> getAllIds() throws ReadFailedException {
+        return customizer.getAllIds(wildcardedId, new StaticReadContext(mappingContext));
+    }
+
+    @Benchmark
+    public MappingEntry readCurrentAttributes() throws ReadFailedException {
+        final MappingEntryBuilder builder = new MappingEntryBuilder();
+        customizer.readCurrentAttributes(entryIds.get(ThreadLocalRandom.current().nextInt(size)), builder,
+                new StaticReadContext(mappingContext));
+        return builder.build();
+    }
+
+    /**
+     * Stores context mappings of all entries, as if their indexes were assigned by previous reads.
+     */
+    private void storeContext(
+            final List<org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry> ctxEntries) {
+        final InstanceIdentifier<org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.MappingTable>
+                tableId = InstanceIdentifier.create(Contexts.class)
+                .augmentation(NatMappingEntryCtxAugmentation.class)
+                .child(NatMappingEntryContext.class)
+                .child(NatInstance.class, new NatInstanceKey(NAT_INSTANCE_ID))
+                .child(org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.MappingTable.class);
+        ctxEntries.forEach(entry -> mappingContext.put(tableId.child(
+                org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry.class,
+                entry.key()), entry));
+        mappingContext.put(tableId,
+                new org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.MappingTableBuilder()
+                        .setMappingEntry(ctxEntries).build());
+    }
+
+    private static org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry ctxEntry(
+            final Nat44StaticMappingDetails details, final long index) {
+        return new org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntryBuilder()
+                .withKey(new org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntryKey(
+                        prefix(details.externalIpAddress), prefix(details.localIpAddress)))
+                .setIndex(index)
+                .build();
+    }
+
+    private static IpPrefix prefix(final Ip4Address address) {
+        final byte[] ip = address.ip4Address;
+        return new IpPrefix(new Ipv4Prefix(
+                Byte.toUnsignedInt(ip[0]) + "." + Byte.toUnsignedInt(ip[1]) + "." + Byte.toUnsignedInt(ip[2]) + "."
+                        + Byte.toUnsignedInt(ip[3]) + "/32"));
+    }
+
+    private static Nat44StaticMappingDetails staticMapping(final int index) {
+        final Nat44StaticMappingDetails details = new Nat44StaticMappingDetails();
+        details.vrfId = (int) NAT_INSTANCE_ID;
+        details.flags = new NatConfigFlags();
+        details.flags.add(NatConfigFlags.NatConfigFlagsOptions.NAT_IS_ADDR_ONLY);
+        details.localIpAddress = new Ip4Address();
+        details.localIpAddress.ip4Address = new byte[] {10, (byte) (index >> 16), (byte) (index >> 8), (byte) index};
+        details.externalIpAddress = new Ip4Address();
+        details.externalIpAddress.ip4Address =
+                new byte[] {(byte) 172, (byte) (16 + (index >> 16)), (byte) (index >> 8), (byte) index};
+        return details;
+    }
+}
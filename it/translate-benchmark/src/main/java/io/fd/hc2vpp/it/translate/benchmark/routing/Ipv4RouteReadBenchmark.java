@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.routing;
+
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticMappingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticReadContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StubJvpp;
+import io.fd.hc2vpp.routing.RoutingConfiguration;
+import io.fd.hc2vpp.routing.read.RoutingReaderFactory;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.jvpp.core.dto.IpFibDetails;
+import io.fd.jvpp.core.dto.IpFibDetailsReplyDump;
+import io.fd.jvpp.core.dto.IpFibDump;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import io.fd.jvpp.core.types.FibPath;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.StaticRoutes1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.Ipv4;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv4.Route;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv4.RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv4.RouteKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.Static;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.routing.ControlPlaneProtocols;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.routing.control.plane.protocols.ControlPlaneProtocol;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.routing.control.plane.protocols.ControlPlaneProtocolKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.routing.control.plane.protocols.control.plane.protocol.StaticRoutes;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Measures time of listing size learned ipv4 routes by ipv4 route customizer, including processing of ipFibDump
+ * replayed by stub jvpp and lookup of route names in route context. Route names are learned by first invocation during
+ * setup, so measured invocations only read route context.
+ *
+ * <p/>Customizer is created by {@link RoutingReaderFactory#ipv4RouteCustomizer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Ipv4RouteReadBenchmark {
+
+    private static final String PROTOCOL_NAME = "benchmark-protocol";
+    private static final int TABLE_ID = 0;
+
+    @Param( {"1000", "10000", "100000"})
+    private int size;
+
+    private ListReaderCustomizer<Route, RouteKey, RouteBuilder> customizer;
+    private StaticMappingContext mappingContext;
+    private InstanceIdentifier<Route> id;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReadFailedException {
+        final IpFibDetailsReplyDump dump = new IpFibDetailsReplyDump();
+        dump.ipFibDetails = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            dump.ipFibDetails.add(route(i));
+        }
+        final FutureJVppCore jvpp = StubJvpp.create(FutureJVppCore.class, Collections.singletonMap("ipFibDump", dump));
+        final DumpCacheManager<IpFibDetailsReplyDump, Void> dumpManager =
+                new DumpCacheManager.DumpCacheManagerBuilder<IpFibDetailsReplyDump, Void>()
+                        .withExecutor((identifier, params) -> JvppReplyConsumer.INSTANCE
+                                .getReplyForRead(jvpp.ipFibDump(new IpFibDump()).toCompletableFuture(), identifier))
+                        .acceptOnly(IpFibDetailsReplyDump.class)
+                        .build();
+
+        mappingContext = new StaticMappingContext();
+        final NamingContext routingProtocolContext =
+                new NamingContext("learned-protocol-", RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT);
+        addProtocolMapping(mappingContext);
+        customizer = RoutingReaderFactory.ipv4RouteCustomizer(dumpManager, new BenchmarkRoutingConfiguration(),
+                new MultiNamingContext(RoutingConfiguration.ROUTE_HOP_CONTEXT,
+                        RoutingConfiguration.MULTI_MAPPING_START_INDEX),
+                new NamingContext("interface-", "interface-context"),
+                new NamingContext("route-", RoutingConfiguration.ROUTE_CONTEXT),
+                routingProtocolContext);
+        id = InstanceIdentifier.create(ControlPlaneProtocols.class)
+                .child(ControlPlaneProtocol.class, new ControlPlaneProtocolKey(PROTOCOL_NAME, Static.class))
+                .child(StaticRoutes.class)
+                .augmentation(StaticRoutes1.class)
+                .child(Ipv4.class)
+                .child(Route.class);
+
+        // learn route names
+        getAllIds();
+    }
+
+    @Benchmark
+    public List<RouteKey> getAllIds() throws ReadFailedException {
+        return customizer.getAllIds(id, new StaticReadContext(mappingContext));
+    }
+
+    private static void addProtocolMapping(final StaticMappingContext mappingContext) {
+        final InstanceIdentifier<Mappings> mappingsId = InstanceIdentifier.create(Contexts.class).child(
+                org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContext.class,
+                new NamingContextKey(RoutingConfiguration.ROUTING_PROTOCOL_CONTEXT)).child(Mappings.class);
+        final Mapping mapping = new MappingBuilder().setIndex(TABLE_ID).setName(PROTOCOL_NAME).build();
+        mappingContext.put(mappingsId.child(Mapping.class, new MappingKey(PROTOCOL_NAME)), mapping);
+        mappingContext.put(mappingsId, new MappingsBuilder().setMapping(Collections.singletonList(mapping)).build());
+    }
+
+    private static IpFibDetails route(final int index) {
+        final IpFibDetails details = new IpFibDetails();
+        details.tableId = TABLE_ID;
+        details.address = new byte[] {10, (byte) (index >> 16), (byte) (index >> 8), (byte) index};
+        details.addressLength = 32;
+        details.path = new FibPath[0];
+        return details;
+    }
+
+    private static final class BenchmarkRoutingConfiguration extends RoutingConfiguration {
+
+        @Override
+        public String getLearnedRouteNamePrefix() {
+            return "learned-route";
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.util;
+
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * In-memory {@link MappingContext} replacing context data tree in benchmarks.
+ *
+ * <p/>Data are returned only for exactly the same identifiers they were written with, no data tree semantics (e.g.
+ * reading list with its entries written separately) are provided. Benchmarks are expected to populate all identifiers
+ * read by benchmarked code.
+ */
+public final class StaticMappingContext implements MappingContext {
+
+    private final Map<InstanceIdentifier<?>, DataObject> data = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends DataObject> Optional<T> read(@Nonnull final InstanceIdentifier<T> currentId) {
+        return Optional.ofNullable((T) data.get(currentId));
+    }
+
+    @Override
+    public void delete(final InstanceIdentifier<?> path) {
+        data.remove(path);
+    }
+
+    @Override
+    public <T extends DataObject> void merge(final InstanceIdentifier<T> path, final T data) {
+        put(path, data);
+    }
+
+    @Override
+    public <T extends DataObject> void put(final InstanceIdentifier<T> path, final T data) {
+        this.data.put(path, data);
+    }
+
+    @Override
+    public void close() {
+        data.clear();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.util;
+
+import io.fd.honeycomb.translate.MappingContext;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import javax.annotation.Nonnull;
+
+/**
+ * {@link ReadContext} of single read transaction in benchmarks.
+ *
+ * <p/>Mapping context is usually shared by all invocations of benchmarked code, while modification cache should
+ * be created per invocation, so that dumps are not cached across transactions as they would not be in HC.
+ */
+public final class StaticReadContext implements ReadContext {
+
+    private final ModificationCache modificationCache = new ModificationCache();
+    private final MappingContext mappingContext;
+
+    public StaticReadContext(@Nonnull final MappingContext mappingContext) {
+        this.mappingContext = mappingContext;
+    }
+
+    @Nonnull
+    @Override
+    public ModificationCache getModificationCache() {
+        return modificationCache;
+    }
+
+    @Nonnull
+    @Override
+    public MappingContext getMappingContext() {
+        return mappingContext;
+    }
+
+    @Override
+    public void close() {
+        modificationCache.close();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.it.translate.benchmark.util;
+
+import com.google.common.base.Defaults;
+import com.google.common.collect.ImmutableMap;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import javax.annotation.Nonnull;
+
+/**
+ * In-process replacement of jvpp API (e.g. FutureJVppCore) replaying canned replies, so that benchmarks measure
+ * CPU cost of hc2vpp translation code without running VPP.
+ *
+ * <p/>Replies are looked up by name of invoked API method, regardless of request content. Same reply instance
+ * is returned for each invocation, so benchmarked code is expected not to modify it. Methods without canned reply
+ * fail with {@link UnsupportedOperationException}, methods not returning {@link CompletionStage} do nothing.
+ */
+public final class StubJvpp implements InvocationHandler {
+
+    private final Map<String, Object> replies;
+
+    private StubJvpp(final Map<String, Object> replies) {
+        this.replies = replies;
+    }
+
+    /**
+     * Creates stub of jvpp API interface.
+     *
+     * @param api     jvpp API interface
+     * @param replies canned replies mapped by name of API method
+     */
+    @Nonnull
+    public static <T> T create(@Nonnull final Class<T> api, @Nonnull final Map<String, ?> replies) {
+        return api.cast(Proxy.newProxyInstance(api.getClassLoader(), new Class<?>[] {api},
+                new StubJvpp(ImmutableMap.copyOf(replies))));
+    }
+
+    /**
+     * Creates stub of jvpp API interface without any replies.
+     */
+    @Nonnull
+    public static <T> T create(@Nonnull final Class<T> api) {
+        return create(api, ImmutableMap.of());
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return "StubJvpp" + replies.keySet();
+            default:
+                break;
+        }
+        if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+            return Defaults.defaultValue(method.getReturnType());
+        }
+        final Object reply = replies.get(method.getName());
+        if (reply == null) {
+            final CompletableFuture<Object> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new UnsupportedOperationException("No reply for " + method.getName()));
+            return failed;
+        }
+        return CompletableFuture.completedFuture(reply);
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.it.translate.benchmark.v3po;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticMappingContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StaticReadContext;
+import io.fd.hc2vpp.it.translate.benchmark.util.StubJvpp;
+import io.fd.hc2vpp.v3po.read.InterfaceStatisticsCustomizer;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManager;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManagerImpl;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.JVppRegistry;
+import io.fd.jvpp.stats.JVppStats;
+import io.fd.jvpp.stats.dto.InterfaceStatistics;
+import io.fd.jvpp.stats.dto.InterfaceStatisticsDetails;
+import io.fd.jvpp.stats.dto.InterfaceStatisticsDetailsReplyDump;
+import io.fd.jvpp.stats.dto.InterfaceStatisticsDump;
+import io.fd.jvpp.stats.future.FutureJVppStatsFacade;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.Interfaces;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces._interface.Statistics;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces._interface.StatisticsBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Measures reading statistics of all size interfaces in single transaction by {@link InterfaceStatisticsCustomizer}.
+ * Run with GC profiler (-prof gc) to see allocation per read of all interfaces (gc.alloc.rate.norm).
+ *
+ * <p/>With counters=changing, byte and unicast packet counters of all interfaces change between reads (as on busy
+ * interfaces), with counters=static, all counters stay the same.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InterfaceStatisticsReadBenchmark {
+
+    private static final String CONTEXT_NAME = "interface-context";
+
+    @Param( {"1000", "10000"})
+    private int size;
+
+    @Param( {"static", "changing"})
+    private String counters;
+
+    private InterfaceStatisticsCustomizer customizer;
+    private StaticMappingContext mappingContext;
+    private InterfaceStatistics[] statistics;
+    private InstanceIdentifier<Statistics>[] ids;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException {
+        final InterfaceStatisticsDetailsReplyDump dump = new InterfaceStatisticsDetailsReplyDump();
+        dump.interfaceStatisticsDetails = new InterfaceStatisticsDetails(size, 1);
+        statistics = dump.interfaceStatisticsDetails.interfaceStatistics;
+
+        final NamingContext namingContext = new NamingContext("interface-", CONTEXT_NAME);
+        mappingContext = new StaticMappingContext();
+        ids = new InstanceIdentifier[size];
+        for (int i = 0; i < size; i++) {
+            // errors are usually 0, multicast and broadcast counters grow slowly
+            statistics[i] = new InterfaceStatistics(i, 0, 300, 1_000_000 + i, 10, 1_500_000_000L + i,
+                    0, 300, 1_000_000 + i, 10, 1_500_000_000L + i);
+            final String name = "interface-" + i;
+            namingContext.addName(i, name, mappingContext);
+            ids[i] = InstanceIdentifier.create(Interfaces.class).child(Interface.class, new InterfaceKey(name))
+                    .child(Statistics.class);
+        }
+
+        final InterfaceStatisticsManager statisticsManager = new InterfaceStatisticsManagerImpl();
+        statisticsManager.enableStatistics();
+        customizer = new InterfaceStatisticsCustomizer(namingContext, new StubStatsFacade(dump), statisticsManager);
+    }
+
+    @Benchmark
+    public void readStatistics(final Blackhole blackhole) throws ReadFailedException {
+        if ("changing".equals(counters)) {
+            for (final InterfaceStatistics stats : statistics) {
+                stats.inBytes += 1500;
+                stats.inUnicastPkts++;
+                stats.outBytes += 1500;
+                stats.outUnicastPkts++;
+            }
+        }
+        final StaticReadContext ctx = new StaticReadContext(mappingContext);
+        for (final InstanceIdentifier<Statistics> id : ids) {
+            final StatisticsBuilder builder = new StatisticsBuilder();
+            customizer.readCurrentAttributes(id, builder, ctx);
+            blackhole.consume(builder.build());
+        }
+    }
+
+    /**
+     * Stats facade replaying statistics dump. Facade is a class, so it cannot be replaced by {@link StubJvpp} directly.
+     */
+    private static final class StubStatsFacade extends FutureJVppStatsFacade {
+
+        private final InterfaceStatisticsDetailsReplyDump dump;
+
+        private StubStatsFacade(final InterfaceStatisticsDetailsReplyDump dump) throws IOException {
+            super(StubJvpp.create(JVppRegistry.class), StubJvpp.create(JVppStats.class));
+            this.dump = dump;
+        }
+
+        @Override
+        public CompletionStage<InterfaceStatisticsDetailsReplyDump> interfaceStatisticsDump(
+                final InterfaceStatisticsDump request) {
+            return CompletableFuture.completedFuture(dump);
+        }
+    }
+}
@@ -38,6 +38,9 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
  * Utility class allowing {@link MappingId} to {@link Eid} mapping
+ *
+ * <p/>Not synchronized, all data is held by transaction scoped {@link MappingContext}. Artificial mapping ids are
+ * derived from eid itself, so concurrent creation of artificial mapping for the same eid writes the same data.
  */
 public class EidMappingContext implements EidTranslator {
 
@@ -67,7 +70,7 @@ public class EidMappingContext implements EidTranslator {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized MappingId getId(
+    public MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid remoteEid,
             @Nonnull final MappingContext mappingContext) {
 
@@ -103,7 +106,7 @@ public class EidMappingContext implements EidTranslator {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized MappingId getId(
+    public MappingId getId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
 
@@ -132,7 +135,7 @@ public class EidMappingContext implements EidTranslator {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsId(
+    public boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
@@ -150,7 +153,7 @@ public class EidMappingContext implements EidTranslator {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsId(
+    public boolean containsId(
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             @Nonnull final MappingContext mappingContext) {
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
@@ -169,7 +172,7 @@ public class EidMappingContext implements EidTranslator {
      * @param eid            eid data
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addEid(
+    public void addEid(
             @Nonnull final MappingId index,
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.local.mappings.local.mapping.Eid eid,
             final MappingContext mappingContext) {
@@ -185,7 +188,7 @@ public class EidMappingContext implements EidTranslator {
      * @param eid            eid data
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addEid(
+    public void addEid(
             @Nonnull final MappingId index,
             @Nonnull final org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.lisp.rev171013.dp.subtable.grouping.remote.mappings.remote.mapping.Eid eid,
             final MappingContext mappingContext) {
@@ -216,7 +219,7 @@ public class EidMappingContext implements EidTranslator {
      * @param index          identificator of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void removeEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
+    public void removeEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
         mappingContext.delete(getMappingIid(index));
     }
 
@@ -228,7 +231,7 @@ public class EidMappingContext implements EidTranslator {
      * @return integer index value matching supplied name
      * @throws IllegalArgumentException if name was not found
      */
-    public synchronized Eid getEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
+    public Eid getEid(@Nonnull final MappingId index, final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(index));
         checkArgument(read.isPresent(), "No mapping stored for index: %s", index);
         return read.get().getEid();
@@ -241,8 +244,8 @@ public class EidMappingContext implements EidTranslator {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsEid(@Nonnull final MappingId index,
-                                            @Nonnull final MappingContext mappingContext) {
+    public boolean containsEid(@Nonnull final MappingId index,
+                               @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getMappingIid(index)).isPresent();
     }
 }
@@ -139,8 +139,8 @@ public class LispStateCustomizerTest extends InitializingReaderCustomizerTest<Li
 
         invokeInitTest(operationalPath, operational, configPath, config);
 
-        // first read is inside contains,second one is for logger,and its x 2 locator sets
-        verify(mappingContext, times(4)).read(namingContextId.child(Mappings.class));
+        // single read for logger, x 2 locator sets
+        verify(mappingContext, times(2)).read(namingContextId.child(Mappings.class));
         verify(mappingContext, times(1)).put(loc1Key, loc1Data);
         verify(mappingContext, times(1)).read(loc1Key);
         verify(mappingContext, times(1)).put(loc2Key, loc2Data);
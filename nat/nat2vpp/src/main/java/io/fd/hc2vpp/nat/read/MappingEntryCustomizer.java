@@ -223,7 +223,7 @@ final class MappingEntryCustomizer implements Ipv4Translator, Ipv6Translator,
                 throws ReadFailedException {
             final Nat64BibDump dump = new Nat64BibDump();
             dump.proto = -1; // dump entries for all protocols
-            return getReplyForRead(jvppNat.nat64BibDump(dump).toCompletableFuture(), identifier);
+            return getReplyForRead(jvppNat.nat64BibDump(dump).toCompletableFuture(), identifier, "nat64BibDump");
         }
     }
 }
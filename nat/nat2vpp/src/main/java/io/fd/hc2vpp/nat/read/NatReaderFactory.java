@@ -25,6 +25,7 @@ import static io.fd.hc2vpp.nat.NatIds.NAT_INSTANCES_ID;
 import static io.fd.hc2vpp.nat.NatIds.NAT_INSTANCE_ID;
 import static io.fd.hc2vpp.nat.NatIds.POLICY_ID;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import io.fd.hc2vpp.nat.util.MappingEntryContext;
@@ -32,6 +33,7 @@ import io.fd.honeycomb.translate.impl.read.GenericInitListReader;
 import io.fd.honeycomb.translate.impl.read.GenericListReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
+import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
 import io.fd.jvpp.nat.dto.Nat44StaticMappingDetailsReplyDump;
 import io.fd.jvpp.nat.dto.Nat64BibDetailsReplyDump;
@@ -43,6 +45,8 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev1806
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.InstancesBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.MappingTableBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntryBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntryKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.policy.Nat64Prefixes;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.policy.nat64.prefixes.DestinationIpv4Prefix;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -91,4 +95,16 @@ public class NatReaderFactory implements ReaderFactory {
                 Sets.newHashSet(InstanceIdentifier.create(Nat64Prefixes.class).child(DestinationIpv4Prefix.class)),
                 new GenericListReader<>(NAT64_PREFIXES_ID, new Nat64PrefixesCustomizer(jvppNat)));
     }
+
+    /**
+     * Creates mapping entry customizer outside of reader registry, e.g. for benchmarks.
+     */
+    @VisibleForTesting
+    public static InitializingListReaderCustomizer<MappingEntry, MappingEntryKey, MappingEntryBuilder>
+            mappingEntryCustomizer(
+                    @Nonnull final DumpCacheManager<Nat44StaticMappingDetailsReplyDump, Void> nat44DumpManager,
+                    @Nonnull final DumpCacheManager<Nat64BibDetailsReplyDump, Void> nat64DumpManager,
+                    @Nonnull final MappingEntryContext mappingEntryContext) {
+        return new MappingEntryCustomizer(nat44DumpManager, nat64DumpManager, mappingEntryContext);
+    }
 }
@@ -19,15 +19,20 @@ package io.fd.hc2vpp.nat.util;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Striped;
+import io.fd.hc2vpp.common.translate.util.IndexAllocator;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.jvpp.nat.dto.Nat44StaticMappingDetails;
 import io.fd.jvpp.nat.dto.Nat64BibDetails;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.LongStream;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
@@ -53,25 +58,44 @@ import org.slf4j.LoggerFactory;
 public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
 
     private static final Logger LOG = LoggerFactory.getLogger(MappingEntryContext.class);
+    private static final int LOCK_STRIPES = 16;
+
+    /**
+     * Guards adding of entries with explicit index within nat instance. Reads do not lock, as all data is held by
+     * transaction scoped {@link MappingContext}. Artificial indexes are assigned by {@link IndexAllocator} kept per nat
+     * instance. Keys of removed entries are remembered until their index is reused, so that allocator can check by
+     * keyed read whether the removal was committed.
+     */
+    private final Striped<Lock> instanceLocks = Striped.lock(LOCK_STRIPES);
+    private final Map<Long, IndexAllocator> allocators = new ConcurrentHashMap<>();
+    private final Map<Long, Map<Long, MappingEntryKey>> releasedKeys = new ConcurrentHashMap<>();
 
     /**
      * Add mapping entry to index mapping to context.
      */
-    public synchronized void addEntry(final long natInstanceId,
-                                      final long entryId,
-                                      @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
-                                      @Nonnull final MappingContext mappingContext) {
+    public void addEntry(final long natInstanceId,
+                         final long entryId,
+                         @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
+                         @Nonnull final MappingContext mappingContext) {
         final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, entryToKey(entry));
-        checkArgument(!containsEntry(natInstanceId, entry, mappingContext), "Mapping for %s already present", id);
-        mappingContext.put(id, toCtxMapEntry(entry, entryId));
+        final Lock lock = instanceLocks.get(natInstanceId);
+        lock.lock();
+        try {
+            checkArgument(!containsEntry(natInstanceId, entry, mappingContext), "Mapping for %s already present", id);
+            mappingContext.put(id, toCtxMapEntry(entry, entryId));
+            getAllocator(natInstanceId).reserve(entryId);
+            getReleasedKeys(natInstanceId).remove(entryId);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * Check whether mapping entry to index mapping already exists in context.
      */
-    public synchronized boolean containsEntry(final long natInstanceId,
-                                              @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
-                                              @Nonnull final MappingContext mappingContext) {
+    public boolean containsEntry(final long natInstanceId,
+                                 @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
+                                 @Nonnull final MappingContext mappingContext) {
         final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, entryToKey(entry));
         return mappingContext.read(id).isPresent();
     }
@@ -165,18 +189,24 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     /**
      * Delete mapping of mapping entry to index from context.
      */
-    public synchronized void removeEntry(final long natInstanceId,
-                                         @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
-                                         @Nonnull final MappingContext mappingContext) {
-        mappingContext.delete(getId(natInstanceId, entryToKey(entry)));
+    public void removeEntry(final long natInstanceId,
+                            @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
+                            @Nonnull final MappingContext mappingContext) {
+        final InstanceIdentifier<MappingEntry> id = getId(natInstanceId, entryToKey(entry));
+        final Optional<MappingEntry> removed = mappingContext.read(id);
+        mappingContext.delete(id);
+        removed.ifPresent(ctxEntry -> {
+            getReleasedKeys(natInstanceId).put(ctxEntry.getIndex(), ctxEntry.key());
+            getAllocator(natInstanceId).release(ctxEntry.getIndex());
+        });
     }
 
     /**
      * Find specific details in provided collection identified with provided index.
      */
-    public synchronized java.util.Optional<Nat44StaticMappingDetails> findDetailsNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
-                                                                                       final long natInstanceId, final long idx,
-                                                                                       @Nonnull final MappingContext mappingContext) {
+    public java.util.Optional<Nat44StaticMappingDetails> findDetailsNat44(@Nonnull final List<Nat44StaticMappingDetails> details,
+                                                                          final long natInstanceId, final long idx,
+                                                                          @Nonnull final MappingContext mappingContext) {
         // Find mapping entry for Index
         final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
                 .map(MappingTable::getMappingEntry)
@@ -196,9 +226,9 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     /**
      * Find specific details in provided collection identified with provided index.
      */
-    public synchronized java.util.Optional<Nat64BibDetails> findDetailsNat64(@Nonnull final List<Nat64BibDetails> details,
-                                                                             final long natInstanceId, final long idx,
-                                                                             @Nonnull final MappingContext mappingContext) {
+    public java.util.Optional<Nat64BibDetails> findDetailsNat64(@Nonnull final List<Nat64BibDetails> details,
+                                                                final long natInstanceId, final long idx,
+                                                                @Nonnull final MappingContext mappingContext) {
         // Find mapping entry for Index
         final MappingEntry ctxMappingEntry = mappingContext.read(getTableId(natInstanceId))
                 .map(MappingTable::getMappingEntry)
@@ -218,9 +248,9 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     /**
      * Get index for a mapping entry details or create an artificial one.
      */
-    public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
-                                                        @Nonnull final Nat44StaticMappingDetails details,
-                                                        @Nonnull final MappingContext mappingContext) {
+    public long getStoredOrArtificialIndex(final Long natInstanceId,
+                                           @Nonnull final Nat44StaticMappingDetails details,
+                                           @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getId(natInstanceId, entryToKey(details)))
                 .map(MappingEntry::getIndex)
                 .orElseGet(() -> getArtificialId(details, natInstanceId, mappingContext));
@@ -229,9 +259,9 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     /**
      * Get index for a mapping entry details or create an artificial one.
      */
-    public synchronized long getStoredOrArtificialIndex(final Long natInstanceId,
-                                                        @Nonnull final Nat64BibDetails details,
-                                                        @Nonnull final MappingContext mappingContext) {
+    public long getStoredOrArtificialIndex(final Long natInstanceId,
+                                           @Nonnull final Nat64BibDetails details,
+                                           @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getId(natInstanceId, entryToKey(details)))
                 .map(MappingEntry::getIndex)
                 .orElseGet(() -> getArtificialId(details, natInstanceId, mappingContext));
@@ -240,9 +270,9 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
     /**
      * Get index for a stored mapping entry.
      */
-    public synchronized Optional<Long> getStoredIndex(final long natInstanceId,
-                                                      @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
-                                                      @Nonnull final MappingContext mappingContext) {
+    public Optional<Long> getStoredIndex(final long natInstanceId,
+                                         @Nonnull final org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.nat.rev180628.nat.instances.instance.mapping.table.MappingEntry entry,
+                                         @Nonnull final MappingContext mappingContext) {
         return mappingContext.read(getId(natInstanceId, entryToKey(entry))).map(MappingEntry::getIndex);
     }
 
@@ -264,14 +294,42 @@ public class MappingEntryContext implements Ipv4Translator, Ipv6Translator {
         return artificialIdx;
     }
 
+    /**
+     * Returns next free index. Context data are scanned only on first allocation for nat instance.
+     */
     private long findFreeIndex(final long natInstanceId, final MappingContext mappingContext) {
+        final long index = getAllocator(natInstanceId).allocate(
+                () -> readIndexes(natInstanceId, mappingContext),
+                released -> isStillMapped(natInstanceId, released, mappingContext));
+        getReleasedKeys(natInstanceId).remove(index);
+        return index;
+    }
+
+    /**
+     * Checks whether entry removed from released index is still present in context data (removal was not committed).
+     */
+    private boolean isStillMapped(final long natInstanceId, final long index, final MappingContext mappingContext) {
+        final MappingEntryKey key = getReleasedKeys(natInstanceId).get(index);
+        if (key == null) {
+            return false;
+        }
+        final Optional<MappingEntry> entry = mappingContext.read(getId(natInstanceId, key));
+        return entry.isPresent() && entry.get().getIndex() == index;
+    }
+
+    private LongStream readIndexes(final long natInstanceId, final MappingContext mappingContext) {
         return mappingContext.read(getTableId(natInstanceId))
                 .map(MappingTable::getMappingEntry)
                 .orElse(Collections.emptyList())
                 .stream()
-                .map(MappingEntry::getIndex)
-                .max(Comparator.naturalOrder())
-                .map(i -> i + 1)
-                .orElse(0L);
+                .mapToLong(MappingEntry::getIndex);
+    }
+
+    private IndexAllocator getAllocator(final long natInstanceId) {
+        return allocators.computeIfAbsent(natInstanceId, id -> new IndexAllocator(0L));
+    }
+
+    private Map<Long, MappingEntryKey> getReleasedKeys(final long natInstanceId) {
+        return releasedKeys.computeIfAbsent(natInstanceId, id -> new ConcurrentHashMap<>());
     }
 }
@@ -167,6 +167,27 @@ public class MappingEntryContextTest implements Ipv4Translator {
         assertEquals(newEntryId, ctx.getStoredOrArtificialIndex(natId, newDetails, mappingCtx));
     }
 
+    @Test
+    public void testArtificialIndexReusedOnceRemovalCommitted() throws Exception {
+        final long natId = 0;
+        final long entryId = 55;
+        final MappingEntry entry = getEntry(entryId, "192.168.1.6/32", "17.14.4.7/32");
+        final InstanceIdentifier<org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.nat.context.rev161214.mapping.entry.context.attributes.nat.mapping.entry.context.nat.instance.mapping.table.MappingEntry>
+                entryCtxId = MappingEntryContext.getId(natId, MappingEntryContext.entryToKey(entry));
+        when(mappingCtx.read(MappingEntryContext.getTableId(natId)))
+                .thenReturn(Optional.of(new MappingTableBuilder()
+                        .setMappingEntry(Lists.newArrayList(MappingEntryContext.toCtxMapEntry(entry, entryId)))
+                        .build()));
+        when(mappingCtx.read(entryCtxId)).thenReturn(Optional.of(MappingEntryContext.toCtxMapEntry(entry, entryId)));
+
+        assertEquals(56, ctx.getStoredOrArtificialIndex(natId, getDetails(0, "192.168.1.97", "17.14.4.97"), mappingCtx));
+        ctx.removeEntry(natId, entry, mappingCtx);
+        // removal is not visible yet
+        assertEquals(57, ctx.getStoredOrArtificialIndex(natId, getDetails(0, "192.168.1.98", "17.14.4.98"), mappingCtx));
+        when(mappingCtx.read(entryCtxId)).thenReturn(Optional.empty());
+        assertEquals(55, ctx.getStoredOrArtificialIndex(natId, getDetails(0, "192.168.1.99", "17.14.4.99"), mappingCtx));
+    }
+
     private Nat44StaticMappingDetails getDetails(final long vrfId, final String localIp, final String externIp) {
         final Nat44StaticMappingDetails nat44StaticMappingDetails = new Nat44StaticMappingDetails();
         nat44StaticMappingDetails.vrfId = (int) vrfId;
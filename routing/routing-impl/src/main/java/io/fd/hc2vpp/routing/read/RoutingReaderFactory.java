@@ -16,10 +16,12 @@
 
 package io.fd.hc2vpp.routing.read;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.common.translate.util.SharedDumpCache;
 import io.fd.hc2vpp.routing.Ipv4RoutingNodes;
 import io.fd.hc2vpp.routing.Ipv6RoutingNodes;
 import io.fd.hc2vpp.routing.RoutingConfiguration;
@@ -27,6 +29,7 @@ import io.fd.hc2vpp.routing.RoutingIIds;
 import io.fd.honeycomb.translate.impl.read.GenericListReader;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.read.registry.ModifiableReaderRegistryBuilder;
+import io.fd.honeycomb.translate.spi.read.ListReaderCustomizer;
 import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
 import io.fd.jvpp.core.dto.Ip6FibDetailsReplyDump;
 import io.fd.jvpp.core.dto.Ip6FibDump;
@@ -39,6 +42,8 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicas
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.Ipv4;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.Ipv4Builder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv4.Route;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv4.RouteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv4.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.ipv4.RouteKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.Ipv6;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.ipv6.unicast.routing.rev180313.routing.control.plane.protocols.control.plane.protocol._static.routes.Ipv6Builder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.routing.rev180313.RoutingBuilder;
@@ -73,6 +78,9 @@ public final class RoutingReaderFactory implements ReaderFactory, Ipv4RoutingNod
     @Inject
     private FutureJVppCore vppApi;
 
+    @Inject(optional = true)
+    private SharedDumpCache sharedDumpCache = SharedDumpCache.disabled();
+
     @Override
     public void init(@Nonnull final ModifiableReaderRegistryBuilder registry) {
         final DumpCacheManager<IpFibDetailsReplyDump, Void> ipv4DumpManager = newIpv4RoutesDumpManager(vppApi);
@@ -92,6 +100,21 @@ public final class RoutingReaderFactory implements ReaderFactory, Ipv4RoutingNod
                                   interfaceContext, routeContext, routingProtocolContext);
     }
 
+    /**
+     * Creates ipv4 route customizer outside of reader registry, e.g. for benchmarks.
+     */
+    @VisibleForTesting
+    public static ListReaderCustomizer<Route, RouteKey, RouteBuilder> ipv4RouteCustomizer(
+        @Nonnull final DumpCacheManager<IpFibDetailsReplyDump, Void> ipv4DumpManager,
+        @Nonnull final RoutingConfiguration configuration,
+        @Nonnull final MultiNamingContext routeHopContext,
+        @Nonnull final NamingContext interfaceContext,
+        @Nonnull final NamingContext routeContext,
+        @Nonnull final NamingContext routingProtocolContext) {
+        return new Ipv4RouteCustomizer(ipv4DumpManager, configuration, routeHopContext, interfaceContext,
+                                       routeContext, routingProtocolContext);
+    }
+
     private static InstanceIdentifier<Ipv4> ipv4Identifier(
         final InstanceIdentifier<StaticRoutes1> staticRoutes2InstanceIdentifier) {
         return staticRoutes2InstanceIdentifier.child(Ipv4.class);
@@ -114,9 +137,9 @@ public final class RoutingReaderFactory implements ReaderFactory, Ipv4RoutingNod
     private DumpCacheManager<IpFibDetailsReplyDump, Void> newIpv4RoutesDumpManager(
         @Nonnull final FutureJVppCore vppApi) {
         return new DumpCacheManager.DumpCacheManagerBuilder<IpFibDetailsReplyDump, Void>()
-            .withExecutor(
+            .withExecutor(sharedDumpCache.cached("ipFibDump",
                 (identifier, params) -> getReplyForRead(vppApi.ipFibDump(new IpFibDump()).toCompletableFuture(),
-                                                        identifier))
+                                                        identifier, "ipFibDump")))
             .acceptOnly(IpFibDetailsReplyDump.class)
             .build();
     }
@@ -124,9 +147,9 @@ public final class RoutingReaderFactory implements ReaderFactory, Ipv4RoutingNod
     private DumpCacheManager<Ip6FibDetailsReplyDump, Void> newIpv6RoutesDumpManager(
         @Nonnull final FutureJVppCore vppApi) {
         return new DumpCacheManager.DumpCacheManagerBuilder<Ip6FibDetailsReplyDump, Void>()
-            .withExecutor(
+            .withExecutor(sharedDumpCache.cached("ip6FibDump",
                 (identifier, params) -> getReplyForRead(
-                    vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier))
+                    vppApi.ip6FibDump(new Ip6FibDump()).toCompletableFuture(), identifier, "ip6FibDump")))
             .acceptOnly(Ip6FibDetailsReplyDump.class)
             .build();
     }
@@ -20,6 +20,7 @@ import java.util.Optional;
 import com.google.common.base.Preconditions;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.JvppRequestPipeline;
 import io.fd.hc2vpp.common.translate.util.MultiNamingContext;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.routing.naming.Ipv4RouteNamesFactory;
@@ -202,14 +203,18 @@ public class Ipv4RouteCustomizer extends FutureJVppCustomizer
                 .sorted(Comparator.comparing(NextHop::getIndex))
                 .collect(Collectors.toList());
 
+        // hops are independent, send requests without waiting for replies (VPP processes them in order)
+        final JvppRequestPipeline pipeline = new JvppRequestPipeline();
         for (NextHop hop : orderedHops) {
             LOG.debug("Writing hop {} for route {}", hop, identifier);
 
             final IpAddDelRoute request = multipathHopRequestFactory
                     .createIpv4MultipathHopRequest(isAdd, parentProtocolName, route, hop, mappingContext);
 
-            writeRoute(request, identifier);
+            LOG.debug("Writing request {} for path {}", request, identifier);
+            pipeline.submit(identifier, () -> getFutureJVpp().ipAddDelRoute(request));
         }
+        pipeline.join();
 
         return orderedHops;
     }
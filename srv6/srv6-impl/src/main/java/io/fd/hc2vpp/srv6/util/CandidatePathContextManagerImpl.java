@@ -17,9 +17,11 @@
 
 package io.fd.hc2vpp.srv6.util;
 
-import java.util.Optional;
+import com.google.common.util.concurrent.Striped;
 import io.fd.honeycomb.translate.MappingContext;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.yang.gen.v1.http.cisco.com.ns.yang.oc.srte.policy.rev170918.ProvisioningMethodConfig;
@@ -41,6 +43,8 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 public class CandidatePathContextManagerImpl implements CandidatePathContextManager {
 
     private static final long DEFAULT_PREFERENCE = 100L;
+    private static final int LOCK_STRIPES = 16;
+    private final Striped<Lock> bsidLocks = Striped.lock(LOCK_STRIPES);
     private AtomicLong distinguisher;
 
     private final InstanceIdentifier<Srv6CandidatePathMappings> ctxIid;
@@ -73,18 +77,32 @@ public class CandidatePathContextManagerImpl implements CandidatePathContextMana
 
     @Override
     @Nonnull
-    public synchronized Srv6CandidatePathMapping getCandidatePath(@Nonnull final Ipv6Address bsid,
-                                                                  @Nonnull final MappingContext ctx) {
+    public Srv6CandidatePathMapping getCandidatePath(@Nonnull final Ipv6Address bsid,
+                                                     @Nonnull final MappingContext ctx) {
+        final Optional<Srv6CandidatePathMapping> mapping = findCandidatePath(bsid, ctx);
+        if (mapping.isPresent()) {
+            return mapping.get();
+        }
+
+        // serialize only creation of artificial mapping for the same bsid, so that single distinguisher is assigned
+        final Lock lock = bsidLocks.get(bsid.getValue());
+        lock.lock();
+        try {
+            return findCandidatePath(bsid, ctx).orElseGet(() -> getArtificialMapping(bsid, ctx, bsid.getValue()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Optional<Srv6CandidatePathMapping> findCandidatePath(@Nonnull final Ipv6Address bsid,
+                                                                 @Nonnull final MappingContext ctx) {
         final Optional<Srv6CandidatePathMappings> read = ctx.read(ctxIid);
         if (read.isPresent()) {
-            java.util.Optional<Srv6CandidatePathMapping> mappingOpt = read.get().getSrv6CandidatePathMapping().stream()
+            return read.get().getSrv6CandidatePathMapping().stream()
                     .filter(srv6CandidatePathMapping -> srv6CandidatePathMapping.getBsid().getValue()
                             .equals(bsid.getValue())).findAny();
-            if (mappingOpt.isPresent()) {
-                return mappingOpt.get();
-            }
         }
-        return getArtificialMapping(bsid, ctx, bsid.getValue());
+        return Optional.empty();
     }
 
     private Srv6CandidatePathMapping getArtificialMapping(final @Nonnull Ipv6Address bsid,
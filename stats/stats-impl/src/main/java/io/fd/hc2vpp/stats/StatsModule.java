@@ -21,7 +21,10 @@ import com.google.inject.AbstractModule;
 import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import io.fd.hc2vpp.stats.jvpp.JVppStatsProvider;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSamplerProvider;
 import io.fd.jvpp.stats.future.FutureJVppStatsFacade;
+import net.jmob.guice.conf.core.ConfigurationModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,10 +48,16 @@ public class StatsModule extends AbstractModule {
     @Override
     protected void configure() {
         LOG.debug("Installing Stats module");
+        install(ConfigurationModule.create());
+        requestInjection(StatsConfiguration.class);
 
         // Bind to Plugin's JVPP
         bind(FutureJVppStatsFacade.class).toProvider(jvppStatsProviderClass).in(Singleton.class);
 
+        // Interface statistics sampling, started and stopped together with interface statistics collection
+        bind(InterfaceStatisticsSampler.class).toProvider(InterfaceStatisticsSamplerProvider.class)
+                .in(Singleton.class);
+
         LOG.info("Module Stats successfully configured");
     }
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.stats.sampler;
+
+import com.google.common.base.MoreObjects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Counter rates and deltas of single interface computed by {@link InterfaceStatisticsSampler}.
+ */
+@Immutable
+public final class InterfaceCounterRates {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final int swIfIndex;
+    private final long sampleIntervalMillis;
+    private final long inPacketsPerSecond;
+    private final long inBitsPerSecond;
+    private final long outPacketsPerSecond;
+    private final long outBitsPerSecond;
+    private final long inOctetsDelta;
+    private final long inPacketsDelta;
+    private final long inErrorsDelta;
+    private final long outOctetsDelta;
+    private final long outPacketsDelta;
+    private final long outErrorsDelta;
+
+    /**
+     * @param swIfIndex   sw_if_index of the interface
+     * @param delta       counter deltas between the last two samples, in order in-octets, in-packets, in-errors,
+     *                    out-octets, out-packets, out-errors
+     * @param deltaNanos  time elapsed between the last two samples
+     * @param window      counter deltas between the oldest and the last sample, in the same order
+     * @param windowNanos time elapsed between the oldest and the last sample
+     */
+    public InterfaceCounterRates(final int swIfIndex, final long[] delta, final long deltaNanos,
+                                 final long[] window, final long windowNanos) {
+        this.swIfIndex = swIfIndex;
+        this.sampleIntervalMillis = TimeUnit.NANOSECONDS.toMillis(deltaNanos);
+        this.inPacketsPerSecond = perSecond(window[InterfaceStatisticsSampler.IN_PACKETS], windowNanos);
+        this.inBitsPerSecond = perSecond(Byte.SIZE * window[InterfaceStatisticsSampler.IN_OCTETS], windowNanos);
+        this.outPacketsPerSecond = perSecond(window[InterfaceStatisticsSampler.OUT_PACKETS], windowNanos);
+        this.outBitsPerSecond = perSecond(Byte.SIZE * window[InterfaceStatisticsSampler.OUT_OCTETS], windowNanos);
+        this.inOctetsDelta = delta[InterfaceStatisticsSampler.IN_OCTETS];
+        this.inPacketsDelta = delta[InterfaceStatisticsSampler.IN_PACKETS];
+        this.inErrorsDelta = delta[InterfaceStatisticsSampler.IN_ERRORS];
+        this.outOctetsDelta = delta[InterfaceStatisticsSampler.OUT_OCTETS];
+        this.outPacketsDelta = delta[InterfaceStatisticsSampler.OUT_PACKETS];
+        this.outErrorsDelta = delta[InterfaceStatisticsSampler.OUT_ERRORS];
+    }
+
+    private static long perSecond(final long delta, final long nanos) {
+        return nanos > 0
+                ? Math.round(delta * NANOS_PER_SECOND / nanos)
+                : 0;
+    }
+
+    public int getSwIfIndex() {
+        return swIfIndex;
+    }
+
+    public long getSampleIntervalMillis() {
+        return sampleIntervalMillis;
+    }
+
+    public long getInPacketsPerSecond() {
+        return inPacketsPerSecond;
+    }
+
+    public long getInBitsPerSecond() {
+        return inBitsPerSecond;
+    }
+
+    public long getOutPacketsPerSecond() {
+        return outPacketsPerSecond;
+    }
+
+    public long getOutBitsPerSecond() {
+        return outBitsPerSecond;
+    }
+
+    public long getInOctetsDelta() {
+        return inOctetsDelta;
+    }
+
+    public long getInPacketsDelta() {
+        return inPacketsDelta;
+    }
+
+    public long getInErrorsDelta() {
+        return inErrorsDelta;
+    }
+
+    public long getOutOctetsDelta() {
+        return outOctetsDelta;
+    }
+
+    public long getOutPacketsDelta() {
+        return outPacketsDelta;
+    }
+
+    public long getOutErrorsDelta() {
+        return outErrorsDelta;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("swIfIndex", swIfIndex)
+                .add("sampleIntervalMillis", sampleIntervalMillis)
+                .add("inPacketsPerSecond", inPacketsPerSecond)
+                .add("inBitsPerSecond", inBitsPerSecond)
+                .add("outPacketsPerSecond", outPacketsPerSecond)
+                .add("outBitsPerSecond", outBitsPerSecond)
+                .add("inOctetsDelta", inOctetsDelta)
+                .add("inPacketsDelta", inPacketsDelta)
+                .add("inErrorsDelta", inErrorsDelta)
+                .add("outOctetsDelta", outOctetsDelta)
+                .add("outPacketsDelta", outPacketsDelta)
+                .add("outErrorsDelta", outErrorsDelta)
+                .toString();
+    }
+}
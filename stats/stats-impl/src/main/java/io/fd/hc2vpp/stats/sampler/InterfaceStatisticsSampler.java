@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.stats.sampler;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.jvpp.stats.dto.InterfaceStatistics;
+import io.fd.jvpp.stats.dto.InterfaceStatisticsDetailsReplyDump;
+import io.fd.jvpp.stats.dto.InterfaceStatisticsDump;
+import io.fd.jvpp.stats.future.FutureJVppStatsFacade;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Periodically samples statistics of all interfaces and computes their counter rates and deltas.
+ *
+ * <p/>Samples are kept in ring buffer of {@code historySize} slots. Each slot holds counters of all interfaces in
+ * single primitive array addressed by sw_if_index. Slot arrays are reused, so sampling allocates only when interface
+ * with higher sw_if_index appears. Deltas are computed between the last two samples, rates are averaged over all
+ * retained samples.
+ *
+ * <p/>Sampling runs only between {@link #start()} and {@link #stop()} and only if sampling interval is positive.
+ */
+@ThreadSafe
+public class InterfaceStatisticsSampler implements JvppReplyConsumer, AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceStatisticsSampler.class);
+
+    static final int IN_OCTETS = 0;
+    static final int IN_PACKETS = 1;
+    static final int IN_ERRORS = 2;
+    static final int OUT_OCTETS = 3;
+    static final int OUT_PACKETS = 4;
+    static final int OUT_ERRORS = 5;
+    // set to 1 if interface was present in the sample, follows the counters
+    private static final int PRESENT = 6;
+    private static final int STRIDE = PRESENT + 1;
+
+    private final FutureJVppStatsFacade jvppStats;
+    private final int samplingInterval;
+    private final long[][] samples;
+    private final long[] timestamps;
+    private final List<Consumer<List<InterfaceCounterRates>>> listeners = new CopyOnWriteArrayList<>();
+    private int latest = -1;
+    private int sampleCount;
+    private ScheduledExecutorService executor;
+
+    /**
+     * @param jvppStats        jvpp stats facade used for sampling
+     * @param samplingInterval interval between samples in seconds, 0 disables sampling
+     * @param historySize      number of retained samples
+     */
+    public InterfaceStatisticsSampler(@Nonnull final FutureJVppStatsFacade jvppStats,
+                                      @Nonnegative final int samplingInterval,
+                                      final int historySize) {
+        checkArgument(samplingInterval >= 0, "Sampling interval cannot be < 0");
+        checkArgument(historySize >= 2, "At least two samples are needed to compute rates, but %s configured",
+                historySize);
+        this.jvppStats = checkNotNull(jvppStats, "JVpp Stats facade should not be null");
+        this.samplingInterval = samplingInterval;
+        this.samples = new long[historySize][0];
+        this.timestamps = new long[historySize];
+    }
+
+    public boolean isSamplingEnabled() {
+        return samplingInterval > 0;
+    }
+
+    /**
+     * Starts periodic sampling, samples taken before previous {@link #stop()} are discarded.
+     */
+    public synchronized void start() {
+        if (!isSamplingEnabled() || executor != null) {
+            return;
+        }
+        latest = -1;
+        sampleCount = 0;
+        executor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("interface-statistics-sampler-%d").setDaemon(true).build());
+        executor.scheduleWithFixedDelay(this::sample, 0, samplingInterval, TimeUnit.SECONDS);
+        LOG.debug("Interface statistics sampling started with interval {}s", samplingInterval);
+    }
+
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdownNow();
+        executor = null;
+        LOG.debug("Interface statistics sampling stopped");
+    }
+
+    /**
+     * Registers listener notified with rates of all interfaces after every sample.
+     *
+     * @return registration, closing it removes the listener
+     */
+    public AutoCloseable addListener(@Nonnull final Consumer<List<InterfaceCounterRates>> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Returns rates of interface with given sw_if_index, if the interface was present in at least the last two
+     * samples.
+     */
+    public synchronized Optional<InterfaceCounterRates> getRates(final int swIfIndex) {
+        if (sampleCount < 2 || swIfIndex < 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(computeRates(swIfIndex));
+    }
+
+    /**
+     * Returns rates of all interfaces present in at least the last two samples.
+     */
+    public synchronized List<InterfaceCounterRates> getAllRates() {
+        if (sampleCount < 2) {
+            return Collections.emptyList();
+        }
+        final List<InterfaceCounterRates> rates = new ArrayList<>();
+        for (int swIfIndex = 0; swIfIndex * STRIDE < samples[latest].length; swIfIndex++) {
+            final InterfaceCounterRates interfaceRates = computeRates(swIfIndex);
+            if (interfaceRates != null) {
+                rates.add(interfaceRates);
+            }
+        }
+        return rates;
+    }
+
+    @VisibleForTesting
+    void sample() {
+        try {
+            final InterfaceStatisticsDetailsReplyDump reply =
+                    getReply(jvppStats.interfaceStatisticsDump(new InterfaceStatisticsDump()).toCompletableFuture());
+            if (reply == null || reply.interfaceStatisticsDetails == null
+                    || reply.interfaceStatisticsDetails.interfaceStatistics == null) {
+                LOG.warn("Received null response for interface statistics dump: {}", reply);
+                return;
+            }
+            record(reply.interfaceStatisticsDetails.interfaceStatistics, System.nanoTime());
+            notifyListeners();
+        } catch (Exception e) {
+            // exception would cancel further sampling, so just log it and try again next time
+            LOG.warn("Unable to sample interface statistics", e);
+        }
+    }
+
+    @VisibleForTesting
+    synchronized void record(@Nonnull final InterfaceStatistics[] statistics, final long timestampNanos) {
+        int maxSwIfIndex = -1;
+        for (final InterfaceStatistics stats : statistics) {
+            maxSwIfIndex = Math.max(maxSwIfIndex, stats.swIfIndex);
+        }
+        final int slot = slot(latest + 1);
+        final int length = (maxSwIfIndex + 1) * STRIDE;
+        if (samples[slot].length < length) {
+            samples[slot] = new long[length];
+        } else {
+            Arrays.fill(samples[slot], 0);
+        }
+
+        final long[] sample = samples[slot];
+        for (final InterfaceStatistics stats : statistics) {
+            if (stats.swIfIndex < 0) {
+                continue;
+            }
+            final int base = stats.swIfIndex * STRIDE;
+            sample[base + IN_OCTETS] = stats.inBytes;
+            sample[base + IN_PACKETS] = stats.inUnicastPkts + stats.inMulticastPkts + stats.inBroadcastPkts;
+            sample[base + IN_ERRORS] = stats.inErrors;
+            sample[base + OUT_OCTETS] = stats.outBytes;
+            sample[base + OUT_PACKETS] = stats.outUnicastPkts + stats.outMulticastPkts + stats.outBroadcastPkts;
+            sample[base + OUT_ERRORS] = stats.outErrors;
+            sample[base + PRESENT] = 1;
+        }
+        timestamps[slot] = timestampNanos;
+        latest = slot;
+        sampleCount = Math.min(sampleCount + 1, samples.length);
+    }
+
+    private void notifyListeners() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        final List<InterfaceCounterRates> rates = getAllRates();
+        if (rates.isEmpty()) {
+            return;
+        }
+        for (final Consumer<List<InterfaceCounterRates>> listener : listeners) {
+            try {
+                listener.accept(rates);
+            } catch (RuntimeException e) {
+                LOG.warn("Listener {} failed to process interface counter rates", listener, e);
+            }
+        }
+    }
+
+    private InterfaceCounterRates computeRates(final int swIfIndex) {
+        final int base = swIfIndex * STRIDE;
+        final int previous = slot(latest - 1);
+        if (!isPresent(latest, base) || !isPresent(previous, base)) {
+            return null;
+        }
+        // oldest retained sample, interface was present in all samples since
+        int oldest = previous;
+        for (int age = 2; age < sampleCount && isPresent(slot(latest - age), base); age++) {
+            oldest = slot(latest - age);
+        }
+        return new InterfaceCounterRates(swIfIndex,
+                deltas(previous, base), timestamps[latest] - timestamps[previous],
+                deltas(oldest, base), timestamps[latest] - timestamps[oldest]);
+    }
+
+    private long[] deltas(final int fromSlot, final int base) {
+        final long[] from = samples[fromSlot];
+        final long[] to = samples[latest];
+        final long[] deltas = new long[PRESENT];
+        for (int counter = 0; counter < PRESENT; counter++) {
+            final long before = from[base + counter];
+            final long after = to[base + counter];
+            // counters start from 0 again if interface was recreated with the same sw_if_index
+            deltas[counter] = after >= before
+                    ? after - before
+                    : after;
+        }
+        return deltas;
+    }
+
+    private boolean isPresent(final int slot, final int base) {
+        return base + PRESENT < samples[slot].length && samples[slot][base + PRESENT] != 0;
+    }
+
+    private int slot(final int position) {
+        return Math.floorMod(position, samples.length);
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.stats.sampler;
+
+import com.google.inject.Inject;
+import io.fd.hc2vpp.stats.StatsConfiguration;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import io.fd.jvpp.stats.future.FutureJVppStatsFacade;
+
+public class InterfaceStatisticsSamplerProvider extends ProviderTrait<InterfaceStatisticsSampler> {
+
+    @Inject
+    private FutureJVppStatsFacade jvppStats;
+
+    @Inject
+    private StatsConfiguration configuration;
+
+    @Override
+    protected InterfaceStatisticsSampler create() {
+        return new InterfaceStatisticsSampler(jvppStats, configuration.getSamplingInterval(),
+                configuration.getSampleHistorySize());
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.stats.sampler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.fd.jvpp.stats.dto.InterfaceStatistics;
+import io.fd.jvpp.stats.dto.InterfaceStatisticsDetails;
+import io.fd.jvpp.stats.dto.InterfaceStatisticsDetailsReplyDump;
+import io.fd.jvpp.stats.future.FutureJVppStatsFacade;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+public class InterfaceStatisticsSamplerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private FutureJVppStatsFacade jvppStats;
+
+    private InterfaceStatisticsSampler sampler;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        sampler = new InterfaceStatisticsSampler(jvppStats, 1, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSingleSampleHistory() {
+        new InterfaceStatisticsSampler(jvppStats, 1, 1);
+    }
+
+    @Test
+    public void testNoRatesBeforeSecondSample() {
+        sampler.record(new InterfaceStatistics[] {stats(1, 100, 10)}, 0);
+        assertFalse(sampler.getRates(1).isPresent());
+        assertTrue(sampler.getAllRates().isEmpty());
+    }
+
+    @Test
+    public void testRatesAndDeltas() {
+        sampler.record(new InterfaceStatistics[] {stats(1, 1000, 10)}, 0);
+        sampler.record(new InterfaceStatistics[] {stats(1, 3000, 30)}, 2 * SECOND);
+
+        final InterfaceCounterRates rates = sampler.getRates(1).get();
+        assertEquals(2000, rates.getSampleIntervalMillis());
+        // 3 packet types, each with 20 packets in 2 seconds
+        assertEquals(30, rates.getInPacketsPerSecond());
+        assertEquals(30, rates.getOutPacketsPerSecond());
+        assertEquals(8000, rates.getInBitsPerSecond());
+        assertEquals(8000, rates.getOutBitsPerSecond());
+        assertEquals(2000, rates.getInOctetsDelta());
+        assertEquals(60, rates.getInPacketsDelta());
+        assertEquals(20, rates.getInErrorsDelta());
+        assertEquals(2000, rates.getOutOctetsDelta());
+        assertEquals(60, rates.getOutPacketsDelta());
+        assertEquals(20, rates.getOutErrorsDelta());
+        assertFalse(sampler.getRates(0).isPresent());
+        assertFalse(sampler.getRates(2).isPresent());
+    }
+
+    @Test
+    public void testRatesAveragedOverRetainedSamples() {
+        sampler.record(new InterfaceStatistics[] {stats(0, 0, 0)}, 0);
+        sampler.record(new InterfaceStatistics[] {stats(0, 1000, 0)}, SECOND);
+        sampler.record(new InterfaceStatistics[] {stats(0, 2000, 0)}, 2 * SECOND);
+        sampler.record(new InterfaceStatistics[] {stats(0, 5000, 0)}, 3 * SECOND);
+
+        // first sample was overwritten, rate is computed from the last three
+        final InterfaceCounterRates rates = sampler.getRates(0).get();
+        assertEquals(16000, rates.getInBitsPerSecond());
+        assertEquals(3000, rates.getInOctetsDelta());
+    }
+
+    @Test
+    public void testNewInterface() {
+        sampler.record(new InterfaceStatistics[] {stats(0, 0, 0)}, 0);
+        sampler.record(new InterfaceStatistics[] {stats(0, 1000, 0), stats(4, 500, 0)}, SECOND);
+        assertFalse(sampler.getRates(4).isPresent());
+
+        sampler.record(new InterfaceStatistics[] {stats(0, 2000, 0), stats(4, 1500, 0)}, 3 * SECOND);
+        // interface 4 was not present in the oldest sample
+        assertEquals(4000, sampler.getRates(4).get().getInBitsPerSecond());
+        assertEquals(2, sampler.getAllRates().size());
+    }
+
+    @Test
+    public void testRecreatedInterface() {
+        sampler.record(new InterfaceStatistics[] {stats(2, 5000, 50)}, 0);
+        sampler.record(new InterfaceStatistics[] {stats(2, 700, 7)}, SECOND);
+
+        final InterfaceCounterRates rates = sampler.getRates(2).get();
+        assertEquals(700, rates.getInOctetsDelta());
+        assertEquals(7, rates.getInErrorsDelta());
+    }
+
+    @Test
+    public void testSampleNotifiesListeners() throws Exception {
+        final List<List<InterfaceCounterRates>> notified = new ArrayList<>();
+        sampler.addListener(notified::add);
+        when(jvppStats.interfaceStatisticsDump(any()))
+                .thenReturn(CompletableFuture.completedFuture(reply(stats(1, 100, 1))))
+                .thenReturn(CompletableFuture.completedFuture(reply(stats(1, 200, 2))));
+
+        sampler.sample();
+        assertTrue(notified.isEmpty());
+        sampler.sample();
+        assertEquals(1, notified.size());
+        assertEquals(100, notified.get(0).get(0).getInOctetsDelta());
+    }
+
+    @Test
+    public void testClosedListener() throws Exception {
+        final List<List<InterfaceCounterRates>> notified = new ArrayList<>();
+        sampler.addListener(notified::add).close();
+        when(jvppStats.interfaceStatisticsDump(any()))
+                .thenReturn(CompletableFuture.completedFuture(reply(stats(1, 100, 1))));
+
+        sampler.sample();
+        sampler.sample();
+        assertTrue(notified.isEmpty());
+        assertTrue(sampler.getRates(1).isPresent());
+    }
+
+    @Test
+    public void testFailedSample() {
+        final CompletableFuture<InterfaceStatisticsDetailsReplyDump> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("test"));
+        when(jvppStats.interfaceStatisticsDump(any())).thenReturn(failed);
+
+        sampler.sample();
+        assertTrue(sampler.getAllRates().isEmpty());
+    }
+
+    private static InterfaceStatistics stats(final int swIfIndex, final long bytes, final int count) {
+        return new InterfaceStatistics(swIfIndex, count, count, count, count, bytes, count, count, count, count, bytes);
+    }
+
+    private static InterfaceStatisticsDetailsReplyDump reply(final InterfaceStatistics stats) {
+        final InterfaceStatisticsDetailsReplyDump reply = new InterfaceStatisticsDetailsReplyDump();
+        reply.interfaceStatisticsDetails = new InterfaceStatisticsDetails(1, 1);
+        reply.interfaceStatisticsDetails.interfaceStatistics[0] = stats;
+        return reply;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po;
+
+import net.jmob.guice.conf.core.BindConfig;
+import net.jmob.guice.conf.core.InjectConfig;
+import net.jmob.guice.conf.core.Syntax;
+
+@BindConfig(value = "v3po", syntax = Syntax.JSON)
+public class V3poConfiguration {
+
+    /**
+     * Maximum number of interfaces with interface notification waiting for dispatch, notifications of other
+     * interfaces are dropped.
+     */
+    @InjectConfig("interface-notifications-queue-capacity")
+    private int interfaceNotificationsQueueCapacity;
+
+    /**
+     * Interval in milliseconds between dispatches of interface notifications. Only the latest notification of each
+     * interface received within the interval is dispatched.
+     */
+    @InjectConfig("interface-notifications-coalesce-window")
+    private long interfaceNotificationsCoalesceWindow;
+
+    public int getInterfaceNotificationsQueueCapacity() {
+        return interfaceNotificationsQueueCapacity;
+    }
+
+    public long getInterfaceNotificationsCoalesceWindow() {
+        return interfaceNotificationsCoalesceWindow;
+    }
+}
@@ -22,6 +22,7 @@ import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
 import com.google.inject.name.Names;
+import io.fd.hc2vpp.common.translate.util.IndexedNamingContext;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.stats.jvpp.JVppStatsProvider;
 import io.fd.hc2vpp.v3po.factory.InterfacesReaderFactory;
@@ -32,16 +33,20 @@ import io.fd.hc2vpp.v3po.factory.L2HoneycombWriterFactory;
 import io.fd.hc2vpp.v3po.factory.L2StateHoneycombReaderFactory;
 import io.fd.hc2vpp.v3po.factory.SubinterfaceAugmentationWriterFactory;
 import io.fd.hc2vpp.v3po.factory.SubinterfaceAugmentationReaderFactory;
+import io.fd.hc2vpp.v3po.notification.CounterRatesNotificationProducerProvider;
 import io.fd.hc2vpp.v3po.notification.InterfaceChangeNotificationProducerProvider;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManagerProvider;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStateCache;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManager;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManagerProvider;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.honeycomb.translate.write.WriterFactory;
 import io.fd.jvpp.stats.future.FutureJVppStatsFacade;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nonnull;
+import net.jmob.guice.conf.core.ConfigurationModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,16 +67,20 @@ public class V3poModule extends AbstractModule {
     @Override
     protected void configure() {
         LOG.debug("Installing V3PO module");
+        install(ConfigurationModule.create());
+        requestInjection(V3poConfiguration.class);
 
         // TODO HONEYCOMB-173 put into constants
         // Naming contexts
         bind(NamingContext.class)
                 .annotatedWith(Names.named("interface-context"))
-                .toInstance(new NamingContext("interface-", "interface-context"));
+                .toInstance(new IndexedNamingContext("interface-", "interface-context"));
         bind(NamingContext.class)
                 .annotatedWith(Names.named("bridge-domain-context"))
                 .toInstance(new NamingContext("bridge-domain-", "bridge-domain-context"));
 
+        // Interface state shared by interface readers and interface notifications
+        bind(InterfaceStateCache.class).toInstance(new InterfaceStateCache(60, TimeUnit.SECONDS));
         bind(InterfaceCacheDumpManager.class).toProvider(InterfaceCacheDumpManagerProvider.class).in(Singleton.class);
         bind(InterfaceNamesDumpManager.class).toProvider(InterfaceNamesDumpManagerProvider.class).in(Singleton.class);
 
@@ -101,6 +110,7 @@ public class V3poModule extends AbstractModule {
         final Multibinder<ManagedNotificationProducer> notifiersBinder =
                 Multibinder.newSetBinder(binder(), ManagedNotificationProducer.class);
         notifiersBinder.addBinding().toProvider(InterfaceChangeNotificationProducerProvider.class);
+        notifiersBinder.addBinding().toProvider(CounterRatesNotificationProducerProvider.class);
 
         LOG.info("Module V3PO successfully configured");
     }
@@ -20,6 +20,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
 import io.fd.hc2vpp.v3po.DisabledInterfacesManager;
 import io.fd.hc2vpp.v3po.read.AfPacketCustomizer;
 import io.fd.hc2vpp.v3po.read.EthernetCustomizer;
@@ -27,6 +28,7 @@ import io.fd.hc2vpp.v3po.read.GreCustomizer;
 import io.fd.hc2vpp.v3po.read.InterfaceCustomizer;
 import io.fd.hc2vpp.v3po.read.InterfaceRoutingCustomizer;
 import io.fd.hc2vpp.v3po.read.InterfaceStatisticsCustomizer;
+import io.fd.hc2vpp.v3po.read.InterfaceStatisticsRatesCustomizer;
 import io.fd.hc2vpp.v3po.read.L2Customizer;
 import io.fd.hc2vpp.v3po.read.LoopbackCustomizer;
 import io.fd.hc2vpp.v3po.read.TapV2Customizer;
@@ -63,6 +65,9 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.span.a
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.pbb.rev190527.PbbRewriteInterfaceAugmentation;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.pbb.rev190527.PbbRewriteInterfaceAugmentationBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.pbb.rev190527.interfaces._interface.PbbRewrite;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.VppInterfaceStatisticsRatesAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.VppInterfaceStatisticsRatesAugmentationBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.interfaces._interface.statistics.Rates;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.Interfaces;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.InterfacesBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.Interface;
@@ -78,6 +83,7 @@ public final class InterfacesReaderFactory implements ReaderFactory {
     private final InterfaceCacheDumpManager ifaceDumpManager;
     private final FutureJVppCore jvpp;
     private final InterfaceStatisticsManager statisticsManager;
+    private final InterfaceStatisticsSampler statisticsSampler;
 
     static final InstanceIdentifier<Interfaces> IFC_STATE_ID =
             InstanceIdentifier.create(Interfaces.class);
@@ -90,7 +96,8 @@ public final class InterfacesReaderFactory implements ReaderFactory {
                                    @Named("bridge-domain-context") final NamingContext bdNamingCtx,
                                    final DisabledInterfacesManager ifcDisableContext,
                                    final InterfaceCacheDumpManager ifaceDumpManager,
-                                   final InterfaceStatisticsManager statisticsManager) {
+                                   final InterfaceStatisticsManager statisticsManager,
+                                   final InterfaceStatisticsSampler statisticsSampler) {
         this.jvpp = jvpp;
         this.jvppStats = jvppStats;
         this.ifcNamingCtx = ifcNamingCtx;
@@ -98,6 +105,7 @@ public final class InterfacesReaderFactory implements ReaderFactory {
         this.ifcDisableContext = ifcDisableContext;
         this.ifaceDumpManager = ifaceDumpManager;
         this.statisticsManager = statisticsManager;
+        this.statisticsSampler = statisticsSampler;
     }
 
     @Override
@@ -109,8 +117,15 @@ public final class InterfacesReaderFactory implements ReaderFactory {
                 new InterfaceCustomizer(ifcNamingCtx, ifcDisableContext, ifaceDumpManager)));
 
         // Interface Statistics
-        registry.add(new GenericReader<>(IFC_ID.child(Statistics.class),
+        final InstanceIdentifier<Statistics> statisticsId = IFC_ID.child(Statistics.class);
+        registry.add(new GenericReader<>(statisticsId,
                 new InterfaceStatisticsCustomizer(ifcNamingCtx, jvppStats, statisticsManager)));
+        // vpp-stats-rates.yang
+        final InstanceIdentifier<VppInterfaceStatisticsRatesAugmentation> ratesAugId =
+                statisticsId.augmentation(VppInterfaceStatisticsRatesAugmentation.class);
+        registry.addStructuralReader(ratesAugId, VppInterfaceStatisticsRatesAugmentationBuilder.class);
+        registry.add(new GenericReader<>(ratesAugId.child(Rates.class),
+                new InterfaceStatisticsRatesCustomizer(ifcNamingCtx, statisticsSampler, statisticsManager)));
         // v3po.yang
         initVppIfcAugmentationReaders(registry, IFC_ID);
 
@@ -132,7 +147,7 @@ public final class InterfacesReaderFactory implements ReaderFactory {
                 new LoopbackCustomizer(ifaceDumpManager)));
         //    Routing
         registry.add(new GenericInitReader<>(vppIfcAugId.child(Routing.class),
-                new InterfaceRoutingCustomizer(jvpp, ifcNamingCtx)));
+                new InterfaceRoutingCustomizer(jvpp, ifcNamingCtx, ifaceDumpManager)));
         //    TapV2
         registry.add(new GenericInitReader<>(vppIfcAugId.child(TapV2.class),
                 new TapV2Customizer(jvpp, ifcNamingCtx, ifaceDumpManager)));
@@ -103,7 +103,7 @@ public final class SubinterfaceAugmentationReaderFactory implements ReaderFactor
                 new GenericReader<>(l2Id.child(Rewrite.class),
                         new RewriteCustomizer(ifaceDumpManager)));
         final InstanceIdentifier<Routing> routingId = subIfcId.child(Routing.class);
-        registry.add(new GenericReader<>(routingId, new SubInterfaceRoutingCustomizer(jvpp, ifcCtx)));
+        registry.add(new GenericReader<>(routingId, new SubInterfaceRoutingCustomizer(jvpp, ifcCtx, ifaceDumpManager)));
 
         final InstanceIdentifier<VppSubinterfaceSpanAugmentation> spanAugId =
                 subIfcId.augmentation(VppSubinterfaceSpanAugmentation.class);
@@ -17,21 +17,19 @@
 package io.fd.hc2vpp.v3po.l2state;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Iterables;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.BridgeDomainDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
 import io.fd.honeycomb.translate.spi.read.InitializingListReaderCustomizer;
 import io.fd.jvpp.core.dto.BridgeDomainDetails;
-import io.fd.jvpp.core.dto.BridgeDomainDetailsReplyDump;
-import io.fd.jvpp.core.dto.BridgeDomainDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.BridgeDomains;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.BridgeDomainsStateBuilder;
@@ -49,11 +47,13 @@ public final class BridgeDomainCustomizer extends FutureJVppCustomizer
 
     private static final Logger LOG = LoggerFactory.getLogger(BridgeDomainCustomizer.class);
     private final NamingContext bdContext;
+    private final BridgeDomainDumpManager bdDumpManager;
 
     public BridgeDomainCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
                                   @Nonnull final NamingContext bdContext) {
         super(futureJVppCore);
         this.bdContext = Preconditions.checkNotNull(bdContext, "bdContext should not be null");
+        this.bdDumpManager = new BridgeDomainDumpManager(futureJVppCore);
     }
 
     @Override
@@ -69,15 +69,10 @@ public final class BridgeDomainCustomizer extends FutureJVppCustomizer
         final int bdId = bdContext.getIndex(key.getName(), context.getMappingContext());
         LOG.debug("vppstate.BridgeDomainCustomizer.readCurrentAttributes: bdId={}", bdId);
 
-        BridgeDomainDetailsReplyDump reply;
-        BridgeDomainDetails bridgeDomainDetails;
-        final BridgeDomainDump request = new BridgeDomainDump();
-        request.bdId = bdContext.getIndex(key.getName(), context.getMappingContext());
-        try {
-            reply = getFutureJVpp().bridgeDomainDump(request).toCompletableFuture().get();
-            bridgeDomainDetails = Iterables.getOnlyElement(reply.bridgeDomainDetails);
-        } catch (Exception e) {
-            LOG.debug("Unable to read bridge domain: {}", key.getName(), e);
+        final BridgeDomainDetails bridgeDomainDetails =
+                bdDumpManager.getBridgeDomains(id, context.getModificationCache()).get(bdId);
+        if (bridgeDomainDetails == null) {
+            LOG.debug("Unable to read bridge domain: {}", key.getName());
             return;
         }
 
@@ -113,29 +108,12 @@ public final class BridgeDomainCustomizer extends FutureJVppCustomizer
     @Override
     public List<BridgeDomainKey> getAllIds(@Nonnull final InstanceIdentifier<BridgeDomain> id,
                                            @Nonnull final ReadContext context) throws ReadFailedException {
-        final BridgeDomainDump request = new BridgeDomainDump();
-        request.bdId = -1; // dump call
-
-        BridgeDomainDetailsReplyDump reply;
-        try {
-            reply = getFutureJVpp().bridgeDomainDump(request).toCompletableFuture().get();
-        } catch (Exception e) {
-            throw new ReadFailedException(id, e);
-        }
-
-        if (reply == null || reply.bridgeDomainDetails == null) {
-            return Collections.emptyList();
-        }
-
-        final int bIdsLength = reply.bridgeDomainDetails.size();
-        LOG.debug("vppstate.BridgeDomainCustomizer.getAllIds: bIds.length={}", bIdsLength);
-        if (bIdsLength == 0) {
-            // No bridge domains
-            return Collections.emptyList();
-        }
+        final Map<Integer, BridgeDomainDetails> bridgeDomains =
+                bdDumpManager.getBridgeDomains(id, context.getModificationCache());
+        LOG.debug("vppstate.BridgeDomainCustomizer.getAllIds: bIds.length={}", bridgeDomains.size());
 
-        final List<BridgeDomainKey> allIds = new ArrayList<>(bIdsLength);
-        for (BridgeDomainDetails detail : reply.bridgeDomainDetails) {
+        final List<BridgeDomainKey> allIds = new ArrayList<>(bridgeDomains.size());
+        for (BridgeDomainDetails detail : bridgeDomains.values()) {
             logBridgeDomainDetails(detail);
 
             final String bName = bdContext.getName(detail.bdId, context.getMappingContext());
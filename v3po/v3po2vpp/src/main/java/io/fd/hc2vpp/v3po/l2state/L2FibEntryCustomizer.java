@@ -19,8 +19,10 @@ package io.fd.hc2vpp.v3po.l2state;
 import com.google.common.base.Preconditions;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
+import io.fd.hc2vpp.common.translate.util.MacTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.read.InterfaceDataTranslator;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -30,12 +32,13 @@ import io.fd.jvpp.core.dto.L2FibTableDetails;
 import io.fd.jvpp.core.dto.L2FibTableDetailsReplyDump;
 import io.fd.jvpp.core.dto.L2FibTableDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.L2FibFilter;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.L2FibForward;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.bridge.domains.state.BridgeDomain;
@@ -52,14 +55,19 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Reader customizer for L2 FIB entries of bridge domain.
+ *
+ * <p/>Whole L2 FIB table of bridge domain is read by single l2_fib_table_dump. Reads cannot be paged: the dump has
+ * no offset or cursor and jvpp collects all its details before the reply is completed.
+ */
 public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         implements InitializingListReaderCustomizer<L2FibEntry, L2FibEntryKey, L2FibEntryBuilder>, ByteDataTranslator,
-        InterfaceDataTranslator {
+        InterfaceDataTranslator, MacTranslator {
 
     private static final Logger LOG = LoggerFactory.getLogger(L2FibEntryCustomizer.class);
 
-    private static final Collector<L2FibTableDetails, ?, L2FibTableDetails> SINGLE_ITEM_COLLECTOR =
-            RWUtils.singleItemCollector();
+    private static final String L2FIB_INDEX_KEY = L2FibEntryCustomizer.class.getName() + "_l2FibIndex_";
 
     private final NamingContext bdContext;
     private final NamingContext interfaceContext;
@@ -81,26 +89,49 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         final int bdId = bdContext.getIndex(bridgeDomainKey.getName(), ctx.getMappingContext());
         LOG.debug("Reading L2 FIB entry: key={}. bridgeDomainKey={}, bdId={}", key, bridgeDomainKey, bdId);
 
+        final long mac;
         try {
-            // TODO HONEYCOMB-186 use cached l2FibTable
-            final L2FibTableDetails entry = dumpL2Fibs(id, bdId).stream().filter(e -> key.getPhysAddress()
-                    .equals(new PhysAddress(vppPhysAddrToYang((e.mac)))))
-                    .collect(SINGLE_ITEM_COLLECTOR);
-
-            builder.setAction(byteToBoolean(entry.filterMac)
-                    ? L2FibFilter.class
-                    : L2FibForward.class);
-            builder.setBridgedVirtualInterface(byteToBoolean(entry.bviMac));
-
-            if (entry.swIfIndex != -1) {
-                builder.setOutgoingInterface(interfaceContext.getName(entry.swIfIndex, ctx.getMappingContext()));
-            }
-            builder.setStaticConfig(byteToBoolean(entry.staticMac));
-            builder.setPhysAddress(key.getPhysAddress());
-            builder.withKey(key);
-        } catch (Exception e) {
+            mac = macToLong(key.getPhysAddress().getValue());
+        } catch (IllegalArgumentException e) {
+            // phys-address allows any number of octets, but L2 FIB is keyed by 6 octet MAC
             throw new ReadFailedException(id, e);
         }
+        final L2FibTableDetails entry = getL2FibTable(id, bdId, ctx).get(mac);
+        if (entry == null) {
+            throw new ReadFailedException(id,
+                    new IllegalStateException("L2 FIB entry " + key + " not found in bridge domain " + bdId));
+        }
+
+        builder.setAction(byteToBoolean(entry.filterMac)
+                ? L2FibFilter.class
+                : L2FibForward.class);
+        builder.setBridgedVirtualInterface(byteToBoolean(entry.bviMac));
+
+        if (entry.swIfIndex != -1) {
+            builder.setOutgoingInterface(interfaceContext.getName(entry.swIfIndex, ctx.getMappingContext()));
+        }
+        builder.setStaticConfig(byteToBoolean(entry.staticMac));
+        builder.setPhysAddress(key.getPhysAddress());
+        builder.withKey(key);
+    }
+
+    /**
+     * Returns L2 FIB entries of bridge domain. Table is built once per transaction from single l2FibTableDump, so
+     * reading whole L2 FIB table requires single VPP call.
+     */
+    @Nonnull
+    private L2FibTableView getL2FibTable(@Nonnull final InstanceIdentifier<L2FibEntry> id, final int bdId,
+                                         @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        final String tableKey = L2FIB_INDEX_KEY + bdId;
+        final L2FibTableView cached = (L2FibTableView) cache.get(tableKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        final L2FibTableView table = new L2FibTableView(dumpL2Fibs(id, bdId));
+        cache.put(tableKey, table);
+        return table;
     }
 
     @Nonnull
@@ -108,13 +139,10 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
             throws ReadFailedException {
         final L2FibTableDump l2FibRequest = new L2FibTableDump();
         l2FibRequest.bdId = bdId;
+        final L2FibTableDetailsReplyDump dump =
+                getReplyForRead(getFutureJVpp().l2FibTableDump(l2FibRequest).toCompletableFuture(), id);
 
-        final CompletableFuture<L2FibTableDetailsReplyDump> l2FibTableDumpCompletableFuture =
-                getFutureJVpp().l2FibTableDump(l2FibRequest).toCompletableFuture();
-
-        final L2FibTableDetailsReplyDump dump = getReplyForRead(l2FibTableDumpCompletableFuture, id);
-
-        if (null == dump || null == dump.l2FibTableDetails) {
+        if (dump == null || null == dump.l2FibTableDetails) {
             return Collections.emptyList();
         } else {
             return dump.l2FibTableDetails;
@@ -129,9 +157,11 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         final int bdId = bdContext.getIndex(bridgeDomainKey.getName(), ctx.getMappingContext());
 
         LOG.debug("Reading L2 FIB for bridge domain {} (bdId={})", bridgeDomainKey, bdId);
-        return dumpL2Fibs(id, bdId).stream()
+        final List<L2FibEntryKey> keys = getL2FibTable(id, bdId, ctx).entries.stream()
                 .map(entry -> new L2FibEntryKey(new PhysAddress(vppPhysAddrToYang(entry.mac))))
                 .collect(Collectors.toList());
+        LOG.debug("Listing {} L2 FIB entries of bridge domain {}", keys.size(), bdId);
+        return keys;
     }
 
     @Override
@@ -160,4 +190,35 @@ public final class L2FibEntryCustomizer extends FutureJVppCustomizer
         return BridgeDomainCustomizer.getCfgId(RWUtils.cutId(id, BridgeDomain.class)).child(
                 L2FibTable.class).child(L2FibEntry.class, new L2FibEntryKey(id.firstKeyOf(L2FibEntry.class)));
     }
+
+    /**
+     * L2 FIB entries of bridge domain in dump order, indexed by MAC address.
+     *
+     * <p/>Index is a sorted array of primitive MAC values searched by binary search, instead of hash map with boxed
+     * keys. Lookup is O(log n) instead of O(1), but index takes single long per entry rather than map entry and Long
+     * object, which matters for tables with hundreds of thousands of entries.
+     */
+    private final class L2FibTableView {
+        private final List<L2FibTableDetails> entries;
+        private final long[] macs;
+        private final L2FibTableDetails[] byMac;
+
+        private L2FibTableView(@Nonnull final List<L2FibTableDetails> entries) {
+            this.entries = entries;
+            byMac = entries.toArray(new L2FibTableDetails[0]);
+            Arrays.sort(byMac, Comparator.comparingLong(entry -> macToLong(entry.mac)));
+            macs = new long[byMac.length];
+            for (int i = 0; i < byMac.length; i++) {
+                macs[i] = macToLong(byMac[i].mac);
+            }
+        }
+
+        @Nullable
+        private L2FibTableDetails get(final long mac) {
+            final int i = Arrays.binarySearch(macs, mac);
+            return i >= 0
+                    ? byMac[i]
+                    : null;
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import com.google.common.collect.Lists;
+import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.stats.sampler.InterfaceCounterRates;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
+import io.fd.honeycomb.notification.ManagedNotificationProducer;
+import io.fd.honeycomb.notification.NotificationCollector;
+import io.fd.honeycomb.translate.MappingContext;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.CounterRatesUpdate;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.CounterRatesUpdateBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.counter.rates.update.InterfaceRates;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.counter.rates.update.InterfaceRatesBuilder;
+import org.opendaylight.yangtools.yang.binding.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Notification producer for interface counter rates. After every sample taken by {@link InterfaceStatisticsSampler},
+ * rates of all sampled interfaces are pushed into HC's notification collector, so collectors do not need to poll
+ * full counter sets.
+ */
+@NotThreadSafe
+final class CounterRatesNotificationProducer implements ManagedNotificationProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CounterRatesNotificationProducer.class);
+
+    private final InterfaceStatisticsSampler sampler;
+    private final NamingContext interfaceContext;
+    private final MappingContext mappingContext;
+    @Nullable
+    private AutoCloseable samplerListenerReg;
+
+    @Inject
+    CounterRatesNotificationProducer(@Nonnull final InterfaceStatisticsSampler sampler,
+                                     @Nonnull final NamingContext interfaceContext,
+                                     @Nonnull final MappingContext mappingContext) {
+        this.sampler = sampler;
+        this.interfaceContext = interfaceContext;
+        this.mappingContext = mappingContext;
+    }
+
+    @Override
+    public void start(@Nonnull final NotificationCollector collector) {
+        LOG.trace("Starting counter rates notifications");
+        samplerListenerReg = sampler.addListener(rates -> collector.onNotification(transformNotification(rates)));
+        LOG.debug("Counter rates notifications started successfully");
+    }
+
+    private Notification transformNotification(final List<InterfaceCounterRates> rates) {
+        return new CounterRatesUpdateBuilder()
+                .setInterfaceRates(rates.stream().map(this::transformRates).collect(Collectors.toList()))
+                .build();
+    }
+
+    private InterfaceRates transformRates(final InterfaceCounterRates rates) {
+        return new InterfaceRatesBuilder()
+                .setSwIfIndex((long) rates.getSwIfIndex())
+                // best effort only, mapping might not be stored yet (see InterfaceChangeNotificationProducer)
+                .setName(interfaceContext.getNameIfPresent(rates.getSwIfIndex(), mappingContext).orElse(null))
+                .setSampleInterval(rates.getSampleIntervalMillis())
+                .setInPacketsPerSecond(BigInteger.valueOf(rates.getInPacketsPerSecond()))
+                .setInBitsPerSecond(BigInteger.valueOf(rates.getInBitsPerSecond()))
+                .setOutPacketsPerSecond(BigInteger.valueOf(rates.getOutPacketsPerSecond()))
+                .setOutBitsPerSecond(BigInteger.valueOf(rates.getOutBitsPerSecond()))
+                .setInOctetsDelta(BigInteger.valueOf(rates.getInOctetsDelta()))
+                .setInPacketsDelta(BigInteger.valueOf(rates.getInPacketsDelta()))
+                .setInErrorsDelta(BigInteger.valueOf(rates.getInErrorsDelta()))
+                .setOutOctetsDelta(BigInteger.valueOf(rates.getOutOctetsDelta()))
+                .setOutPacketsDelta(BigInteger.valueOf(rates.getOutPacketsDelta()))
+                .setOutErrorsDelta(BigInteger.valueOf(rates.getOutErrorsDelta()))
+                .build();
+    }
+
+    @Override
+    public void stop() {
+        LOG.trace("Stopping counter rates notifications");
+        try {
+            if (samplerListenerReg != null) {
+                samplerListenerReg.close();
+                samplerListenerReg = null;
+            }
+        } catch (Exception e) {
+            LOG.warn("Unable to properly close sampler listener registration: {}", samplerListenerReg, e);
+        }
+        LOG.debug("Counter rates notifications stopped successfully");
+    }
+
+    @Nonnull
+    @Override
+    public Collection<Class<? extends Notification>> getNotificationTypes() {
+        final ArrayList<Class<? extends Notification>> classes = Lists.newArrayList();
+        classes.add(CounterRatesUpdate.class);
+        return classes;
+    }
+
+    @Override
+    public void close() throws Exception {
+        LOG.trace("Closing counter rates notifications producer");
+        stop();
+    }
+}
@@ -18,8 +18,10 @@ package io.fd.hc2vpp.v3po.notification;
 
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStateCache;
 import io.fd.honeycomb.notification.ManagedNotificationProducer;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
@@ -32,6 +34,7 @@ import io.fd.jvpp.core.dto.WantInterfaceEventsReply;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeoutException;
@@ -51,25 +54,59 @@ import org.slf4j.LoggerFactory;
 /**
  * Notification producer for interface events. It starts interface notification stream and for every received
  * notification, it transforms it into its BA equivalent and pushes into HC's notification collector.
+ * Received notifications also keep {@link InterfaceStateCache} up to date.
+ *
+ * <p/>Notifications are coalesced per interface and pushed in batches by {@link InterfaceEventCoalescer}, outside
+ * of jvpp rx thread.
  */
 @NotThreadSafe
 final class InterfaceChangeNotificationProducer implements ManagedNotificationProducer, JvppReplyConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceChangeNotificationProducer.class);
+    static final int DEFAULT_QUEUE_CAPACITY = 4096;
+    static final long DEFAULT_COALESCE_WINDOW_MILLIS = 100;
 
     private final FutureJVppCore jvpp;
     private final NamingContext interfaceContext;
     private final MappingContext mappingContext;
+    private final InterfaceStateCache stateCache;
+    private final JvppMetrics metrics;
+    private final int queueCapacity;
+    private final long coalesceWindowInMillis;
     @Nullable
     private AutoCloseable notificationListenerReg;
+    @Nullable
+    private InterfaceEventCoalescer coalescer;
 
     @Inject
     InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
                                         @Nonnull final NamingContext interfaceContext,
-                                        @Nonnull final MappingContext mappingContext) {
+                                        @Nonnull final MappingContext mappingContext,
+                                        @Nonnull final InterfaceStateCache stateCache,
+                                        @Nonnull final JvppMetrics metrics) {
+        this(jvpp, interfaceContext, mappingContext, stateCache, metrics, DEFAULT_QUEUE_CAPACITY,
+                DEFAULT_COALESCE_WINDOW_MILLIS);
+    }
+
+    /**
+     * @param metrics                registry exporting counters of coalesced, dropped and delivered notifications
+     * @param queueCapacity          maximum number of interfaces with pending notification
+     * @param coalesceWindowInMillis time window in which notifications of the same interface are coalesced
+     */
+    InterfaceChangeNotificationProducer(@Nonnull final FutureJVppCore jvpp,
+                                        @Nonnull final NamingContext interfaceContext,
+                                        @Nonnull final MappingContext mappingContext,
+                                        @Nonnull final InterfaceStateCache stateCache,
+                                        @Nonnull final JvppMetrics metrics,
+                                        final int queueCapacity,
+                                        final long coalesceWindowInMillis) {
         this.jvpp = jvpp;
         this.interfaceContext = interfaceContext;
         this.mappingContext = mappingContext;
+        this.stateCache = stateCache;
+        this.metrics = metrics;
+        this.queueCapacity = queueCapacity;
+        this.coalesceWindowInMillis = coalesceWindowInMillis;
     }
 
     @Override
@@ -77,19 +114,17 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         LOG.trace("Starting interface notifications");
         enableDisableIfcNotifications(1);
         LOG.debug("Interface notifications started successfully");
+        final InterfaceEventCoalescer eventCoalescer = new InterfaceEventCoalescer(queueCapacity,
+                coalesceWindowInMillis, events -> publish(collector, events), metrics);
+        eventCoalescer.start();
+        coalescer = eventCoalescer;
         notificationListenerReg = jvpp.getEventRegistry().registerSwInterfaceEventCallback(
                 new SwInterfaceEventCallback() {
                     @Override
                     public void onSwInterfaceEvent(SwInterfaceEvent swInterfaceEvent) {
                         LOG.trace("Interface notification received: {}", swInterfaceEvent);
-                        // TODO HONEYCOMB-166 this should be lazy
-                        try {
-                            collector.onNotification(transformNotification(swInterfaceEvent));
-                        } catch (Exception e) {
-                            // There is no need to propagate exception to jvpp rx thread in case of unexpected failures.
-                            // We can't do much about it, so lets log the exception.
-                            LOG.warn("Failed to process interface notification {}", swInterfaceEvent, e);
-                        }
+                        stateCache.onSwInterfaceEvent(swInterfaceEvent);
+                        eventCoalescer.offer(swInterfaceEvent);
                     }
 
                     //TODO this should be removed within VPP-1000
@@ -99,6 +134,20 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
                     }
                 }
         );
+        stateCache.setEventsEnabled(true);
+    }
+
+    private void publish(final NotificationCollector collector, final List<SwInterfaceEvent> swInterfaceEvents) {
+        for (final SwInterfaceEvent swInterfaceEvent : swInterfaceEvents) {
+            // TODO HONEYCOMB-166 this should be lazy
+            try {
+                collector.onNotification(transformNotification(swInterfaceEvent));
+            } catch (Exception e) {
+                // There is no need to propagate exception to dispatcher thread in case of unexpected failures.
+                // We can't do much about it, so lets log the exception.
+                LOG.warn("Failed to process interface notification {}", swInterfaceEvent, e);
+            }
+        }
     }
 
     private Notification transformNotification(final SwInterfaceEvent swInterfaceEvent) {
@@ -135,6 +184,7 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
     @Override
     public void stop() {
         LOG.trace("Stopping interface notifications");
+        stateCache.setEventsEnabled(false);
         enableDisableIfcNotifications(0);
         LOG.debug("Interface notifications stopped successfully");
         try {
@@ -144,6 +194,10 @@ final class InterfaceChangeNotificationProducer implements ManagedNotificationPr
         } catch (Exception e) {
             LOG.warn("Unable to properly close notification registration: {}", notificationListenerReg, e);
         }
+        if (coalescer != null) {
+            coalescer.close();
+            coalescer = null;
+        }
     }
 
     private void enableDisableIfcNotifications(int enableDisable) {
@@ -19,7 +19,10 @@ package io.fd.hc2vpp.v3po.notification;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import com.google.inject.name.Named;
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.V3poConfiguration;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStateCache;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.jvpp.core.future.FutureJVppCore;
@@ -45,10 +48,24 @@ public class InterfaceChangeNotificationProducerProvider implements Provider<Int
     @Nonnull
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    @Nonnull
+    private InterfaceStateCache stateCache;
+
+    @Inject
+    @Nonnull
+    private V3poConfiguration configuration;
+
+    @Inject
+    @Nonnull
+    private JvppMetrics metrics;
+
     @Override
     public InterfaceChangeNotificationProducer get() {
         final InterfaceChangeNotificationProducer notificationProducer =
-                new InterfaceChangeNotificationProducer(jvpp, interfaceContext, mappingContext);
+                new InterfaceChangeNotificationProducer(jvpp, interfaceContext, mappingContext, stateCache, metrics,
+                        configuration.getInterfaceNotificationsQueueCapacity(),
+                        configuration.getInterfaceNotificationsCoalesceWindow());
         shutdownHandler.register("interface-change-notification-producer-" + notificationProducer.hashCode(),
                 notificationProducer);
         return notificationProducer;
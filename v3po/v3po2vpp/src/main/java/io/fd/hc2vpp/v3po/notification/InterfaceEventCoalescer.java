@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
+import io.fd.jvpp.core.dto.SwInterfaceEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Coalesces interface events and delivers them in batches from dedicated dispatcher thread, so that event storms
+ * (e.g. flapping links) neither block jvpp rx thread nor flood notification collector.
+ *
+ * <p/>Events are queued per sw_if_index. Event of interface that already has an event queued replaces it, so only
+ * the latest state of each interface is delivered per dispatch window. Number of queued interfaces is bounded,
+ * events of other interfaces are dropped while the queue is full. Queueing does not lock, so rx thread never waits
+ * for dispatcher.
+ *
+ * <p/>Numbers of coalesced, dropped and delivered events are exported as {@link JvppMetrics} counters.
+ */
+@ThreadSafe
+final class InterfaceEventCoalescer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceEventCoalescer.class);
+    static final String COALESCED_COUNTER = "interface_events_coalesced_total";
+    static final String DROPPED_COUNTER = "interface_events_dropped_total";
+    static final String DELIVERED_COUNTER = "interface_events_delivered_total";
+
+    private final int capacity;
+    private final long windowInMillis;
+    private final Consumer<List<SwInterfaceEvent>> consumer;
+    private final Map<Integer, SwInterfaceEvent> latest = new ConcurrentHashMap<>();
+    // sw_if_indexes with queued event, in order of arrival of their first event in current window
+    private final Queue<Integer> queued = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final LongAdder coalesced;
+    private final LongAdder dropped;
+    private final LongAdder delivered;
+    private long droppedReported;
+    private ScheduledExecutorService dispatcher;
+
+    /**
+     * @param capacity       maximum number of interfaces with queued event
+     * @param windowInMillis delay between dispatches
+     * @param consumer       invoked by dispatcher with all events queued since previous dispatch
+     * @param metrics        registry of counters of coalesced, dropped and delivered events
+     */
+    InterfaceEventCoalescer(final int capacity, final long windowInMillis,
+                            @Nonnull final Consumer<List<SwInterfaceEvent>> consumer,
+                            @Nonnull final JvppMetrics metrics) {
+        checkArgument(capacity > 0, "Queue capacity must be positive, but was %s", capacity);
+        checkArgument(windowInMillis > 0, "Dispatch window must be positive, but was %s", windowInMillis);
+        this.capacity = capacity;
+        this.windowInMillis = windowInMillis;
+        this.consumer = consumer;
+        // counters outlive coalescer, so they are not reset when notifications are restarted
+        this.coalesced = metrics.counter(COALESCED_COUNTER);
+        this.dropped = metrics.counter(DROPPED_COUNTER);
+        this.delivered = metrics.counter(DELIVERED_COUNTER);
+        this.droppedReported = dropped.sum();
+    }
+
+    synchronized void start() {
+        if (dispatcher != null) {
+            return;
+        }
+        dispatcher = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("interface-event-dispatcher-%d").setDaemon(true).build());
+        dispatcher.scheduleWithFixedDelay(this::dispatch, windowInMillis, windowInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues event for next dispatch. Never blocks.
+     */
+    void offer(@Nonnull final SwInterfaceEvent event) {
+        if (latest.put(event.swIfIndex, event) != null) {
+            coalesced.increment();
+            return;
+        }
+        if (queuedCount.incrementAndGet() > capacity) {
+            queuedCount.decrementAndGet();
+            latest.remove(event.swIfIndex, event);
+            dropped.increment();
+            return;
+        }
+        queued.offer(event.swIfIndex);
+    }
+
+    @VisibleForTesting
+    void dispatch() {
+        final List<SwInterfaceEvent> batch = new ArrayList<>();
+        Integer swIfIndex;
+        while ((swIfIndex = queued.poll()) != null) {
+            queuedCount.decrementAndGet();
+            final SwInterfaceEvent event = latest.remove(swIfIndex);
+            if (event != null) {
+                batch.add(event);
+            }
+        }
+        reportDropped();
+        if (batch.isEmpty()) {
+            return;
+        }
+        LOG.trace("Dispatching {} interface events", batch.size());
+        try {
+            consumer.accept(batch);
+            delivered.add(batch.size());
+        } catch (RuntimeException e) {
+            // exception would cancel further dispatching
+            LOG.warn("Failed to dispatch interface events {}", batch, e);
+        }
+    }
+
+    private void reportDropped() {
+        final long droppedTotal = dropped.sum();
+        if (droppedTotal != droppedReported) {
+            LOG.warn("Interface event queue full, {} events dropped since last dispatch (total {})",
+                    droppedTotal - droppedReported, droppedTotal);
+            droppedReported = droppedTotal;
+        }
+    }
+
+    /**
+     * Returns number of events replaced by later event of the same interface, exported as {@link #COALESCED_COUNTER}.
+     */
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Returns number of events dropped because the queue was full, exported as {@link #DROPPED_COUNTER}.
+     */
+    long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Returns number of events passed to consumer, exported as {@link #DELIVERED_COUNTER}.
+     */
+    long getDeliveredCount() {
+        return delivered.sum();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (dispatcher == null) {
+            return;
+        }
+        dispatcher.shutdownNow();
+        dispatcher = null;
+        LOG.debug("Interface events dispatcher stopped, {} events delivered, {} coalesced, {} dropped",
+                getDeliveredCount(), getCoalescedCount(), getDroppedCount());
+    }
+}
@@ -16,13 +16,12 @@
 
 package io.fd.hc2vpp.v3po.read;
 
-import static com.google.common.base.Preconditions.checkState;
-
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
+import io.fd.hc2vpp.v3po.read.cache.SwIfIndexedDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -34,7 +33,7 @@ import io.fd.jvpp.core.dto.GreTunnelDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import io.fd.jvpp.core.types.AddressFamily;
 import io.fd.jvpp.core.types.InterfaceIndex;
-import java.util.concurrent.CompletionStage;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.GreTunnel;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.VppInterfaceAugmentation;
@@ -57,6 +56,7 @@ public class GreCustomizer extends FutureJVppCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(GreCustomizer.class);
     private final NamingContext interfaceContext;
     private final InterfaceCacheDumpManager dumpManager;
+    private final SwIfIndexedDumpManager<GreTunnelDetailsReplyDump, GreTunnelDetails> tunnelDumpManager;
 
     public GreCustomizer(@Nonnull final FutureJVppCore jvpp,
                          @Nonnull final NamingContext interfaceContext,
@@ -64,6 +64,15 @@ public class GreCustomizer extends FutureJVppCustomizer
         super(jvpp);
         this.interfaceContext = interfaceContext;
         this.dumpManager = dumpManager;
+        this.tunnelDumpManager = new SwIfIndexedDumpManager<>(GreTunnelDetailsReplyDump.class,
+                (identifier, params) -> {
+                    final GreTunnelDump request = new GreTunnelDump();
+                    request.swIfIndex = new InterfaceIndex();
+                    request.swIfIndex.interfaceindex = -1; // dump all
+                    return getReplyForRead(getFutureJVpp().greTunnelDump(request).toCompletableFuture(),
+                            identifier);
+                },
+                reply -> reply.greTunnelDetails, details -> details.tunnel.swIfIndex.interfaceindex);
     }
 
     @Override
@@ -89,32 +98,21 @@ public class GreCustomizer extends FutureJVppCustomizer
         }
 
         LOG.debug("Reading attributes for gre tunnel: {}", key.getName());
-        // Dump just a single
-        final GreTunnelDump request = new GreTunnelDump();
-        request.swIfIndex = new InterfaceIndex();
-        request.swIfIndex.interfaceindex = index;
-
-        final CompletionStage<GreTunnelDetailsReplyDump> swInterfaceGreDetailsReplyDumpCompletionStage =
-                getFutureJVpp().greTunnelDump(request);
-        final GreTunnelDetailsReplyDump reply =
-                getReplyForRead(swInterfaceGreDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
+        final Optional<GreTunnelDetails> details =
+                tunnelDumpManager.getDetails(id, ctx.getModificationCache(), index);
 
         // VPP keeps gre tunnel interfaces even after they were deleted (optimization)
-        // However there ar no longer any gre tunnel specific fields assigned to it and this call
-        // returns nothing
-        if (reply == null || reply.greTunnelDetails == null || reply.greTunnelDetails.isEmpty()) {
+        // However there are no longer any gre tunnel specific fields assigned to it and the dump
+        // does not contain it
+        if (!details.isPresent()) {
             LOG.debug(
                     "Gre tunnel {}, id {} has no attributes assigned in VPP. Probably is a leftover interface placeholder" +
                             "after delete", key.getName(), index);
             return;
         }
+        LOG.trace("Gre tunnel: {} attributes returned from VPP: {}", key.getName(), details.get());
 
-        checkState(reply.greTunnelDetails.size() == 1,
-                "Unexpected number of returned gre tunnels: {} for tunnel: {}", reply.greTunnelDetails,
-                key.getName());
-        LOG.trace("Gre tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final GreTunnelDetails swInterfaceGreDetails = reply.greTunnelDetails.get(0);
+        final GreTunnelDetails swInterfaceGreDetails = details.get();
         if (swInterfaceGreDetails.tunnel.dst.af.equals(AddressFamily.ADDRESS_IP6)) {
             builder.setDst(new IpAddressNoZone(
                     arrayToIpv6AddressNoZone(swInterfaceGreDetails.tunnel.dst.un.getIp6().ip6Address)));
@@ -16,23 +16,20 @@
 
 package io.fd.hc2vpp.v3po.read;
 
-import static com.google.common.base.Preconditions.checkState;
 import static java.util.Objects.requireNonNull;
 
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.BridgeDomainDumpManager;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
-import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
 import io.fd.jvpp.core.dto.BridgeDomainDetails;
-import io.fd.jvpp.core.dto.BridgeDomainDetailsReplyDump;
-import io.fd.jvpp.core.dto.BridgeDomainDump;
 import io.fd.jvpp.core.dto.SwInterfaceDetails;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import io.fd.jvpp.core.types.BridgeDomainSwIf;
-import java.util.Arrays;
-import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.HashMap;
+import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.l2.config.attributes.Interconnection;
@@ -48,30 +45,21 @@ final class InterconnectionReadUtils implements InterfaceDataTranslator {
 
     private static final Logger LOG = LoggerFactory.getLogger(InterconnectionReadUtils.class);
 
+    static final String BD_MEMBERSHIP_INDEX_KEY = InterconnectionReadUtils.class.getName() + "_bdMembershipIndex";
+
     private final NamingContext interfaceContext;
     private final NamingContext bridgeDomainContext;
     private final InterfaceCacheDumpManager dumpManager;
-    private final DumpCacheManager<BridgeDomainDetailsReplyDump,Void> bdDumpManager;
+    private final BridgeDomainDumpManager bdDumpManager;
 
     InterconnectionReadUtils(@Nonnull final FutureJVppCore futureJVppCore,
                              @Nonnull final NamingContext interfaceContext,
                              @Nonnull final NamingContext bridgeDomainContext,
                              @Nonnull final InterfaceCacheDumpManager dumpManager) {
-        requireNonNull(futureJVppCore, "futureJVppCore should not be null");
         this.interfaceContext = requireNonNull(interfaceContext, "interfaceContext should not be null");
         this.bridgeDomainContext = requireNonNull(bridgeDomainContext, "bridgeDomainContext should not be null");
         this.dumpManager = requireNonNull(dumpManager, "dumpManager should not be null");
-        this.bdDumpManager = new DumpCacheManager.DumpCacheManagerBuilder<BridgeDomainDetailsReplyDump, Void>()
-                .acceptOnly(BridgeDomainDetailsReplyDump.class)
-                .withExecutor((id, params) -> {
-                    final BridgeDomainDump request = new BridgeDomainDump();
-                    request.bdId = -1;
-
-                    final CompletableFuture<BridgeDomainDetailsReplyDump> bdCompletableFuture =
-                            futureJVppCore.bridgeDomainDump(request).toCompletableFuture();
-                    return getReplyForRead(bdCompletableFuture, id);
-                })
-                .build();
+        this.bdDumpManager = new BridgeDomainDumpManager(futureJVppCore);
     }
 
     @Nullable
@@ -83,47 +71,60 @@ final class InterconnectionReadUtils implements InterfaceDataTranslator {
         final SwInterfaceDetails iface = dumpManager.getInterfaceDetail(id, ctx, ifaceName);
         LOG.debug("Interface details for interface: {}, details: {}", ifaceName, iface);
 
-        final BridgeDomainDetailsReplyDump dumpReply = bdDumpManager.getDump(id, ctx.getModificationCache())
-                .orElse(new BridgeDomainDetailsReplyDump());
-        for (final BridgeDomainDetails bd : dumpReply.bridgeDomainDetails) {
-            final Optional<BridgeDomainSwIf> bdIfAssignment = getBridgeDomainSwIf(ifaceId, bd);
-            if (bdIfAssignment.isPresent()) {
-                final BridgeDomainSwIf bridgeDomainSwIf = bdIfAssignment.get();
-                final BridgeBasedBuilder bbBuilder = new BridgeBasedBuilder();
-                bbBuilder.setBridgeDomain(bridgeDomainContext.getName(bd.bdId, ctx.getMappingContext()));
-
-                // Set BVI if the bridgeDomainDetails.bviSwIfIndex == current sw if index
-                final Optional<BridgeDomainDetails> bridgeDomainForInterface =
-                        getBridgeDomainForInterface(dumpReply, bd.bdId);
-                // Since we already found an interface assigned to a bridge domain, the details for BD must be present
-                checkState(bridgeDomainForInterface.isPresent());
-                if (bridgeDomainForInterface.get().bviSwIfIndex == ifaceId) {
-                    bbBuilder.setBridgedVirtualInterface(true);
-                } else {
-                    bbBuilder.setBridgedVirtualInterface(false);
-                }
-
-                if (bridgeDomainSwIf.shg != 0) {
-                    bbBuilder.setSplitHorizonGroup((short) bridgeDomainSwIf.shg);
-                }
-                return bbBuilder.build();
+        final BridgeDomainMembership membership = getMembershipIndex(id, ctx).get(ifaceId);
+        if (membership != null) {
+            final BridgeBasedBuilder bbBuilder = new BridgeBasedBuilder();
+            bbBuilder.setBridgeDomain(bridgeDomainContext.getName(membership.bdId, ctx.getMappingContext()));
+            bbBuilder.setBridgedVirtualInterface(membership.bvi);
+            if (membership.shg != 0) {
+                bbBuilder.setSplitHorizonGroup((short) membership.shg);
             }
+            return bbBuilder.build();
         }
         // TODO HONEYCOMB-190 is there a way to check if interconnection is XconnectBased?
 
         return null;
     }
 
-    private Optional<BridgeDomainSwIf> getBridgeDomainSwIf(final int ifaceId, @Nonnull final BridgeDomainDetails bd) {
-        if (null == bd.swIfDetails) {
-            return Optional.empty();
+    /**
+     * Returns bridge domain membership of interfaces indexed by sw_if_index. Index is built once per bridge domain
+     * dump and shared by all interface and sub-interface reads within transaction.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Integer, BridgeDomainMembership> getMembershipIndex(@Nonnull final InstanceIdentifier<?> id,
+                                                                    @Nonnull final ReadContext ctx)
+            throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        final Map<Integer, BridgeDomainMembership> cached =
+                (Map<Integer, BridgeDomainMembership>) cache.get(BD_MEMBERSHIP_INDEX_KEY);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Map<Integer, BridgeDomainMembership> index = new HashMap<>();
+        for (final BridgeDomainDetails bd : bdDumpManager.getBridgeDomains(id, cache).values()) {
+            if (bd.swIfDetails == null) {
+                continue;
+            }
+            for (final BridgeDomainSwIf swIf : bd.swIfDetails) {
+                // interface can be added to only one BD only, keep the first one found
+                index.putIfAbsent(swIf.swIfIndex,
+                        new BridgeDomainMembership(bd.bdId, swIf.shg, bd.bviSwIfIndex == swIf.swIfIndex));
+            }
         }
-        // interface can be added to only one BD only
-        return Arrays.stream(bd.swIfDetails).filter(el -> el.swIfIndex == ifaceId).findFirst();
+        cache.put(BD_MEMBERSHIP_INDEX_KEY, index);
+        return index;
     }
 
-    private Optional<BridgeDomainDetails> getBridgeDomainForInterface(final BridgeDomainDetailsReplyDump reply,
-                                                                      int bdId) {
-        return reply.bridgeDomainDetails.stream().filter(a -> a.bdId == bdId).findFirst();
+    private static final class BridgeDomainMembership {
+        private final int bdId;
+        private final int shg;
+        private final boolean bvi;
+
+        private BridgeDomainMembership(final int bdId, final int shg, final boolean bvi) {
+            this.bdId = bdId;
+            this.shg = shg;
+            this.bvi = bvi;
+        }
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.read;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+
+/**
+ * Translates interface counters to binding counter types without allocation for unchanged counters.
+ *
+ * <p/>Counter translated for given interface is kept and returned again as long as the counter value does not change,
+ * which is common for error and multicast/broadcast counters. Counters with small values (e.g. 0) are shared by all
+ * interfaces.
+ *
+ * <p/>Translated counters are immutable, so concurrent readers can share them. Concurrent updates of the same counter
+ * can only cause redundant allocation, never wrong value, because cached counter is always compared with current
+ * value before reuse.
+ */
+@ThreadSafe
+final class InterfaceCounterCache {
+
+    static final int OUT_OCTETS = 0;
+    static final int OUT_UNICAST_PKTS = 1;
+    static final int OUT_MULTICAST_PKTS = 2;
+    static final int OUT_BROADCAST_PKTS = 3;
+    static final int IN_OCTETS = 4;
+    static final int IN_UNICAST_PKTS = 5;
+    static final int IN_MULTICAST_PKTS = 6;
+    static final int IN_BROADCAST_PKTS = 7;
+    private static final int COUNTERS_64 = 8;
+
+    static final int OUT_ERRORS = 0;
+    static final int IN_ERRORS = 1;
+    private static final int COUNTERS_32 = 2;
+
+    private static final int SHARED_VALUES = 256;
+    private static final Counter64[] SHARED_COUNTERS_64 = new Counter64[SHARED_VALUES];
+    private static final Counter32[] SHARED_COUNTERS_32 = new Counter32[SHARED_VALUES];
+
+    static {
+        for (int value = 0; value < SHARED_VALUES; value++) {
+            SHARED_COUNTERS_64[value] = new Counter64(BigInteger.valueOf(value));
+            SHARED_COUNTERS_32[value] = new Counter32((long) value);
+        }
+    }
+
+    private volatile Counter64[] counters64 = new Counter64[0];
+    private volatile Counter32[] counters32 = new Counter32[0];
+
+    /**
+     * @param swIfIndex interface index
+     * @param counter   one of 64-bit counter constants of this class
+     * @param value     current counter value
+     */
+    @Nonnull
+    Counter64 counter64(@Nonnegative final int swIfIndex, final int counter, final long value) {
+        if (value >= 0 && value < SHARED_VALUES) {
+            return SHARED_COUNTERS_64[(int) value];
+        }
+        final int slot = swIfIndex * COUNTERS_64 + counter;
+        Counter64[] cache = counters64;
+        if (slot >= cache.length) {
+            cache = growCounters64(slot);
+        }
+        final Counter64 cached = cache[slot];
+        if (cached != null && cached.getValue().longValue() == value) {
+            return cached;
+        }
+        final Counter64 translated = new Counter64(BigInteger.valueOf(value));
+        cache[slot] = translated;
+        return translated;
+    }
+
+    /**
+     * @param swIfIndex interface index
+     * @param counter   one of 32-bit counter constants of this class
+     * @param value     current counter value
+     */
+    @Nonnull
+    Counter32 counter32(@Nonnegative final int swIfIndex, final int counter, final long value) {
+        if (value >= 0 && value < SHARED_VALUES) {
+            return SHARED_COUNTERS_32[(int) value];
+        }
+        final int slot = swIfIndex * COUNTERS_32 + counter;
+        Counter32[] cache = counters32;
+        if (slot >= cache.length) {
+            cache = growCounters32(slot);
+        }
+        final Counter32 cached = cache[slot];
+        if (cached != null && cached.getValue() == value) {
+            return cached;
+        }
+        final Counter32 translated = new Counter32(value);
+        cache[slot] = translated;
+        return translated;
+    }
+
+    private synchronized Counter64[] growCounters64(final int slot) {
+        if (slot >= counters64.length) {
+            counters64 = Arrays.copyOf(counters64, newLength(counters64.length, slot, COUNTERS_64));
+        }
+        return counters64;
+    }
+
+    private synchronized Counter32[] growCounters32(final int slot) {
+        if (slot >= counters32.length) {
+            counters32 = Arrays.copyOf(counters32, newLength(counters32.length, slot, COUNTERS_32));
+        }
+        return counters32;
+    }
+
+    private static int newLength(final int length, final int slot, final int stride) {
+        // round up to whole interface and double to amortize growth
+        return Math.max(length * 2, (slot / stride + 1) * stride);
+    }
+}
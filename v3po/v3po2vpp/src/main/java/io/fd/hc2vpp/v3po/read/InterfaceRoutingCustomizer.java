@@ -17,6 +17,7 @@
 package io.fd.hc2vpp.v3po.read;
 
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -41,8 +42,9 @@ public class InterfaceRoutingCustomizer extends RoutingCustomizer implements
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceRoutingCustomizer.class);
 
     public InterfaceRoutingCustomizer(@Nonnull final FutureJVppCore vppApi,
-                                      @Nonnull final NamingContext interfaceContext) {
-        super(vppApi, interfaceContext);
+                                      @Nonnull final NamingContext interfaceContext,
+                                      @Nonnull final InterfaceCacheDumpManager dumpManager) {
+        super(vppApi, interfaceContext, dumpManager);
     }
 
     @Nonnull
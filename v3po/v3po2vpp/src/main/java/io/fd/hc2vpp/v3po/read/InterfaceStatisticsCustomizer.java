@@ -17,9 +17,21 @@
 package io.fd.hc2vpp.v3po.read;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.IN_BROADCAST_PKTS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.IN_ERRORS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.IN_MULTICAST_PKTS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.IN_OCTETS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.IN_UNICAST_PKTS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.OUT_BROADCAST_PKTS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.OUT_ERRORS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.OUT_MULTICAST_PKTS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.OUT_OCTETS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.OUT_UNICAST_PKTS;
 
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManager;
+import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
@@ -28,31 +40,29 @@ import io.fd.jvpp.stats.dto.InterfaceStatisticsDetails;
 import io.fd.jvpp.stats.dto.InterfaceStatisticsDetailsReplyDump;
 import io.fd.jvpp.stats.dto.InterfaceStatisticsDump;
 import io.fd.jvpp.stats.future.FutureJVppStatsFacade;
-import java.math.BigInteger;
-import java.util.Arrays;
-import java.util.Optional;
-import java.util.concurrent.Future;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.Interface;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.InterfaceBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.InterfaceKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces._interface.Statistics;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces._interface.StatisticsBuilder;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
-import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
 import org.opendaylight.yangtools.concepts.Builder;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class InterfaceStatisticsCustomizer implements ReaderCustomizer<Statistics, StatisticsBuilder> {
+public class InterfaceStatisticsCustomizer
+        implements ReaderCustomizer<Statistics, StatisticsBuilder>, JvppReplyConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(InterfaceStatisticsCustomizer.class);
+    private static final String STATISTICS_INDEX_KEY = InterfaceStatisticsCustomizer.class.getName() + "_index";
+    private static final InterfaceStatistics[] NO_STATISTICS = new InterfaceStatistics[0];
 
     private final NamingContext ifcNamingCtx;
     private final FutureJVppStatsFacade jvppStats;
     private final InterfaceStatisticsManager statisticsManager;
+    private final InterfaceCounterCache counterCache = new InterfaceCounterCache();
 
     public InterfaceStatisticsCustomizer(final NamingContext ifcNamingCtx,
                                          final FutureJVppStatsFacade jvppStats,
@@ -77,23 +87,20 @@ public class InterfaceStatisticsCustomizer implements ReaderCustomizer<Statistic
 
         final InterfaceKey key = instanceIdentifier.firstKeyOf(Interface.class);
         final int index = ifcNamingCtx.getIndex(key.getName(), readContext.getMappingContext());
-        InterfaceStatisticsDetails stats = getStatisticsDump(instanceIdentifier);
-        if (stats != null) {
-            Optional<InterfaceStatistics> statsDetail =
-                    Arrays.asList(stats.interfaceStatistics).stream().filter(elt -> elt.swIfIndex == index).findFirst();
-            if (statsDetail.isPresent()) {
-                InterfaceStatistics detail = statsDetail.get();
-                statisticsBuilder.setOutOctets(new Counter64(BigInteger.valueOf(detail.outBytes)))
-                        .setOutUnicastPkts(new Counter64(BigInteger.valueOf(detail.outUnicastPkts)))
-                        .setOutMulticastPkts(new Counter64(BigInteger.valueOf(detail.outMulticastPkts)))
-                        .setOutBroadcastPkts(new Counter64(BigInteger.valueOf(detail.outBroadcastPkts)))
-                        .setOutErrors(new Counter32(new Long(detail.outErrors)))
-                        .setInOctets(new Counter64(BigInteger.valueOf(detail.inBytes)))
-                        .setInUnicastPkts(new Counter64(BigInteger.valueOf(detail.inUnicastPkts)))
-                        .setInMulticastPkts(new Counter64(BigInteger.valueOf(detail.inMulticastPkts)))
-                        .setInBroadcastPkts(new Counter64(BigInteger.valueOf(detail.inBroadcastPkts)))
-                        .setInErrors(new Counter32(new Long(detail.inErrors)));
-            }
+        final InterfaceStatistics[] statistics = getStatisticsIndex(instanceIdentifier, readContext);
+        if (index >= 0 && index < statistics.length && statistics[index] != null) {
+            final InterfaceStatistics detail = statistics[index];
+            statisticsBuilder
+                    .setOutOctets(counterCache.counter64(index, OUT_OCTETS, detail.outBytes))
+                    .setOutUnicastPkts(counterCache.counter64(index, OUT_UNICAST_PKTS, detail.outUnicastPkts))
+                    .setOutMulticastPkts(counterCache.counter64(index, OUT_MULTICAST_PKTS, detail.outMulticastPkts))
+                    .setOutBroadcastPkts(counterCache.counter64(index, OUT_BROADCAST_PKTS, detail.outBroadcastPkts))
+                    .setOutErrors(counterCache.counter32(index, OUT_ERRORS, detail.outErrors))
+                    .setInOctets(counterCache.counter64(index, IN_OCTETS, detail.inBytes))
+                    .setInUnicastPkts(counterCache.counter64(index, IN_UNICAST_PKTS, detail.inUnicastPkts))
+                    .setInMulticastPkts(counterCache.counter64(index, IN_MULTICAST_PKTS, detail.inMulticastPkts))
+                    .setInBroadcastPkts(counterCache.counter64(index, IN_BROADCAST_PKTS, detail.inBroadcastPkts))
+                    .setInErrors(counterCache.counter32(index, IN_ERRORS, detail.inErrors));
         }
     }
 
@@ -102,18 +109,42 @@ public class InterfaceStatisticsCustomizer implements ReaderCustomizer<Statistic
         ((InterfaceBuilder) builder).setStatistics(statistics);
     }
 
+    /**
+     * Returns statistics of all interfaces addressed by sw_if_index. Statistics are dumped once per transaction,
+     * so reading statistics of all interfaces requires single call.
+     */
+    private InterfaceStatistics[] getStatisticsIndex(final InstanceIdentifier<Statistics> id, final ReadContext ctx)
+            throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        final InterfaceStatistics[] cached = (InterfaceStatistics[]) cache.get(STATISTICS_INDEX_KEY);
+        if (cached != null) {
+            return cached;
+        }
+
+        final InterfaceStatistics[] statistics = getStatisticsDump(id).interfaceStatistics;
+        InterfaceStatistics[] index = NO_STATISTICS;
+        if (statistics != null && statistics.length > 0) {
+            int maxSwIfIndex = -1;
+            for (final InterfaceStatistics stats : statistics) {
+                maxSwIfIndex = Math.max(maxSwIfIndex, stats.swIfIndex);
+            }
+            index = new InterfaceStatistics[maxSwIfIndex + 1];
+            for (final InterfaceStatistics stats : statistics) {
+                if (stats.swIfIndex >= 0) {
+                    index[stats.swIfIndex] = stats;
+                }
+            }
+        }
+        cache.put(STATISTICS_INDEX_KEY, index);
+        return index;
+    }
+
     private InterfaceStatisticsDetails getStatisticsDump(InstanceIdentifier<Statistics> id) throws ReadFailedException {
         LOG.debug("Sending InterfaceStatisticsDump request...");
         final InterfaceStatisticsDump request = new InterfaceStatisticsDump();
 
-        final Future<InterfaceStatisticsDetailsReplyDump> replyFuture =
-                jvppStats.interfaceStatisticsDump(request).toCompletableFuture();
-        final InterfaceStatisticsDetailsReplyDump reply;
-        try {
-            reply = replyFuture.get();
-        } catch (Exception e) {
-            throw new ReadFailedException(id, e);
-        }
+        final InterfaceStatisticsDetailsReplyDump reply = getReplyForRead(
+                jvppStats.interfaceStatisticsDump(request).toCompletableFuture(), id, "interfaceStatisticsDump");
 
         if (reply == null || reply.interfaceStatisticsDetails == null) {
             throw new ReadFailedException(id,
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.read;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.stats.sampler.InterfaceCounterRates;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManager;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.math.BigInteger;
+import java.util.Optional;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.VppInterfaceStatisticsRatesAugmentationBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.interfaces._interface.statistics.Rates;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.interfaces._interface.statistics.RatesBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.Interface;
+import org.opendaylight.yangtools.concepts.Builder;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Reads counter rates and deltas of an interface computed by {@link InterfaceStatisticsSampler} from the last
+ * samples. No VPP call is made.
+ */
+public class InterfaceStatisticsRatesCustomizer implements ReaderCustomizer<Rates, RatesBuilder> {
+
+    private final NamingContext ifcNamingCtx;
+    private final InterfaceStatisticsSampler sampler;
+    private final InterfaceStatisticsManager statisticsManager;
+
+    public InterfaceStatisticsRatesCustomizer(@Nonnull final NamingContext ifcNamingCtx,
+                                              @Nonnull final InterfaceStatisticsSampler sampler,
+                                              @Nonnull final InterfaceStatisticsManager statisticsManager) {
+        this.ifcNamingCtx = checkNotNull(ifcNamingCtx, "Naming context should not be null");
+        this.sampler = checkNotNull(sampler, "Statistics sampler should not be null");
+        this.statisticsManager = checkNotNull(statisticsManager, "Statistics Manager should not be null");
+    }
+
+    @Nonnull
+    @Override
+    public RatesBuilder getBuilder(@Nonnull final InstanceIdentifier<Rates> id) {
+        return new RatesBuilder();
+    }
+
+    @Override
+    public void readCurrentAttributes(@Nonnull final InstanceIdentifier<Rates> id,
+                                      @Nonnull final RatesBuilder builder,
+                                      @Nonnull final ReadContext ctx) throws ReadFailedException {
+        if (!statisticsManager.isStatisticsEnabled()) {
+            return;
+        }
+
+        final String ifcName = id.firstKeyOf(Interface.class).getName();
+        final Optional<InterfaceCounterRates> rates =
+                sampler.getRates(ifcNamingCtx.getIndex(ifcName, ctx.getMappingContext()));
+        if (rates.isPresent()) {
+            final InterfaceCounterRates interfaceRates = rates.get();
+            builder.setSampleInterval(interfaceRates.getSampleIntervalMillis())
+                    .setInPacketsPerSecond(BigInteger.valueOf(interfaceRates.getInPacketsPerSecond()))
+                    .setInBitsPerSecond(BigInteger.valueOf(interfaceRates.getInBitsPerSecond()))
+                    .setOutPacketsPerSecond(BigInteger.valueOf(interfaceRates.getOutPacketsPerSecond()))
+                    .setOutBitsPerSecond(BigInteger.valueOf(interfaceRates.getOutBitsPerSecond()))
+                    .setInOctetsDelta(BigInteger.valueOf(interfaceRates.getInOctetsDelta()))
+                    .setInPacketsDelta(BigInteger.valueOf(interfaceRates.getInPacketsDelta()))
+                    .setInErrorsDelta(BigInteger.valueOf(interfaceRates.getInErrorsDelta()))
+                    .setOutOctetsDelta(BigInteger.valueOf(interfaceRates.getOutOctetsDelta()))
+                    .setOutPacketsDelta(BigInteger.valueOf(interfaceRates.getOutPacketsDelta()))
+                    .setOutErrorsDelta(BigInteger.valueOf(interfaceRates.getOutErrorsDelta()));
+        }
+    }
+
+    @Override
+    public void merge(@Nonnull final Builder<? extends DataObject> parentBuilder, @Nonnull final Rates readValue) {
+        ((VppInterfaceStatisticsRatesAugmentationBuilder) parentBuilder).setRates(readValue);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po.read;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.hc2vpp.common.translate.util.ReadTimeoutException;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.jvpp.core.dto.SwInterfaceGetTable;
+import io.fd.jvpp.core.dto.SwInterfaceGetTableReply;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects IPv4 and IPv6 VRF tables of interfaces, caching them per sw_if_index within transaction.
+ *
+ * <p/>First interface read in transaction issues requests only for that interface, so reading single interface
+ * does not cost more than before. Once another interface is read, the transaction is expected to read all of them,
+ * so requests for all remaining interfaces (and sub-interfaces) from interface dump are sent at once, keeping at most
+ * {@code maxInFlight} interfaces waiting for reply.
+ *
+ * <p/>Replies are cached by sw_if_index of the interface they belong to. Failure of a reply is reported only when
+ * the interface is read, with id of that read, regardless of which read sent the request.
+ */
+final class InterfaceTableCollector implements JvppReplyConsumer, ByteDataTranslator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceTableCollector.class);
+
+    static final int DEFAULT_MAX_IN_FLIGHT = 64;
+    private static final String TABLES_KEY = InterfaceTableCollector.class.getName() + "_tables";
+
+    private final FutureJVppCore futureJVppCore;
+    private final InterfaceCacheDumpManager dumpManager;
+    private final int maxInFlight;
+
+    InterfaceTableCollector(@Nonnull final FutureJVppCore futureJVppCore,
+                            @Nonnull final InterfaceCacheDumpManager dumpManager,
+                            final int maxInFlight) {
+        checkArgument(maxInFlight > 0, "maxInFlight should be positive");
+        this.futureJVppCore = requireNonNull(futureJVppCore, "futureJVppCore should not be null");
+        this.dumpManager = requireNonNull(dumpManager, "dumpManager should not be null");
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns VRF tables of interface.
+     *
+     * @throws ReadFailedException failing given id, if any of swInterfaceGetTable requests of the interface failed or
+     *                             timed out
+     */
+    @Nonnull
+    InterfaceTables getTables(@Nonnull final InstanceIdentifier<?> id, final int swIfIndex,
+                              @Nonnull final ReadContext ctx) throws ReadFailedException {
+        final ModificationCache cache = ctx.getModificationCache();
+        TransactionTables tables = (TransactionTables) cache.get(TABLES_KEY);
+        if (tables == null) {
+            tables = new TransactionTables();
+            cache.put(TABLES_KEY, tables);
+        } else if (!tables.prefetched && !tables.replies.containsKey(swIfIndex)) {
+            prefetch(id, ctx, tables);
+        }
+
+        CompletableFuture<InterfaceTables> reply = tables.replies.get(swIfIndex);
+        if (reply == null) {
+            reply = requestTables(id, swIfIndex);
+            tables.replies.put(swIfIndex, reply);
+        }
+        try {
+            return joinReplyForRead(reply);
+        } catch (ReadFailedException e) {
+            // request could have been sent while reading other interface, so failure can carry its id
+            LOG.debug("Reading VRF tables of interface {} failed", swIfIndex, e);
+            if (e instanceof ReadTimeoutException) {
+                throw new ReadTimeoutException(id, e.getCause());
+            }
+            throw new ReadFailedException(id, e.getCause());
+        }
+    }
+
+    private void prefetch(@Nonnull final InstanceIdentifier<?> id, @Nonnull final ReadContext ctx,
+                          @Nonnull final TransactionTables tables) throws ReadFailedException {
+        tables.prefetched = true;
+        final Queue<CompletableFuture<InterfaceTables>> inFlight = new ArrayDeque<>(maxInFlight);
+        final Iterator<SwInterfaceDetails> interfaces = dumpManager.getInterfaces(id, ctx).iterator();
+        int requested = 0;
+        while (interfaces.hasNext()) {
+            final int swIfIndex = interfaces.next().swIfIndex;
+            if (tables.replies.containsKey(swIfIndex)) {
+                continue;
+            }
+            if (inFlight.size() == maxInFlight) {
+                // failures are reported when reply of the interface is read
+                inFlight.remove().handle((reply, failure) -> null).join();
+            }
+            final CompletableFuture<InterfaceTables> reply = requestTables(id, swIfIndex);
+            tables.replies.put(swIfIndex, reply);
+            inFlight.add(reply);
+            requested++;
+        }
+        LOG.debug("Requested VRF tables of {} interfaces", requested);
+    }
+
+    private CompletableFuture<InterfaceTables> requestTables(@Nonnull final InstanceIdentifier<?> id,
+                                                             final int swIfIndex) {
+        final CompletableFuture<SwInterfaceGetTableReply> ip4Reply = getReplyForReadAsync(
+                futureJVppCore.swInterfaceGetTable(request(swIfIndex, false)), id);
+        final CompletableFuture<SwInterfaceGetTableReply> ip6Reply = getReplyForReadAsync(
+                futureJVppCore.swInterfaceGetTable(request(swIfIndex, true)), id);
+        return ip4Reply.thenCombine(ip6Reply, (ip4, ip6) -> new InterfaceTables(ip4.vrfId, ip6.vrfId));
+    }
+
+    private SwInterfaceGetTable request(final int swIfIndex, final boolean isIpv6) {
+        final SwInterfaceGetTable request = new SwInterfaceGetTable();
+        request.swIfIndex = swIfIndex;
+        request.isIpv6 = booleanToByte(isIpv6);
+        return request;
+    }
+
+    private static final class TransactionTables {
+        private final Map<Integer, CompletableFuture<InterfaceTables>> replies = new HashMap<>();
+        private boolean prefetched;
+    }
+
+    static final class InterfaceTables {
+        private final int ip4VrfId;
+        private final int ip6VrfId;
+
+        private InterfaceTables(final int ip4VrfId, final int ip6VrfId) {
+            this.ip4VrfId = ip4VrfId;
+            this.ip6VrfId = ip6VrfId;
+        }
+
+        int getIp4VrfId() {
+            return ip4VrfId;
+        }
+
+        int getIp6VrfId() {
+            return ip6VrfId;
+        }
+    }
+}
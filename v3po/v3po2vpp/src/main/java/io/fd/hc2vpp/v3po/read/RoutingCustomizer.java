@@ -20,10 +20,10 @@ import com.google.common.primitives.UnsignedInts;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.InterfaceTableCollector.InterfaceTables;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
-import io.fd.jvpp.core.dto.SwInterfaceGetTable;
-import io.fd.jvpp.core.dto.SwInterfaceGetTableReply;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import java.util.function.Consumer;
 import javax.annotation.Nonnull;
@@ -33,11 +33,15 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 
 abstract class RoutingCustomizer extends FutureJVppCustomizer implements JvppReplyConsumer {
     private final NamingContext interfaceContext;
+    private final InterfaceTableCollector tableCollector;
 
     protected RoutingCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
-                                @Nonnull final NamingContext interfaceContext) {
+                                @Nonnull final NamingContext interfaceContext,
+                                @Nonnull final InterfaceCacheDumpManager dumpManager) {
         super(futureJVppCore);
         this.interfaceContext = interfaceContext;
+        this.tableCollector = new InterfaceTableCollector(futureJVppCore, dumpManager,
+                InterfaceTableCollector.DEFAULT_MAX_IN_FLIGHT);
     }
 
     protected void readInterfaceRouting(@Nonnull final InstanceIdentifier<? extends RoutingBaseAttributes> id,
@@ -45,21 +49,14 @@ abstract class RoutingCustomizer extends FutureJVppCustomizer implements JvppRep
                                         @Nonnull final Consumer<VniReference> v6VrfConsumer,
                                         @Nonnull final ReadContext ctx, final String interfaceName)
             throws ReadFailedException {
-        final SwInterfaceGetTable request = new SwInterfaceGetTable();
-        request.swIfIndex = interfaceContext.getIndex(interfaceName, ctx.getMappingContext());
-        request.isIpv6 = 0;
-        final SwInterfaceGetTableReply
-                ip4Reply = getReplyForRead(getFutureJVpp().swInterfaceGetTable(request).toCompletableFuture(), id);
+        final int swIfIndex = interfaceContext.getIndex(interfaceName, ctx.getMappingContext());
+        final InterfaceTables tables = tableCollector.getTables(id, swIfIndex, ctx);
 
-        request.isIpv6 = 1;
-        final SwInterfaceGetTableReply ip6Reply =
-                getReplyForRead(getFutureJVpp().swInterfaceGetTable(request).toCompletableFuture(), id);
-
-        if (ip4Reply.vrfId != 0) {
-            v4VrfConsumer.accept(new VniReference(UnsignedInts.toLong(ip4Reply.vrfId)));
+        if (tables.getIp4VrfId() != 0) {
+            v4VrfConsumer.accept(new VniReference(UnsignedInts.toLong(tables.getIp4VrfId())));
         }
-        if (ip6Reply.vrfId != 0) {
-            v6VrfConsumer.accept(new VniReference(UnsignedInts.toLong(ip6Reply.vrfId)));
+        if (tables.getIp6VrfId() != 0) {
+            v6VrfConsumer.accept(new VniReference(UnsignedInts.toLong(tables.getIp6VrfId())));
         }
     }
 }
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.v3po.read;
 import static io.fd.hc2vpp.v3po.util.SubInterfaceUtils.subInterfaceFullNameOperational;
 
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -36,8 +37,9 @@ import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 public class SubInterfaceRoutingCustomizer extends RoutingCustomizer implements
         InitializingReaderCustomizer<Routing, RoutingBuilder> {
     public SubInterfaceRoutingCustomizer(@Nonnull final FutureJVppCore futureJVppCore,
-                                  @Nonnull final NamingContext interfaceContext) {
-        super(futureJVppCore, interfaceContext);
+                                  @Nonnull final NamingContext interfaceContext,
+                                  @Nonnull final InterfaceCacheDumpManager dumpManager) {
+        super(futureJVppCore, interfaceContext, dumpManager);
     }
 
     @Nonnull
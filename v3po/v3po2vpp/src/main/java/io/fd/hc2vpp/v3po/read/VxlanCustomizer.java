@@ -16,8 +16,6 @@
 
 package io.fd.hc2vpp.v3po.read;
 
-import static com.google.common.base.Preconditions.checkState;
-
 import com.google.common.primitives.UnsignedInts;
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
@@ -25,6 +23,7 @@ import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
+import io.fd.hc2vpp.v3po.read.cache.SwIfIndexedDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -34,7 +33,7 @@ import io.fd.jvpp.core.dto.VxlanTunnelDetails;
 import io.fd.jvpp.core.dto.VxlanTunnelDetailsReplyDump;
 import io.fd.jvpp.core.dto.VxlanTunnelDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
-import java.util.concurrent.CompletionStage;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.L2Input;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.NshProxy;
@@ -61,12 +60,21 @@ public class VxlanCustomizer extends FutureJVppCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(VxlanCustomizer.class);
     private final NamingContext interfaceContext;
     private final InterfaceCacheDumpManager dumpManager;
+    private final SwIfIndexedDumpManager<VxlanTunnelDetailsReplyDump, VxlanTunnelDetails> tunnelDumpManager;
 
     public VxlanCustomizer(@Nonnull final FutureJVppCore jvpp, @Nonnull final NamingContext interfaceContext,
                            @Nonnull final InterfaceCacheDumpManager dumpManager) {
         super(jvpp);
         this.interfaceContext = interfaceContext;
         this.dumpManager = dumpManager;
+        this.tunnelDumpManager = new SwIfIndexedDumpManager<>(VxlanTunnelDetailsReplyDump.class,
+                (identifier, params) -> {
+                    final VxlanTunnelDump request = new VxlanTunnelDump();
+                    request.swIfIndex = -1; // dump all
+                    return getReplyForRead(getFutureJVpp().vxlanTunnelDump(request).toCompletableFuture(),
+                            identifier);
+                },
+                reply -> reply.vxlanTunnelDetails, details -> details.swIfIndex);
     }
 
     @Override
@@ -92,31 +100,21 @@ public class VxlanCustomizer extends FutureJVppCustomizer
         }
 
         LOG.debug("Reading attributes for vxlan tunnel: {}", key.getName());
-        // Dump just a single
-        final VxlanTunnelDump request = new VxlanTunnelDump();
-        request.swIfIndex = index;
-
-        final CompletionStage<VxlanTunnelDetailsReplyDump> swInterfaceVxlanDetailsReplyDumpCompletionStage =
-                getFutureJVpp().vxlanTunnelDump(request);
-        final VxlanTunnelDetailsReplyDump reply =
-                getReplyForRead(swInterfaceVxlanDetailsReplyDumpCompletionStage.toCompletableFuture(), id);
+        final Optional<VxlanTunnelDetails> details =
+                tunnelDumpManager.getDetails(id, ctx.getModificationCache(), index);
 
         // VPP keeps vxlan tunnel interfaces even after they were deleted (optimization)
-        // However there ar no longer any vxlan tunnel specific fields assigned to it and this call
-        // returns nothing
-        if (reply == null || reply.vxlanTunnelDetails == null || reply.vxlanTunnelDetails.isEmpty()) {
+        // However there are no longer any vxlan tunnel specific fields assigned to it and the dump
+        // does not contain it
+        if (!details.isPresent()) {
             LOG.debug(
                     "Vxlan tunnel {}, id {} has no attributes assigned in VPP. Probably is a leftover interface placeholder" +
                             "after delete", key.getName(), index);
             return;
         }
+        LOG.trace("Vxlan tunnel: {} attributes returned from VPP: {}", key.getName(), details.get());
 
-        checkState(reply.vxlanTunnelDetails.size() == 1,
-                "Unexpected number of returned vxlan tunnels: {} for tunnel: {}", reply.vxlanTunnelDetails,
-                key.getName());
-        LOG.trace("Vxlan tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final VxlanTunnelDetails swInterfaceVxlanDetails = reply.vxlanTunnelDetails.get(0);
+        final VxlanTunnelDetails swInterfaceVxlanDetails = details.get();
         if (swInterfaceVxlanDetails.isIpv6 == 1) {
             builder.setDst(new IpAddressNoZone(arrayToIpv6AddressNoZone(swInterfaceVxlanDetails.dstAddress)));
             builder.setSrc(new IpAddressNoZone(arrayToIpv6AddressNoZone(swInterfaceVxlanDetails.srcAddress)));
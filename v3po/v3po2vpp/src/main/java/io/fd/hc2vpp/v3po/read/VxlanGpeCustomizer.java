@@ -16,14 +16,13 @@
 
 package io.fd.hc2vpp.v3po.read;
 
-import static com.google.common.base.Preconditions.checkState;
-
 import io.fd.hc2vpp.common.translate.util.FutureJVppCustomizer;
 import io.fd.hc2vpp.common.translate.util.Ipv4Translator;
 import io.fd.hc2vpp.common.translate.util.Ipv6Translator;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
 import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
+import io.fd.hc2vpp.v3po.read.cache.SwIfIndexedDumpManager;
 import io.fd.honeycomb.translate.read.ReadContext;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.Initialized;
@@ -33,7 +32,7 @@ import io.fd.jvpp.core.dto.VxlanGpeTunnelDetails;
 import io.fd.jvpp.core.dto.VxlanGpeTunnelDetailsReplyDump;
 import io.fd.jvpp.core.dto.VxlanGpeTunnelDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
-import java.util.concurrent.CompletionStage;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.VppInterfaceAugmentation;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.VppInterfaceAugmentationBuilder;
@@ -58,6 +57,7 @@ public class VxlanGpeCustomizer extends FutureJVppCustomizer
     private static final Logger LOG = LoggerFactory.getLogger(VxlanGpeCustomizer.class);
     private final NamingContext interfaceContext;
     private final InterfaceCacheDumpManager dumpManager;
+    private final SwIfIndexedDumpManager<VxlanGpeTunnelDetailsReplyDump, VxlanGpeTunnelDetails> tunnelDumpManager;
 
     public VxlanGpeCustomizer(@Nonnull final FutureJVppCore jvpp,
                               @Nonnull final NamingContext interfaceContext,
@@ -65,6 +65,14 @@ public class VxlanGpeCustomizer extends FutureJVppCustomizer
         super(jvpp);
         this.interfaceContext = interfaceContext;
         this.dumpManager = dumpManager;
+        this.tunnelDumpManager = new SwIfIndexedDumpManager<>(VxlanGpeTunnelDetailsReplyDump.class,
+                (identifier, params) -> {
+                    final VxlanGpeTunnelDump request = new VxlanGpeTunnelDump();
+                    request.swIfIndex = -1; // dump all
+                    return getReplyForRead(getFutureJVpp().vxlanGpeTunnelDump(request).toCompletableFuture(),
+                            identifier);
+                },
+                reply -> reply.vxlanGpeTunnelDetails, details -> details.swIfIndex);
     }
 
     @Override
@@ -91,32 +99,21 @@ public class VxlanGpeCustomizer extends FutureJVppCustomizer
         }
 
         LOG.debug("Reading attributes for VxlanGpe tunnel: {}", key.getName());
-        // Dump just a single
-        final VxlanGpeTunnelDump request = new VxlanGpeTunnelDump();
-        request.swIfIndex = index;
-
-        final CompletionStage<VxlanGpeTunnelDetailsReplyDump> swInterfaceVxlanGpeDetailsReplyDumpCompletionStage =
-                getFutureJVpp().vxlanGpeTunnelDump(request);
-        final VxlanGpeTunnelDetailsReplyDump reply =
-                getReplyForRead(swInterfaceVxlanGpeDetailsReplyDumpCompletionStage.toCompletableFuture(),
-                        id);
+        final Optional<VxlanGpeTunnelDetails> details =
+                tunnelDumpManager.getDetails(id, ctx.getModificationCache(), index);
 
         // VPP keeps VxlanGpe tunnel interfaces even after they were deleted (optimization)
-        // However there are no longer any VxlanGpe tunnel specific fields assigned to it and this call
-        // returns nothing
-        if (reply == null || reply.vxlanGpeTunnelDetails == null || reply.vxlanGpeTunnelDetails.isEmpty()) {
+        // However there are no longer any VxlanGpe tunnel specific fields assigned to it and the dump
+        // does not contain it
+        if (!details.isPresent()) {
             LOG.debug(
                     "VxlanGpe tunnel {}, id {} has no attributes assigned in VPP. Probably is a leftover interface placeholder" +
                             "after delete", key.getName(), index);
             return;
         }
+        LOG.trace("VxlanGpe tunnel: {} attributes returned from VPP: {}", key.getName(), details.get());
 
-        checkState(reply.vxlanGpeTunnelDetails.size() == 1,
-                "Unexpected number of returned VxlanGpe tunnels: {} for tunnel: {}", reply.vxlanGpeTunnelDetails,
-                key.getName());
-        LOG.trace("VxlanGpe tunnel: {} attributes returned from VPP: {}", key.getName(), reply);
-
-        final VxlanGpeTunnelDetails swInterfaceVxlanGpeDetails = reply.vxlanGpeTunnelDetails.get(0);
+        final VxlanGpeTunnelDetails swInterfaceVxlanGpeDetails = details.get();
         if (swInterfaceVxlanGpeDetails.isIpv6 == 1) {
             builder.setRemote(new IpAddressNoZone(arrayToIpv6AddressNoZone(swInterfaceVxlanGpeDetails.remote)));
             builder.setLocal(new IpAddressNoZone(arrayToIpv6AddressNoZone(swInterfaceVxlanGpeDetails.local)));
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po.read.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
+import io.fd.jvpp.core.dto.BridgeDomainDetails;
+import io.fd.jvpp.core.dto.BridgeDomainDetailsReplyDump;
+import io.fd.jvpp.core.dto.BridgeDomainDump;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Provides details of all bridge domains indexed by bdId. Bridge domains are dumped at most once per transaction,
+ * the dump and the index are shared by all instances (e.g. bridge domain state and interface interconnection readers).
+ */
+public final class BridgeDomainDumpManager implements JvppReplyConsumer {
+
+    private static final String BD_DUMP_KEY = BridgeDomainDumpManager.class.getName() + "_dump";
+    private static final String BD_INDEX_KEY = BridgeDomainDumpManager.class.getName() + "_index";
+
+    private final DumpCacheManager<BridgeDomainDetailsReplyDump, Void> dumpManager;
+
+    public BridgeDomainDumpManager(@Nonnull final FutureJVppCore futureJVppCore) {
+        requireNonNull(futureJVppCore, "futureJVppCore should not be null");
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<BridgeDomainDetailsReplyDump, Void>()
+                .acceptOnly(BridgeDomainDetailsReplyDump.class)
+                .withCacheKeyFactory(new StaticCacheKeyFactory(BD_DUMP_KEY, BridgeDomainDetailsReplyDump.class))
+                .withExecutor((id, params) -> {
+                    final BridgeDomainDump request = new BridgeDomainDump();
+                    request.bdId = -1; // dump all
+                    return getReplyForRead(futureJVppCore.bridgeDomainDump(request).toCompletableFuture(), id,
+                            "bridgeDomainDump");
+                })
+                .build();
+    }
+
+    /**
+     * Returns details of all bridge domains indexed by bdId, in order provided by VPP.
+     *
+     * @throws ReadFailedException if dump failed or VPP did not reply within timeout
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public Map<Integer, BridgeDomainDetails> getBridgeDomains(@Nonnull final InstanceIdentifier<?> id,
+                                                              @Nonnull final ModificationCache cache)
+            throws ReadFailedException {
+        final Map<Integer, BridgeDomainDetails> cached = (Map<Integer, BridgeDomainDetails>) cache.get(BD_INDEX_KEY);
+        if (cached != null) {
+            return cached;
+        }
+
+        final BridgeDomainDetailsReplyDump dump = dumpManager.getDump(id, cache).orElse(null);
+        final Map<Integer, BridgeDomainDetails> index;
+        if (dump == null || dump.bridgeDomainDetails == null) {
+            index = Collections.emptyMap();
+        } else {
+            index = new LinkedHashMap<>();
+            for (final BridgeDomainDetails details : dump.bridgeDomainDetails) {
+                index.put(details.bdId, details);
+            }
+        }
+        cache.put(BD_INDEX_KEY, index);
+        return index;
+    }
+}
@@ -20,6 +20,7 @@ import static java.util.stream.Collectors.toMap;
 
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.common.translate.util.SharedDumpCache;
 import io.fd.hc2vpp.v3po.read.InterfaceDataTranslator;
 import io.fd.honeycomb.translate.ModificationCache;
 import io.fd.honeycomb.translate.read.ReadContext;
@@ -32,8 +33,11 @@ import io.fd.jvpp.core.dto.SwInterfaceDetailsReplyDump;
 import io.fd.jvpp.core.dto.SwInterfaceDump;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import io.fd.jvpp.core.types.InterfaceIndex;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -53,12 +57,21 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager,
     private NamingContext namingContext;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, Integer> specificDumpManager;
     private final DumpCacheManager<SwInterfaceDetailsReplyDump, Void> fullDumpManager;
+    private final InterfaceStateCache stateCache;
 
     InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
                                   @Nonnull final NamingContext namingContext) {
+        this(jvpp, namingContext, SharedDumpCache.disabled(), new InterfaceStateCache(0, TimeUnit.SECONDS));
+    }
+
+    InterfaceCacheDumpManagerImpl(@Nonnull final FutureJVppCore jvpp,
+                                  @Nonnull final NamingContext namingContext,
+                                  @Nonnull final SharedDumpCache sharedDumpCache,
+                                  @Nonnull final InterfaceStateCache stateCache) {
         this.namingContext = namingContext;
+        this.stateCache = stateCache;
         specificDumpManager = specificInterfaceDumpManager(jvpp);
-        fullDumpManager = fullInterfaceDumpManager(jvpp,
+        fullDumpManager = fullInterfaceDumpManager(jvpp, sharedDumpCache,
                 new StaticCacheKeyFactory(InterfaceCacheDumpManagerImpl.class.getName() + "_dump",
                         SwInterfaceDetailsReplyDump.class));
     }
@@ -113,14 +126,11 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager,
 
         final ModificationCache cache = ctx.getModificationCache();
         if (!cache.containsKey(BY_NAME_INDEX_KEY)) {
-            LOG.debug("Performing dump[{}]", identifier);
-            final SwInterfaceDetailsReplyDump dump =
-                    fullDumpManager.getDump(identifier, cache)
-                            .orElse(new SwInterfaceDetailsReplyDump());
+            final Collection<SwInterfaceDetails> details = getAllDetails(identifier, cache);
 
             // naming context initialization must be done here, as it is uses getName in next step, therefore it would
             // create artificial mapping for every interface, because this happens before interface dump is processed
-            dump.swInterfaceDetails.forEach((elt) -> {
+            details.forEach((elt) -> {
                 // Store interface name from VPP in context if not yet present
                 if (!namingContext.containsName(elt.swIfIndex, ctx.getMappingContext())) {
                     namingContext.addName(elt.swIfIndex, ByteDataTranslator.INSTANCE.toString(elt.interfaceName),
@@ -132,7 +142,7 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager,
                         elt.swIfIndex);
             });
 
-            final Map<String, SwInterfaceDetails> freshIndex = dump.swInterfaceDetails.stream()
+            final Map<String, SwInterfaceDetails> freshIndex = details.stream()
                     .collect(toMap(detail -> getInterfaceName(ctx, detail),
                             detail -> detail));
             putMap(freshIndex, ctx);
@@ -141,6 +151,23 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager,
         return getMap(ctx);
     }
 
+    private Collection<SwInterfaceDetails> getAllDetails(final InstanceIdentifier<?> identifier,
+                                                         final ModificationCache cache) throws ReadFailedException {
+        final Optional<Collection<SwInterfaceDetails>> cached = stateCache.getInterfaces();
+        if (cached.isPresent()) {
+            LOG.debug("Using cached interface state[{}]", identifier);
+            return cached.get();
+        }
+
+        LOG.debug("Performing dump[{}]", identifier);
+        final long syncToken = stateCache.startSync();
+        final SwInterfaceDetailsReplyDump dump =
+                fullDumpManager.getDump(identifier, cache)
+                        .orElse(new SwInterfaceDetailsReplyDump());
+        stateCache.sync(syncToken, dump.swInterfaceDetails);
+        return dump.swInterfaceDetails;
+    }
+
     private String getInterfaceName(final ReadContext ctx, final SwInterfaceDetails elt) {
         return namingContext.getName(elt.swIfIndex, ctx.getMappingContext());
     }
@@ -156,9 +183,10 @@ final class InterfaceCacheDumpManagerImpl implements InterfaceCacheDumpManager,
 
     private static DumpCacheManager<SwInterfaceDetailsReplyDump, Void> fullInterfaceDumpManager(
             final FutureJVppCore jvpp,
+            final SharedDumpCache sharedDumpCache,
             final StaticCacheKeyFactory cacheKeyFactory) {
         return new DumpCacheManager.DumpCacheManagerBuilder<SwInterfaceDetailsReplyDump, Void>()
-                .withExecutor(fullInterfaceDumpExecutor(jvpp))
+                .withExecutor(sharedDumpCache.cached("swInterfaceDump", fullInterfaceDumpExecutor(jvpp)))
                 .withCacheKeyFactory(cacheKeyFactory)
                 .acceptOnly(SwInterfaceDetailsReplyDump.class)
                 .build();
@@ -19,6 +19,7 @@ package io.fd.hc2vpp.v3po.read.cache;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.common.translate.util.SharedDumpCache;
 import io.fd.jvpp.core.future.FutureJVppCore;
 import javax.inject.Named;
 
@@ -31,8 +32,16 @@ public class InterfaceCacheDumpManagerProvider implements Provider<InterfaceCach
     @Named("interface-context")
     private NamingContext namingContext;
 
+    @Inject(optional = true)
+    private SharedDumpCache sharedDumpCache = SharedDumpCache.disabled();
+
+    @Inject
+    private InterfaceStateCache stateCache;
+
     @Override
     public InterfaceCacheDumpManager get() {
-        return new InterfaceCacheDumpManagerImpl(jvpp, namingContext);
+        // keep interface state up to date with writes sent by hc2vpp
+        sharedDumpCache.addWriteListener(stateCache);
+        return new InterfaceCacheDumpManagerImpl(jvpp, namingContext, sharedDumpCache, stateCache);
     }
 }
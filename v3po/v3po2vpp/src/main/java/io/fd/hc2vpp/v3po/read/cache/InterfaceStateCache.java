@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.read.cache;
+
+import io.fd.hc2vpp.common.translate.util.JvppWriteListener;
+import io.fd.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.jvpp.core.dto.SwInterfaceEvent;
+import io.fd.jvpp.core.dto.SwInterfaceSetFlags;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Interface details kept across transactions, so that reads of interfaces do not need full interface dump.
+ *
+ * <p/>Details are initialized by full interface dump and kept up to date incrementally:
+ * <ul>
+ * <li>admin and oper status, and removal of interfaces from {@link SwInterfaceEvent}s</li>
+ * <li>admin status from successful swInterfaceSetFlags requests sent by hc2vpp</li>
+ * </ul>
+ * New interface and other interface writes sent by hc2vpp (creation or removal of interfaces, any other swInterface
+ * request) invalidate the cache, so the next read performs full dump again. Changes not covered by events (e.g. done
+ * by other VPP clients) are picked up by periodic resync.
+ *
+ * <p/>Cached details are shared with readers (and with caches of dumps they were initialized from), so they are
+ * never modified. Updated copy replaces the cached details instead.
+ *
+ * <p/>Details are provided only while interface events are received, since without them, changes of oper status
+ * would not be visible.
+ */
+@ThreadSafe
+public class InterfaceStateCache implements JvppWriteListener {
+
+    private static final Logger LOG = LoggerFactory.getLogger(InterfaceStateCache.class);
+
+    /**
+     * Naming of jvpp write requests that can change interface details.
+     */
+    private static final Pattern INTERFACE_WRITE = Pattern.compile(
+            "(?!.*Get[A-Z])(swInterface.*|.*([cC]reate|[dD]elete|Interface|Subif|Loopback|Tunnel|Tap|Vhost|Bond).*)");
+    private static final Field[] DETAIL_FIELDS = Arrays.stream(SwInterfaceDetails.class.getFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .toArray(Field[]::new);
+
+    private final long resyncPeriodInNanos;
+    private final Map<Integer, SwInterfaceDetails> details = new ConcurrentHashMap<>();
+    // incremented on each invalidation, so that dump started before invalidation is not used to initialize cache
+    private final AtomicLong generation = new AtomicLong();
+    private volatile boolean valid;
+    private volatile boolean eventsEnabled;
+    private volatile long syncedAt;
+
+    /**
+     * @param resyncPeriod period after which cached details are replaced by full dump
+     * @param unit         time unit of resync period
+     */
+    public InterfaceStateCache(final long resyncPeriod, @Nonnull final TimeUnit unit) {
+        this.resyncPeriodInNanos = unit.toNanos(resyncPeriod);
+    }
+
+    /**
+     * Returns cached details of all interfaces, or empty if full dump is required.
+     */
+    Optional<Collection<SwInterfaceDetails>> getInterfaces() {
+        if (!valid || !eventsEnabled || System.nanoTime() - syncedAt >= resyncPeriodInNanos) {
+            return Optional.empty();
+        }
+        final List<SwInterfaceDetails> snapshot = new ArrayList<>(details.values());
+        // invalidated while copying
+        return valid
+                ? Optional.of(snapshot)
+                : Optional.empty();
+    }
+
+    /**
+     * Returns token to be passed to {@link #sync(long, Collection)} with details dumped after this call.
+     */
+    long startSync() {
+        return generation.get();
+    }
+
+    /**
+     * Replaces cached details with full interface dump, unless cache was invalidated since the dump was started.
+     */
+    void sync(final long syncToken, @Nonnull final Collection<SwInterfaceDetails> dumpedDetails) {
+        synchronized (details) {
+            if (syncToken != generation.get()) {
+                LOG.debug("Interface state changed during dump, not caching the dump");
+                return;
+            }
+            details.clear();
+            dumpedDetails.forEach(detail -> details.put(detail.swIfIndex, detail));
+            syncedAt = System.nanoTime();
+            valid = true;
+        }
+    }
+
+    /**
+     * Invalidates cached details.
+     */
+    public void invalidate() {
+        synchronized (details) {
+            generation.incrementAndGet();
+            valid = false;
+        }
+    }
+
+    /**
+     * Enables use of cached details, if interface events are received.
+     */
+    public void setEventsEnabled(final boolean eventsEnabled) {
+        invalidate();
+        this.eventsEnabled = eventsEnabled;
+    }
+
+    /**
+     * Updates cached details by interface event.
+     */
+    public void onSwInterfaceEvent(@Nonnull final SwInterfaceEvent event) {
+        synchronized (details) {
+            if (event.deleted == 1) {
+                details.remove(event.swIfIndex);
+                return;
+            }
+            final SwInterfaceDetails detail = details.get(event.swIfIndex);
+            if (detail == null) {
+                // new interface, its details are not known
+                invalidate();
+                return;
+            }
+            details.put(event.swIfIndex, withState(detail, event.adminUpDown, event.linkUpDown));
+        }
+    }
+
+    @Override
+    public void onWrite(@Nonnull final String operation, @Nonnull final Object request) {
+        if (request instanceof SwInterfaceSetFlags) {
+            final SwInterfaceSetFlags setFlags = (SwInterfaceSetFlags) request;
+            synchronized (details) {
+                final SwInterfaceDetails detail = details.get(setFlags.swIfIndex);
+                if (detail != null) {
+                    details.put(setFlags.swIfIndex, withState(detail, setFlags.adminUpDown, detail.linkUpDown));
+                    return;
+                }
+            }
+        }
+        if (INTERFACE_WRITE.matcher(operation).matches()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Returns copy of details with given state. Array fields are shared, since cached details are never modified.
+     */
+    private static SwInterfaceDetails withState(@Nonnull final SwInterfaceDetails detail, final byte adminUpDown,
+                                                final byte linkUpDown) {
+        final SwInterfaceDetails copy = new SwInterfaceDetails();
+        try {
+            for (final Field field : DETAIL_FIELDS) {
+                field.set(copy, field.get(detail));
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to copy " + detail, e);
+        }
+        copy.adminUpDown = adminUpDown;
+        copy.linkUpDown = linkUpDown;
+        return copy;
+    }
+}
@@ -16,10 +16,26 @@
 
 package io.fd.hc2vpp.v3po.read.cache;
 
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
+import javax.annotation.Nullable;
+
 public class InterfaceStatisticsManagerImpl implements InterfaceStatisticsManager {
 
+    @Nullable
+    private final InterfaceStatisticsSampler sampler;
     private boolean isEnabled;
 
+    public InterfaceStatisticsManagerImpl() {
+        this(null);
+    }
+
+    /**
+     * @param sampler sampler of interface counter rates, running only while statistics are enabled
+     */
+    public InterfaceStatisticsManagerImpl(@Nullable final InterfaceStatisticsSampler sampler) {
+        this.sampler = sampler;
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return isEnabled;
@@ -28,10 +44,16 @@ public class InterfaceStatisticsManagerImpl implements InterfaceStatisticsManage
     @Override
     public void enableStatistics() {
         isEnabled = true;
+        if (sampler != null) {
+            sampler.start();
+        }
     }
 
     @Override
     public void disableStatistics() {
         isEnabled = false;
+        if (sampler != null) {
+            sampler.stop();
+        }
     }
 }
@@ -16,12 +16,17 @@
 
 package io.fd.hc2vpp.v3po.read.cache;
 
+import com.google.inject.Inject;
 import com.google.inject.Provider;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
 
 public class InterfaceStatisticsManagerProvider implements Provider<InterfaceStatisticsManager> {
 
+    @Inject
+    private InterfaceStatisticsSampler sampler;
+
     @Override
     public InterfaceStatisticsManager get() {
-        return new InterfaceStatisticsManagerImpl();
+        return new InterfaceStatisticsManagerImpl(sampler);
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po.read.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.DumpCacheManager;
+import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
+import io.fd.honeycomb.translate.util.read.cache.StaticCacheKeyFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import javax.annotation.Nonnull;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Provides details of interfaces of specific type (e.g. vxlan tunnels) from single full dump per transaction. Details
+ * are indexed by sw_if_index, so reading all interfaces of the type costs single dump and constant time lookups.
+ *
+ * @param <R> type of dump reply
+ * @param <D> type of interface details contained in dump reply
+ */
+public final class SwIfIndexedDumpManager<R, D> {
+
+    private final String indexKey;
+    private final DumpCacheManager<R, Void> dumpManager;
+    private final Function<R, List<D>> detailsExtractor;
+    private final ToIntFunction<D> swIfIndexExtractor;
+
+    /**
+     * @param dumpType           type of dump reply, identifies cached dump
+     * @param executor           performs full dump of all interfaces of the type
+     * @param detailsExtractor   extracts interface details from dump reply
+     * @param swIfIndexExtractor extracts sw_if_index from interface details
+     */
+    public SwIfIndexedDumpManager(@Nonnull final Class<R> dumpType,
+                                  @Nonnull final EntityDumpExecutor<R, Void> executor,
+                                  @Nonnull final Function<R, List<D>> detailsExtractor,
+                                  @Nonnull final ToIntFunction<D> swIfIndexExtractor) {
+        this.indexKey = SwIfIndexedDumpManager.class.getName() + "_" + dumpType.getName() + "_index";
+        this.dumpManager = new DumpCacheManager.DumpCacheManagerBuilder<R, Void>()
+                .acceptOnly(dumpType)
+                .withCacheKeyFactory(new StaticCacheKeyFactory(
+                        SwIfIndexedDumpManager.class.getName() + "_" + dumpType.getName() + "_dump", dumpType))
+                .withExecutor(requireNonNull(executor, "executor should not be null"))
+                .build();
+        this.detailsExtractor = requireNonNull(detailsExtractor, "detailsExtractor should not be null");
+        this.swIfIndexExtractor = requireNonNull(swIfIndexExtractor, "swIfIndexExtractor should not be null");
+    }
+
+    /**
+     * Returns details of interface with given sw_if_index, or empty if the interface is not present in dump.
+     */
+    @SuppressWarnings("unchecked")
+    @Nonnull
+    public Optional<D> getDetails(@Nonnull final InstanceIdentifier<?> id, @Nonnull final ModificationCache cache,
+                                  final int swIfIndex) throws ReadFailedException {
+        Map<Integer, D> index = (Map<Integer, D>) cache.get(indexKey);
+        if (index == null) {
+            index = new HashMap<>();
+            final Optional<R> dump = dumpManager.getDump(id, cache);
+            final List<D> details = dump.isPresent()
+                    ? detailsExtractor.apply(dump.get())
+                    : null;
+            if (details != null) {
+                for (final D detail : details) {
+                    index.put(swIfIndexExtractor.applyAsInt(detail), detail);
+                }
+            }
+            cache.put(indexKey, index);
+        }
+        return Optional.ofNullable(index.get(swIfIndex));
+    }
+}
@@ -30,6 +30,7 @@ import com.google.inject.Provider;
 import com.google.inject.name.Named;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.impl.read.registry.CompositeReaderRegistryBuilder;
@@ -75,6 +76,10 @@ public class V3poModuleTest {
     @Bind
     private ShutdownHandler shutdownHandler;
 
+    @Bind
+    @Mock
+    private InterfaceStatisticsSampler statisticsSampler;
+
     @Inject
     private Set<ReaderFactory> readerFactories = new HashSet<>();
 
@@ -24,11 +24,13 @@ import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.ListReaderCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
 import io.fd.jvpp.VppInvocationException;
 import io.fd.jvpp.core.dto.L2FibTableDetails;
 import io.fd.jvpp.core.dto.L2FibTableDetailsReplyDump;
 import io.fd.jvpp.core.dto.L2FibTableDump;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -103,6 +105,55 @@ public class L2FibEntryCustomizerTest extends ListReaderCustomizerTest<L2FibEntr
         verify(builder).withKey(new L2FibEntryKey(address));
     }
 
+    @Test
+    public void testReadMultipleEntriesDumpsOnce() throws Exception {
+        final PhysAddress address1 = new PhysAddress("01:02:03:04:05:06");
+        final PhysAddress address2 = new PhysAddress("0a:0b:0c:0d:0e:0f");
+        defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
+
+        whenL2FibTableDumpThenReturn(Arrays.asList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6}),
+            generateL2FibEntry(new byte[]{10, 11, 12, 13, 14, 15})));
+
+        final L2FibEntryBuilder builder1 = mock(L2FibEntryBuilder.class);
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, address1), builder1, ctx);
+        final L2FibEntryBuilder builder2 = mock(L2FibEntryBuilder.class);
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, address2), builder2, ctx);
+
+        verify(builder1).setPhysAddress(address1);
+        verify(builder2).setPhysAddress(address2);
+        verify(api).l2FibTableDump(any(L2FibTableDump.class));
+    }
+
+    @Test(expected = ReadFailedException.class)
+    public void testReadMissingEntry() throws Exception {
+        whenL2FibTableDumpThenReturn(Collections.singletonList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6})));
+
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, new PhysAddress("01:02:03:04:05:07")),
+            mock(L2FibEntryBuilder.class), ctx);
+    }
+
+    @Test
+    public void testReadUnsortedEntries() throws Exception {
+        defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
+        whenL2FibTableDumpThenReturn(Arrays.asList(generateL2FibEntry(new byte[]{(byte) 0xff, 2, 3, 4, 5, 6}),
+            generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6}), generateL2FibEntry(new byte[]{0x7f, 2, 3, 4, 5, 6})));
+
+        for (final String mac : Arrays.asList("ff:02:03:04:05:06", "01:02:03:04:05:06", "7F:02:03:04:05:06")) {
+            final PhysAddress address = new PhysAddress(mac);
+            final L2FibEntryBuilder builder = mock(L2FibEntryBuilder.class);
+            getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, address), builder, ctx);
+            verify(builder).setPhysAddress(address);
+        }
+    }
+
+    @Test(expected = ReadFailedException.class)
+    public void testReadInvalidKey() throws Exception {
+        whenL2FibTableDumpThenReturn(Collections.singletonList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6})));
+
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, new PhysAddress("01:02:03:04:05:06:07")),
+            mock(L2FibEntryBuilder.class), ctx);
+    }
+
     private L2FibTableDetails generateL2FibEntry(final byte[] mac) {
         final L2FibTableDetails entry = new L2FibTableDetails();
         entry.mac = mac;
@@ -121,4 +172,21 @@ public class L2FibEntryCustomizerTest extends ListReaderCustomizerTest<L2FibEntr
         assertEquals(1, ids.size());
         assertEquals(address, ids.get(0).getPhysAddress());
     }
+
+    @Test
+    public void testReadAndListFromSingleDump() throws Exception {
+        defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
+        whenL2FibTableDumpThenReturn(Arrays.asList(generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 6}),
+            generateL2FibEntry(new byte[]{1, 2, 3, 4, 5, 7})));
+
+        final PhysAddress address = new PhysAddress("01:02:03:04:05:06");
+        assertEquals(Arrays.asList(new L2FibEntryKey(address),
+            new L2FibEntryKey(new PhysAddress("01:02:03:04:05:07"))),
+            getCustomizer().getAllIds(getL2FibEntryId(BD_NAME, address), ctx));
+        final L2FibEntryBuilder builder = mock(L2FibEntryBuilder.class);
+        getCustomizer().readCurrentAttributes(getL2FibEntryId(BD_NAME, address), builder, ctx);
+
+        verify(builder).setPhysAddress(address);
+        verify(api).l2FibTableDump(any(L2FibTableDump.class));
+    }
 }
@@ -21,6 +21,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -147,6 +148,8 @@ public class L2StateTest implements FutureProducer, NamingContextHelper {
         final BridgeDomainsState dataObject =
             (BridgeDomainsState) Iterables.getOnlyElement(dataObjects.get(Iterables.getOnlyElement(dataObjects.keySet())));
         assertEquals(2, dataObject.getBridgeDomain().size());
+        // ids and all bridge domains are read from single dump
+        verify(api).bridgeDomainDump(any(BridgeDomainDump.class));
     }
 
     @Test
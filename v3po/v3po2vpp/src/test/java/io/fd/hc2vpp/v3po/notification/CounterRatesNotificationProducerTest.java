@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import io.fd.hc2vpp.common.test.util.NamingContextHelper;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.stats.sampler.InterfaceCounterRates;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
+import io.fd.honeycomb.notification.NotificationCollector;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.CounterRatesUpdate;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.counter.rates.update.InterfaceRates;
+
+public class CounterRatesNotificationProducerTest implements NamingContextHelper {
+
+    private static final String IFC_CTX_NAME = "ifc-test-instance";
+    private static final String IFACE_NAME = "eth0";
+    private static final int IFACE_ID = 0;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Mock
+    private InterfaceStatisticsSampler sampler;
+    private NamingContext namingContext = new NamingContext("test", IFC_CTX_NAME);
+    @Mock
+    private MappingContext mappingContext;
+    @Mock
+    private NotificationCollector collector;
+    @Mock
+    private AutoCloseable samplerListenerReg;
+
+    private ArgumentCaptor<Consumer<List<InterfaceCounterRates>>> listenerCaptor;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        MockitoAnnotations.initMocks(this);
+        listenerCaptor = ArgumentCaptor.forClass((Class) Consumer.class);
+        doReturn(samplerListenerReg).when(sampler).addListener(listenerCaptor.capture());
+        defineMapping(mappingContext, IFACE_NAME, IFACE_ID, IFC_CTX_NAME);
+    }
+
+    @Test
+    public void testStartStop() throws Exception {
+        final CounterRatesNotificationProducer producer =
+                new CounterRatesNotificationProducer(sampler, namingContext, mappingContext);
+
+        producer.start(collector);
+        verify(sampler).addListener(any());
+
+        producer.stop();
+        verify(samplerListenerReg).close();
+    }
+
+    @Test
+    public void testNotification() throws Exception {
+        final CounterRatesNotificationProducer producer =
+                new CounterRatesNotificationProducer(sampler, namingContext, mappingContext);
+        producer.start(collector);
+
+        final long[] delta = {1000, 10, 1, 2000, 20, 2};
+        listenerCaptor.getValue().accept(Arrays.asList(
+                new InterfaceCounterRates(IFACE_ID, delta, SECOND, delta, SECOND),
+                new InterfaceCounterRates(3, delta, SECOND, delta, 2 * SECOND)));
+        final ArgumentCaptor<CounterRatesUpdate> notificationCaptor = ArgumentCaptor.forClass(CounterRatesUpdate.class);
+        verify(collector).onNotification(notificationCaptor.capture());
+
+        final List<InterfaceRates> rates = notificationCaptor.getValue().getInterfaceRates();
+        assertEquals(2, rates.size());
+        assertEquals(IFACE_NAME, rates.get(0).getName());
+        assertEquals(1000L, rates.get(0).getSampleInterval().longValue());
+        assertEquals(10, rates.get(0).getInPacketsPerSecond().intValue());
+        assertEquals(16000, rates.get(0).getOutBitsPerSecond().intValue());
+        assertEquals(2, rates.get(0).getOutErrorsDelta().intValue());
+        // mapping for sw_if_index 3 is not known
+        assertEquals(3L, rates.get(1).getSwIfIndex().longValue());
+        assertNull(rates.get(1).getName());
+        assertEquals(8000, rates.get(1).getOutBitsPerSecond().intValue());
+    }
+}
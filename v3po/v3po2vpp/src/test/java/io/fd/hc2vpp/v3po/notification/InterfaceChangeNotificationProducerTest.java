@@ -19,12 +19,15 @@ package io.fd.hc2vpp.v3po.notification;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import io.fd.hc2vpp.common.test.util.FutureProducer;
 import io.fd.hc2vpp.common.test.util.NamingContextHelper;
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStateCache;
 import io.fd.honeycomb.notification.NotificationCollector;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.jvpp.core.callback.SwInterfaceEventCallback;
@@ -58,6 +61,8 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
     private CoreEventRegistry notificationRegistry;
     @Mock
     private AutoCloseable notificationListenerReg;
+    @Mock
+    private InterfaceStateCache stateCache;
 
     private ArgumentCaptor<SwInterfaceEventCallback> callbackArgumentCaptor;
 
@@ -75,15 +80,18 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
     @Test
     public void testStart() throws Exception {
         final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
-            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext);
+            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext, stateCache,
+                new JvppMetrics());
 
         interfaceChangeNotificationProducer.start(collector);
+        verify(stateCache).setEventsEnabled(true);
         verify(jVpp).wantInterfaceEvents(any(WantInterfaceEvents.class));
         verify(jVpp).getEventRegistry();
         verify(notificationRegistry).registerSwInterfaceEventCallback(any(
                 SwInterfaceEventCallback.class));
 
         interfaceChangeNotificationProducer.stop();
+        verify(stateCache).setEventsEnabled(false);
         verify(jVpp, times(2)).wantInterfaceEvents(any(WantInterfaceEvents.class));
         verify(notificationListenerReg).close();
     }
@@ -91,7 +99,8 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
     @Test
     public void testNotification() throws Exception {
         final InterfaceChangeNotificationProducer interfaceChangeNotificationProducer =
-            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext);
+            new InterfaceChangeNotificationProducer(jVpp, namingContext, mappingContext, stateCache,
+                new JvppMetrics());
 
         interfaceChangeNotificationProducer.start(collector);
 
@@ -103,7 +112,10 @@ public class InterfaceChangeNotificationProducerTest implements FutureProducer,
         callbackArgumentCaptor.getValue().onSwInterfaceEvent(swInterfaceSetFlagsNotification);
         final ArgumentCaptor<InterfaceChange> notificationCaptor =
                 ArgumentCaptor.forClass(InterfaceChange.class);
-        verify(collector).onNotification(notificationCaptor.capture());
+        verify(stateCache).onSwInterfaceEvent(swInterfaceSetFlagsNotification);
+        // notifications are delivered by dispatcher thread
+        verify(collector, timeout(1000)).onNotification(notificationCaptor.capture());
+        interfaceChangeNotificationProducer.stop();
 
         assertEquals(IFACE_NAME, notificationCaptor.getValue().getName().getString());
         assertEquals(InterfaceStatus.Up, notificationCaptor.getValue().getAdminStatus());
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
+import io.fd.jvpp.core.dto.SwInterfaceEvent;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class InterfaceEventCoalescerTest {
+
+    private final List<List<SwInterfaceEvent>> batches = new ArrayList<>();
+    private final JvppMetrics metrics = new JvppMetrics();
+
+    @Test
+    public void testBatch() {
+        final InterfaceEventCoalescer coalescer = new InterfaceEventCoalescer(10, 100, batches::add, metrics);
+        final SwInterfaceEvent first = event(1, 1);
+        final SwInterfaceEvent second = event(2, 0);
+        coalescer.offer(first);
+        coalescer.offer(second);
+        coalescer.dispatch();
+
+        assertEquals(1, batches.size());
+        assertEquals(first, batches.get(0).get(0));
+        assertEquals(second, batches.get(0).get(1));
+        assertEquals(2, coalescer.getDeliveredCount());
+    }
+
+    @Test
+    public void testLatestEventOfInterfaceDelivered() {
+        final InterfaceEventCoalescer coalescer = new InterfaceEventCoalescer(10, 100, batches::add, metrics);
+        coalescer.offer(event(1, 0));
+        coalescer.offer(event(1, 1));
+        final SwInterfaceEvent latest = event(1, 0);
+        coalescer.offer(latest);
+        coalescer.dispatch();
+
+        assertEquals(1, batches.get(0).size());
+        assertEquals(latest, batches.get(0).get(0));
+        assertEquals(2, coalescer.getCoalescedCount());
+    }
+
+    @Test
+    public void testFullQueue() {
+        final InterfaceEventCoalescer coalescer = new InterfaceEventCoalescer(2, 100, batches::add, metrics);
+        coalescer.offer(event(1, 1));
+        coalescer.offer(event(2, 1));
+        coalescer.offer(event(3, 1));
+        // events of queued interfaces are still coalesced
+        coalescer.offer(event(2, 0));
+        coalescer.dispatch();
+
+        assertEquals(2, batches.get(0).size());
+        assertEquals(0, batches.get(0).get(1).linkUpDown);
+        assertEquals(1, coalescer.getDroppedCount());
+        assertEquals(1, coalescer.getCoalescedCount());
+
+        // queue is free again after dispatch
+        coalescer.offer(event(3, 1));
+        coalescer.dispatch();
+        assertEquals(3, batches.get(1).get(0).swIfIndex);
+    }
+
+    @Test
+    public void testCountersExported() {
+        final InterfaceEventCoalescer coalescer = new InterfaceEventCoalescer(1, 100, batches::add, metrics);
+        coalescer.offer(event(1, 1));
+        coalescer.offer(event(1, 0));
+        coalescer.offer(event(2, 1));
+        coalescer.dispatch();
+
+        assertEquals(Long.valueOf(1), metrics.getCounters().get(InterfaceEventCoalescer.COALESCED_COUNTER));
+        assertEquals(Long.valueOf(1), metrics.getCounters().get(InterfaceEventCoalescer.DROPPED_COUNTER));
+        assertEquals(Long.valueOf(1), metrics.getCounters().get(InterfaceEventCoalescer.DELIVERED_COUNTER));
+
+        // counters are kept when notifications are restarted
+        final InterfaceEventCoalescer restarted = new InterfaceEventCoalescer(1, 100, batches::add, metrics);
+        restarted.offer(event(1, 1));
+        restarted.dispatch();
+        assertEquals(2, restarted.getDeliveredCount());
+    }
+
+    @Test
+    public void testNothingToDispatch() {
+        final InterfaceEventCoalescer coalescer = new InterfaceEventCoalescer(10, 100, batches::add, metrics);
+        coalescer.dispatch();
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void testFailedConsumer() {
+        final InterfaceEventCoalescer coalescer = new InterfaceEventCoalescer(10, 100, events -> {
+            batches.add(events);
+            throw new IllegalStateException("test");
+        }, metrics);
+        coalescer.offer(event(1, 1));
+        coalescer.dispatch();
+        coalescer.offer(event(1, 1));
+        coalescer.dispatch();
+        assertEquals(2, batches.size());
+        assertEquals(0, coalescer.getDeliveredCount());
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int linkUpDown) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.linkUpDown = (byte) linkUpDown;
+        return event;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.read;
+
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.IN_ERRORS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.IN_OCTETS;
+import static io.fd.hc2vpp.v3po.read.InterfaceCounterCache.OUT_OCTETS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
+
+public class InterfaceCounterCacheTest {
+
+    private final InterfaceCounterCache cache = new InterfaceCounterCache();
+
+    @Test
+    public void testSmallValuesShared() {
+        assertSame(cache.counter64(1, IN_OCTETS, 0), cache.counter64(2, OUT_OCTETS, 0));
+        assertSame(cache.counter32(1, IN_ERRORS, 5), cache.counter32(7, IN_ERRORS, 5));
+        assertEquals(5L, cache.counter32(1, IN_ERRORS, 5).getValue().longValue());
+    }
+
+    @Test
+    public void testUnchangedCounterReused() {
+        final Counter64 inOctets = cache.counter64(3, IN_OCTETS, 123456789L);
+        final Counter32 inErrors = cache.counter32(3, IN_ERRORS, 1000);
+        assertSame(inOctets, cache.counter64(3, IN_OCTETS, 123456789L));
+        assertSame(inErrors, cache.counter32(3, IN_ERRORS, 1000));
+        assertEquals(123456789L, inOctets.getValue().longValue());
+        assertEquals(1000L, inErrors.getValue().longValue());
+    }
+
+    @Test
+    public void testChangedCounterTranslated() {
+        final Counter64 before = cache.counter64(3, IN_OCTETS, 1000);
+        final Counter64 after = cache.counter64(3, IN_OCTETS, 2000);
+        assertNotSame(before, after);
+        assertEquals(2000L, after.getValue().longValue());
+        // counters of other interfaces or other counters of the same interface are not affected
+        assertEquals(3000L, cache.counter64(4, IN_OCTETS, 3000).getValue().longValue());
+        assertEquals(4000L, cache.counter64(3, OUT_OCTETS, 4000).getValue().longValue());
+        assertSame(after, cache.counter64(3, IN_OCTETS, 2000));
+    }
+
+    @Test
+    public void testCacheGrows() {
+        final Counter64 first = cache.counter64(0, IN_OCTETS, 1000);
+        final Counter64 high = cache.counter64(10000, IN_OCTETS, 1000);
+        assertEquals(1000L, high.getValue().longValue());
+        assertSame(first, cache.counter64(0, IN_OCTETS, 1000));
+        assertSame(high, cache.counter64(10000, IN_OCTETS, 1000));
+    }
+}
@@ -24,9 +24,11 @@ import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.ReaderCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
 import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
 import io.fd.jvpp.core.dto.SwInterfaceGetTableReply;
 import org.junit.Test;
+import org.mockito.Mock;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.VppInterfaceAugmentation;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.VppInterfaceAugmentationBuilder;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.v3po.rev190527.interfaces._interface.Routing;
@@ -46,6 +48,8 @@ public class InterfaceRoutingCustomizerTest extends ReaderCustomizerTest<Routing
     private static final Long IP6_VRF_ID = 2L;
 
     private NamingContext interfacesContext;
+    @Mock
+    private InterfaceCacheDumpManager dumpManager;
 
     public InterfaceRoutingCustomizerTest() {
         super(Routing.class, VppInterfaceAugmentationBuilder.class);
@@ -59,7 +63,7 @@ public class InterfaceRoutingCustomizerTest extends ReaderCustomizerTest<Routing
 
     @Override
     protected ReaderCustomizer<Routing, RoutingBuilder> initCustomizer() {
-        return new InterfaceRoutingCustomizer(api, interfacesContext);
+        return new InterfaceRoutingCustomizer(api, interfacesContext, dumpManager);
     }
 
     private InstanceIdentifier<Routing> getRoutingId(final String name) {
@@ -16,7 +16,12 @@
 
 package io.fd.hc2vpp.v3po.read;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.fd.hc2vpp.common.test.read.ReaderCustomizerTest;
@@ -113,6 +118,65 @@ public class InterfaceStatisticsCustomizerTest extends ReaderCustomizerTest<Stat
         getCustomizer().readCurrentAttributes(IID, statBuilder, ctx);
     }
 
+    @Test
+    public void testReadStatisticsOfMultipleInterfacesDumpsOnce() throws Exception {
+        statisticsManager.enableStatistics();
+        final String secondIfName = "testIfc2";
+        final String missingIfName = "testIfc3";
+        defineMapping(mappingContext, IF_NAME, SW_IF_INDEX, IFC_CTX_NAME);
+        defineMapping(mappingContext, secondIfName, 5, IFC_CTX_NAME);
+        defineMapping(mappingContext, missingIfName, 7, IFC_CTX_NAME);
+        final InterfaceStatisticsDetailsReplyDump dumpReply = new InterfaceStatisticsDetailsReplyDump();
+        dumpReply.interfaceStatisticsDetails = new InterfaceStatisticsDetails(2, 1);
+        dumpReply.interfaceStatisticsDetails.interfaceStatistics[0] =
+                new InterfaceStatistics(5, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1);
+        dumpReply.interfaceStatisticsDetails.interfaceStatistics[1] =
+                new InterfaceStatistics(SW_IF_INDEX, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2);
+        when(jvppStats.interfaceStatisticsDump(any())).thenReturn(future(dumpReply));
+
+        final StatisticsBuilder firstBuilder = new StatisticsBuilder();
+        getCustomizer().readCurrentAttributes(IID, firstBuilder, ctx);
+        final StatisticsBuilder secondBuilder = new StatisticsBuilder();
+        getCustomizer().readCurrentAttributes(statisticsId(secondIfName), secondBuilder, ctx);
+        final StatisticsBuilder missingBuilder = new StatisticsBuilder();
+        getCustomizer().readCurrentAttributes(statisticsId(missingIfName), missingBuilder, ctx);
+
+        assertEquals(2, firstBuilder.getInErrors().getValue().intValue());
+        assertEquals(1, secondBuilder.getInErrors().getValue().intValue());
+        assertNull(missingBuilder.getInErrors());
+        verify(jvppStats).interfaceStatisticsDump(any());
+    }
+
+    @Test
+    public void testUnchangedCountersReusedAcrossReads() throws Exception {
+        statisticsManager.enableStatistics();
+        defineMapping(mappingContext, IF_NAME, SW_IF_INDEX, IFC_CTX_NAME);
+        final InterfaceStatisticsDetailsReplyDump dumpReply = new InterfaceStatisticsDetailsReplyDump();
+        dumpReply.interfaceStatisticsDetails = new InterfaceStatisticsDetails(1, 1);
+        dumpReply.interfaceStatisticsDetails.interfaceStatistics[0] =
+                new InterfaceStatistics(SW_IF_INDEX, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000, 1000);
+        when(jvppStats.interfaceStatisticsDump(any())).thenReturn(future(dumpReply));
+
+        final StatisticsBuilder firstBuilder = new StatisticsBuilder();
+        getCustomizer().readCurrentAttributes(IID, firstBuilder, ctx);
+        // next transaction, counters dumped again
+        cache.close();
+        dumpReply.interfaceStatisticsDetails.interfaceStatistics[0].inBytes = 2000;
+        final StatisticsBuilder secondBuilder = new StatisticsBuilder();
+        getCustomizer().readCurrentAttributes(IID, secondBuilder, ctx);
+
+        assertSame(firstBuilder.getOutOctets(), secondBuilder.getOutOctets());
+        assertSame(firstBuilder.getInErrors(), secondBuilder.getInErrors());
+        assertEquals(1000, firstBuilder.getInOctets().getValue().intValue());
+        assertEquals(2000, secondBuilder.getInOctets().getValue().intValue());
+        verify(jvppStats, times(2)).interfaceStatisticsDump(any());
+    }
+
+    private static InstanceIdentifier<Statistics> statisticsId(final String ifName) {
+        return InstanceIdentifier.create(Interfaces.class).child(Interface.class, new InterfaceKey(ifName))
+                .child(Statistics.class);
+    }
+
     private InterfaceStatisticsDetailsReplyDump getStatistics() {
         InterfaceStatisticsDetailsReplyDump dumpReply = new InterfaceStatisticsDetailsReplyDump();
         dumpReply.interfaceStatisticsDetails = new InterfaceStatisticsDetails(1, 1);
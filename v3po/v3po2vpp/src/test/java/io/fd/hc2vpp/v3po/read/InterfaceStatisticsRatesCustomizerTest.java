@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.v3po.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import io.fd.hc2vpp.common.test.read.ReaderCustomizerTest;
+import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.stats.sampler.InterfaceCounterRates;
+import io.fd.hc2vpp.stats.sampler.InterfaceStatisticsSampler;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManager;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceStatisticsManagerImpl;
+import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.VppInterfaceStatisticsRatesAugmentation;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.VppInterfaceStatisticsRatesAugmentationBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.interfaces._interface.statistics.Rates;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.stats.rates.rev190715.interfaces._interface.statistics.RatesBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.Interfaces;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.InterfaceKey;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces._interface.Statistics;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceStatisticsRatesCustomizerTest extends ReaderCustomizerTest<Rates, RatesBuilder> {
+
+    private static final String IFC_CTX_NAME = "ifc-test-rates-instance";
+    private static final String IF_NAME = "testIfc";
+    private static final int SW_IF_INDEX = 1;
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final InstanceIdentifier<Rates> IID =
+            InstanceIdentifier.create(Interfaces.class).child(Interface.class, new InterfaceKey(IF_NAME))
+                    .child(Statistics.class).augmentation(VppInterfaceStatisticsRatesAugmentation.class)
+                    .child(Rates.class);
+
+    @Mock
+    private InterfaceStatisticsSampler sampler;
+
+    private InterfaceStatisticsManager statisticsManager;
+
+    public InterfaceStatisticsRatesCustomizerTest() {
+        super(Rates.class, VppInterfaceStatisticsRatesAugmentationBuilder.class);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        defineMapping(mappingContext, IF_NAME, SW_IF_INDEX, IFC_CTX_NAME);
+    }
+
+    @Override
+    protected ReaderCustomizer<Rates, RatesBuilder> initCustomizer() {
+        statisticsManager = new InterfaceStatisticsManagerImpl();
+        return new InterfaceStatisticsRatesCustomizer(new NamingContext("generatedIfaceName", IFC_CTX_NAME),
+                sampler, statisticsManager);
+    }
+
+    @Test
+    public void testReadRates() throws Exception {
+        statisticsManager.enableStatistics();
+        final long[] delta = {1000, 10, 1, 2000, 20, 2};
+        when(sampler.getRates(SW_IF_INDEX))
+                .thenReturn(Optional.of(new InterfaceCounterRates(SW_IF_INDEX, delta, SECOND, delta, 2 * SECOND)));
+
+        final RatesBuilder builder = new RatesBuilder();
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+
+        assertEquals(1000L, builder.getSampleInterval().longValue());
+        assertEquals(5, builder.getInPacketsPerSecond().intValue());
+        assertEquals(4000, builder.getInBitsPerSecond().intValue());
+        assertEquals(10, builder.getOutPacketsPerSecond().intValue());
+        assertEquals(8000, builder.getOutBitsPerSecond().intValue());
+        assertEquals(1000, builder.getInOctetsDelta().intValue());
+        assertEquals(20, builder.getOutPacketsDelta().intValue());
+        assertEquals(2, builder.getOutErrorsDelta().intValue());
+    }
+
+    @Test
+    public void testReadNotSampledYet() throws Exception {
+        statisticsManager.enableStatistics();
+        when(sampler.getRates(SW_IF_INDEX)).thenReturn(Optional.empty());
+
+        final RatesBuilder builder = new RatesBuilder();
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+        assertNull(builder.getSampleInterval());
+    }
+
+    @Test
+    public void testReadStatisticsDisabled() throws Exception {
+        final RatesBuilder builder = new RatesBuilder();
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+        assertNull(builder.getSampleInterval());
+        verifyZeroInteractions(sampler);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import io.fd.hc2vpp.common.test.util.FutureProducer;
+import io.fd.hc2vpp.v3po.read.InterfaceTableCollector.InterfaceTables;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
+import io.fd.honeycomb.translate.ModificationCache;
+import io.fd.honeycomb.translate.read.ReadContext;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.jvpp.core.dto.SwInterfaceGetTable;
+import io.fd.jvpp.core.dto.SwInterfaceGetTableReply;
+import io.fd.jvpp.core.future.FutureJVppCore;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.Interfaces;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.Interface;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.interfaces.rev180220.interfaces.InterfaceKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class InterfaceTableCollectorTest implements FutureProducer {
+
+    private static final InstanceIdentifier<Interfaces> ID = InstanceIdentifier.create(Interfaces.class);
+    private static final int FAILING_INTERFACE = 3;
+
+    @Mock
+    private FutureJVppCore api;
+    @Mock
+    private InterfaceCacheDumpManager dumpManager;
+    @Mock
+    private ReadContext ctx;
+
+    private InterfaceTableCollector collector;
+
+    @Before
+    public void setUp() throws Exception {
+        initMocks(this);
+        when(ctx.getModificationCache()).thenReturn(new ModificationCache());
+        when(dumpManager.getInterfaces(any(), any())).thenAnswer(invocation -> IntStream.range(0, 5)
+                .mapToObj(InterfaceTableCollectorTest::interfaceDetails));
+        when(api.swInterfaceGetTable(any())).thenAnswer(invocation -> {
+            final SwInterfaceGetTable request = (SwInterfaceGetTable) invocation.getArguments()[0];
+            if (request.swIfIndex == FAILING_INTERFACE) {
+                return failedFuture();
+            }
+            final SwInterfaceGetTableReply reply = new SwInterfaceGetTableReply();
+            reply.vrfId = request.swIfIndex * 10 + request.isIpv6;
+            return future(reply);
+        });
+        collector = new InterfaceTableCollector(api, dumpManager, 2);
+    }
+
+    @Test
+    public void testReadSingleInterface() throws Exception {
+        final InterfaceTables tables = collector.getTables(ID, 1, ctx);
+        assertEquals(10, tables.getIp4VrfId());
+        assertEquals(11, tables.getIp6VrfId());
+        verify(api, times(2)).swInterfaceGetTable(any());
+        verifyZeroInteractions(dumpManager);
+    }
+
+    @Test
+    public void testReadAllInterfaces() throws Exception {
+        for (int swIfIndex : new int[] {1, 2, 0, 4, 1}) {
+            final InterfaceTables tables = collector.getTables(ID, swIfIndex, ctx);
+            assertEquals(swIfIndex * 10, tables.getIp4VrfId());
+            assertEquals(swIfIndex * 10 + 1, tables.getIp6VrfId());
+        }
+        // interface 1 requested separately, the rest prefetched once the second interface was read
+        verify(api, times(10)).swInterfaceGetTable(any());
+        verify(dumpManager).getInterfaces(any(), any());
+    }
+
+    @Test
+    public void testFailureReportedForFailedInterface() throws Exception {
+        collector.getTables(interfaceId(0), 0, ctx);
+        // prefetches the failing interface
+        collector.getTables(interfaceId(1), 1, ctx);
+        try {
+            collector.getTables(interfaceId(FAILING_INTERFACE), FAILING_INTERFACE, ctx);
+            fail("ReadFailedException expected");
+        } catch (ReadFailedException e) {
+            assertEquals(interfaceId(FAILING_INTERFACE), e.getFailedId());
+        }
+    }
+
+    private static InstanceIdentifier<Interface> interfaceId(final int swIfIndex) {
+        return ID.child(Interface.class, new InterfaceKey("eth" + swIfIndex));
+    }
+
+    private static SwInterfaceDetails interfaceDetails(final int swIfIndex) {
+        final SwInterfaceDetails details = new SwInterfaceDetails();
+        details.swIfIndex = swIfIndex;
+        return details;
+    }
+}
@@ -30,6 +30,7 @@ import io.fd.jvpp.core.dto.BridgeDomainDetailsReplyDump;
 import io.fd.jvpp.core.dto.BridgeDomainDump;
 import io.fd.jvpp.core.dto.SwInterfaceDetails;
 import io.fd.jvpp.core.types.BridgeDomainSwIf;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -149,6 +150,27 @@ public class L2CustomizerTest extends ReaderCustomizerTest<L2, L2Builder> {
         verify(builder).setInterconnection(generateInterconnection(bdName, null));
     }
 
+    @Test
+    public void testReadMultipleInterfacesDumpsOnce() throws Exception {
+        final String bdName1 = "bd001";
+        final String bdName2 = "bd002";
+        defineMapping(mappingContext, "eth0", 1, IFC_CTX_NAME);
+        defineMapping(mappingContext, "eth1", 2, IFC_CTX_NAME);
+        defineMapping(mappingContext, bdName1, 1, BD_CTX_NAME);
+        defineMapping(mappingContext, bdName2, 2, BD_CTX_NAME);
+
+        whenBridgeDomainDumpThenReturn(Arrays.asList(generateBdDetails(1, 99, 1), generateBdDetails(2, 2, 2)));
+
+        final L2Builder builder1 = mock(L2Builder.class);
+        getCustomizer().readCurrentAttributes(getL2Id("eth0"), builder1, ctx);
+        final L2Builder builder2 = mock(L2Builder.class);
+        getCustomizer().readCurrentAttributes(getL2Id("eth1"), builder2, ctx);
+
+        verify(builder1).setInterconnection(generateInterconnection(bdName1, null));
+        verify(builder2).setInterconnection(generateInterconnection(bdName2, true));
+        verify(api).bridgeDomainDump(any(BridgeDomainDump.class));
+    }
+
     private BridgeDomainDetails generateBdDetails(final int ifId, final int bviSwIfIndex, int bdId) {
         final BridgeDomainDetails bridgeDomainDetails = new BridgeDomainDetails();
         bridgeDomainDetails.bviSwIfIndex = bviSwIfIndex;
@@ -24,11 +24,13 @@ import static org.mockito.Mockito.when;
 import io.fd.hc2vpp.common.test.read.ReaderCustomizerTest;
 import io.fd.hc2vpp.common.translate.util.ByteDataTranslator;
 import io.fd.hc2vpp.common.translate.util.NamingContext;
+import io.fd.hc2vpp.v3po.read.cache.InterfaceCacheDumpManager;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.spi.read.ReaderCustomizer;
 import io.fd.jvpp.core.dto.SwInterfaceGetTable;
 import io.fd.jvpp.core.dto.SwInterfaceGetTableReply;
 import org.junit.Test;
+import org.mockito.Mock;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.vlan.rev190527.SubinterfaceAugmentation;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.vlan.rev190527.interfaces._interface.SubInterfaces;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.vpp.vlan.rev190527.interfaces._interface.sub.interfaces.SubInterface;
@@ -60,6 +62,8 @@ public class SubInterfaceRoutingCustomizerTest extends ReaderCustomizerTest<Rout
     private static final int NO_VRF = 0;
 
     private NamingContext interfacesContext;
+    @Mock
+    private InterfaceCacheDumpManager dumpManager;
 
     public SubInterfaceRoutingCustomizerTest() {
         super(Routing.class, SubInterfaceBuilder.class);
@@ -74,7 +78,7 @@ public class SubInterfaceRoutingCustomizerTest extends ReaderCustomizerTest<Rout
 
     @Override
     protected ReaderCustomizer<Routing, RoutingBuilder> initCustomizer() {
-        return new SubInterfaceRoutingCustomizer(api, interfacesContext);
+        return new SubInterfaceRoutingCustomizer(api, interfacesContext, dumpManager);
     }
 
     @Test
@@ -111,6 +111,33 @@ public class VxlanCustomizerTest extends ReaderCustomizerTest<Vxlan, VxlanBuilde
         verify(api).vxlanTunnelDump(any(VxlanTunnelDump.class));
     }
 
+    @Test
+    public void testReadMultipleTunnelsDumpsOnce() throws Exception {
+        final String secondIfName = "ifc2";
+        final InstanceIdentifier<Vxlan> secondId = InstanceIdentifier.create(Interfaces.class)
+                .child(Interface.class, new InterfaceKey(secondIfName))
+                .augmentation(VppInterfaceAugmentation.class).child(Vxlan.class);
+        defineMapping(mappingContext, secondIfName, 1, IFC_CTX_NAME);
+        final SwInterfaceDetails v = new SwInterfaceDetails();
+        v.interfaceName = "vxlan-tunnel5".getBytes();
+        when(dumpCacheManager.getInterfaceDetail(secondId, ctx, secondIfName)).thenReturn(v);
+
+        final VxlanTunnelDetailsReplyDump reply = getVxlanTunnelDetailsReplyDump(55);
+        final VxlanTunnelDetails secondTunnel = getVxlanTunnelDetailsReplyDump(56).vxlanTunnelDetails.get(0);
+        secondTunnel.swIfIndex = 1;
+        reply.vxlanTunnelDetails.add(secondTunnel);
+        doReturn(future(reply)).when(api).vxlanTunnelDump(any(VxlanTunnelDump.class));
+
+        final VxlanBuilder builder = getCustomizer().getBuilder(IID);
+        getCustomizer().readCurrentAttributes(IID, builder, ctx);
+        final VxlanBuilder secondBuilder = getCustomizer().getBuilder(secondId);
+        getCustomizer().readCurrentAttributes(secondId, secondBuilder, ctx);
+
+        assertEquals(55, builder.getEncapVrfId().getValue().intValue());
+        assertEquals(56, secondBuilder.getEncapVrfId().getValue().intValue());
+        verify(api).vxlanTunnelDump(any(VxlanTunnelDump.class));
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testReadVppNameNotCached() throws Exception {
         when(dumpCacheManager.getInterfaceDetail(IID, ctx, IF_NAME))
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.fd.hc2vpp.v3po.read.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import io.fd.jvpp.core.dto.IpAddDelRoute;
+import io.fd.jvpp.core.dto.SwInterfaceAddDelAddress;
+import io.fd.jvpp.core.dto.SwInterfaceDetails;
+import io.fd.jvpp.core.dto.SwInterfaceEvent;
+import io.fd.jvpp.core.dto.SwInterfaceGetTable;
+import io.fd.jvpp.core.dto.SwInterfaceSetFlags;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InterfaceStateCacheTest {
+
+    private InterfaceStateCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new InterfaceStateCache(1, TimeUnit.HOURS);
+        cache.setEventsEnabled(true);
+        cache.sync(cache.startSync(), Arrays.asList(details(0), details(1)));
+    }
+
+    @Test
+    public void testSynced() {
+        assertEquals(2, cache.getInterfaces().get().size());
+    }
+
+    @Test
+    public void testNotUsedWithoutEvents() {
+        cache.setEventsEnabled(false);
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testResyncPeriodElapsed() {
+        cache = new InterfaceStateCache(0, TimeUnit.SECONDS);
+        cache.setEventsEnabled(true);
+        cache.sync(cache.startSync(), Collections.singletonList(details(0)));
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testInvalidatedDuringSync() {
+        final long token = cache.startSync();
+        cache.invalidate();
+        cache.sync(token, Collections.singletonList(details(0)));
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testEventUpdatesState() {
+        final SwInterfaceDetails original = find(cache.getInterfaces().get(), 1);
+        cache.onSwInterfaceEvent(event(1, 1, 0));
+        final SwInterfaceDetails updated = find(cache.getInterfaces().get(), 1);
+        assertEquals(1, updated.adminUpDown);
+        assertEquals(0, updated.linkUpDown);
+        // details already provided to readers are not modified
+        assertNotSame(original, updated);
+        assertEquals(0, original.adminUpDown);
+        assertEquals(1, updated.swIfIndex);
+    }
+
+    @Test
+    public void testEventRemovesInterface() {
+        cache.onSwInterfaceEvent(event(1, 0, 0, (byte) 1));
+        assertEquals(1, cache.getInterfaces().get().size());
+    }
+
+    @Test
+    public void testEventForUnknownInterfaceInvalidates() {
+        cache.onSwInterfaceEvent(event(2, 1, 1));
+        assertFalse(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testSetFlagsWriteUpdatesState() {
+        final SwInterfaceSetFlags request = new SwInterfaceSetFlags();
+        request.swIfIndex = 0;
+        request.adminUpDown = 1;
+        final SwInterfaceDetails original = find(cache.getInterfaces().get(), 0);
+        cache.onWrite("swInterfaceSetFlags", request);
+        assertEquals(1, find(cache.getInterfaces().get(), 0).adminUpDown);
+        assertEquals(0, original.adminUpDown);
+    }
+
+    @Test
+    public void testNonInterfaceWriteDoesNotInvalidate() {
+        cache.onWrite("ipAddDelRoute", new IpAddDelRoute());
+        cache.onWrite("swInterfaceGetTable", new SwInterfaceGetTable());
+        assertTrue(cache.getInterfaces().isPresent());
+    }
+
+    @Test
+    public void testOtherWriteInvalidates() {
+        cache.onWrite("swInterfaceAddDelAddress", new SwInterfaceAddDelAddress());
+        assertFalse(cache.getInterfaces().isPresent());
+        cache.sync(cache.startSync(), Collections.singletonList(details(0)));
+        assertTrue(cache.getInterfaces().isPresent());
+    }
+
+    private static SwInterfaceDetails find(final Collection<SwInterfaceDetails> details, final int swIfIndex) {
+        return details.stream().filter(detail -> detail.swIfIndex == swIfIndex).findFirst().get();
+    }
+
+    private static SwInterfaceDetails details(final int swIfIndex) {
+        final SwInterfaceDetails details = new SwInterfaceDetails();
+        details.swIfIndex = swIfIndex;
+        return details;
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int adminUpDown, final int linkUpDown) {
+        return event(swIfIndex, adminUpDown, linkUpDown, (byte) 0);
+    }
+
+    private static SwInterfaceEvent event(final int swIfIndex, final int adminUpDown, final int linkUpDown,
+                                          final byte deleted) {
+        final SwInterfaceEvent event = new SwInterfaceEvent();
+        event.swIfIndex = swIfIndex;
+        event.adminUpDown = (byte) adminUpDown;
+        event.linkUpDown = (byte) linkUpDown;
+        event.deleted = deleted;
+        return event;
+    }
+}
@@ -17,6 +17,8 @@
 package io.fd.hc2vpp.common.integration;
 
 import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
+import io.fd.hc2vpp.common.translate.util.SharedDumpCache;
 import io.fd.honeycomb.binding.init.ProviderTrait;
 import io.fd.honeycomb.data.init.ShutdownHandler;
 import io.fd.jvpp.JVppRegistry;
@@ -29,7 +31,8 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Provides future API for jvpp-core plugin. Must be a singleton due to shutdown hook usage. Registers shutdown hook to
- * free plugin's resources on shutdown.
+ * free plugin's resources on shutdown. Calls of the api are recorded in {@link JvppMetrics} and writes
+ * invalidate {@link SharedDumpCache}.
  */
 public final class JVppCoreProvider extends ProviderTrait<FutureJVppCore> {
 
@@ -41,14 +44,21 @@ public final class JVppCoreProvider extends ProviderTrait<FutureJVppCore> {
     @Inject
     private ShutdownHandler shutdownHandler;
 
+    @Inject
+    private JvppMetrics metrics;
+
+    @Inject
+    private SharedDumpCache dumpCache;
+
     @Override
-    protected FutureJVppCoreFacade create() {
+    protected FutureJVppCore create() {
         try {
             final JVppCoreImpl jVpp = new JVppCoreImpl();
             // Free jvpp-core plugin's resources on shutdown
             shutdownHandler.register("jvpp-core", jVpp);
             LOG.info("Successfully loaded jvpp-core plugin");
-            return new FutureJVppCoreFacade(registry, jVpp);
+            return metrics.instrument(FutureJVppCore.class,
+                    dumpCache.invalidateOnWrite(FutureJVppCore.class, new FutureJVppCoreFacade(registry, jVpp)));
         } catch (IOException e) {
             throw new IllegalStateException("Unable to open VPP management connection", e);
         }
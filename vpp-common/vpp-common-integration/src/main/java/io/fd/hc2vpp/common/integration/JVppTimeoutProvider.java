@@ -16,9 +16,12 @@
 
 package io.fd.hc2vpp.common.integration;
 
+import com.google.common.base.Splitter;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 class JVppTimeoutProvider implements Provider<JVppTimeoutProvider.JVppTimeoutInit> {
 
@@ -28,10 +31,25 @@ class JVppTimeoutProvider implements Provider<JVppTimeoutProvider.JVppTimeoutIni
     @Override
     public JVppTimeoutInit get() {
         JvppReplyConsumer.JvppReplyTimeoutHolder.setupTimeout(configAttributes.jvppRequestTimeout);
+        configAttributes.jvppOperationTimeouts.ifPresent(timeouts ->
+                JvppReplyConsumer.JvppReplyTimeoutHolder.setupOperationTimeouts(parseOperationTimeouts(timeouts)));
         return new JVppTimeoutInit() {
         };
     }
 
+    static Map<String, Integer> parseOperationTimeouts(final String timeouts) {
+        return parseOperationValues(timeouts).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Integer.valueOf(entry.getValue())));
+    }
+
+    /**
+     * Parses values configured for jvpp operations in "operation:value,operation:value" format.
+     */
+    static Map<String, String> parseOperationValues(final String values) {
+        return Splitter.on(',').trimResults().omitEmptyStrings().withKeyValueSeparator(
+                Splitter.on(':').trimResults()).split(values);
+    }
+
     interface JVppTimeoutInit {
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.integration;
+
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import java.lang.management.ManagementFactory;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides registry of jvpp call metrics. Registers it as MBean, so metrics can be read over JMX
+ * (including Prometheus text format), without any additional endpoint.
+ */
+public final class JvppMetricsProvider extends ProviderTrait<JvppMetrics> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JvppMetricsProvider.class);
+
+    @Override
+    protected JvppMetrics create() {
+        final JvppMetrics metrics = new JvppMetrics();
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(JvppMetrics.OBJECT_NAME));
+            LOG.info("Jvpp metrics registered as {}", JvppMetrics.OBJECT_NAME);
+        } catch (JMException e) {
+            // metrics are still recorded, just not visible over JMX
+            LOG.warn("Unable to register jvpp metrics as {}", JvppMetrics.OBJECT_NAME, e);
+        }
+        return metrics;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.integration;
+
+import com.google.inject.Inject;
+import io.fd.hc2vpp.common.translate.util.SharedDumpCache;
+import io.fd.honeycomb.binding.init.ProviderTrait;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Provides dump cache shared across transactions, configured by jvpp-dump-cache-ttls.
+ */
+public final class SharedDumpCacheProvider extends ProviderTrait<SharedDumpCache> {
+
+    private static final long MAXIMUM_SIZE = 256;
+
+    @Inject
+    private VppConfigAttributes configAttributes;
+
+    @Override
+    protected SharedDumpCache create() {
+        return configAttributes.jvppDumpCacheTtls
+                .map(ttls -> new SharedDumpCache(MAXIMUM_SIZE, parseTtls(ttls)))
+                .orElseGet(SharedDumpCache::disabled);
+    }
+
+    private static Map<String, Long> parseTtls(final String ttls) {
+        return JVppTimeoutProvider.parseOperationValues(ttls).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> Long.valueOf(entry.getValue())));
+    }
+}
@@ -19,6 +19,8 @@ package io.fd.hc2vpp.common.integration;
 import com.google.inject.AbstractModule;
 import com.google.inject.Singleton;
 import com.google.inject.multibindings.Multibinder;
+import io.fd.hc2vpp.common.translate.util.JvppMetrics;
+import io.fd.hc2vpp.common.translate.util.SharedDumpCache;
 import io.fd.hc2vpp.common.translate.util.VppStatusListener;
 import io.fd.honeycomb.translate.read.ReaderFactory;
 import io.fd.jvpp.JVppRegistry;
@@ -35,6 +37,8 @@ public final class VppCommonModule extends AbstractModule {
 
         bind(VppStatusListener.class).toInstance(new VppStatusListener());
         bind(JVppRegistry.class).toProvider(JVppRegistryProvider.class).in(Singleton.class);
+        bind(JvppMetrics.class).toProvider(JvppMetricsProvider.class).in(Singleton.class);
+        bind(SharedDumpCache.class).toProvider(SharedDumpCacheProvider.class).in(Singleton.class);
         bind(FutureJVppCore.class).toProvider(JVppCoreProvider.class).in(Singleton.class);
         bind(JVppTimeoutProvider.JVppTimeoutInit.class).toProvider(JVppTimeoutProvider.class).asEagerSingleton();
 
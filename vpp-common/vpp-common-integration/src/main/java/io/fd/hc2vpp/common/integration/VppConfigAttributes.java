@@ -32,4 +32,18 @@ public class VppConfigAttributes {
 
     @InjectConfig("jvpp-request-timeout")
     public int jvppRequestTimeout;
+
+    /**
+     * Timeouts of particular jvpp operations overriding jvpp-request-timeout, e.g. "ipFibDump:30,nat64BibDump:30".
+     */
+    @InjectConfig("jvpp-operation-timeouts")
+    public Optional<String> jvppOperationTimeouts;
+
+    /**
+     * Time to live (in milliseconds) of dumps cached across transactions, e.g. "swInterfaceDump:2000". Dumps are
+     * not cached across transactions if not set. Cached dumps are invalidated only by writes sent over core jvpp api,
+     * so dumps of data modified by jvpp plugins should not be cached.
+     */
+    @InjectConfig("jvpp-dump-cache-ttls")
+    public Optional<String> jvppDumpCacheTtls;
 }
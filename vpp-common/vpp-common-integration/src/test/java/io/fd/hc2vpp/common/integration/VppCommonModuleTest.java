@@ -57,6 +57,8 @@ public class VppCommonModuleTest {
         Guice.createInjector(new VppCommonModule(), BoundFieldModule.of(this)).injectMembers(this);
         assertThat(readerFactories, is(not(empty())));
         assertEquals(15, JvppReplyConsumer.JvppReplyTimeoutHolder.getTimeout());
+        assertEquals(30, JvppReplyConsumer.JvppReplyTimeoutHolder.getTimeout("classifySessionDump"));
+        assertEquals(15, JvppReplyConsumer.JvppReplyTimeoutHolder.getTimeout("swInterfaceSetFlags"));
     }
 
     @Test
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.BitSet;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Allocates indexes for context mappings in O(1) amortized time. Keeps high-water mark (lowest index above all indexes
+ * ever used) and set of released indexes below it, which are reused first.
+ *
+ * <p/>Allocator is initialized once, on first allocation, from indexes persisted in context data. After that,
+ * it is kept up to date by {@link #reserve(long)} and {@link #release(long)} calls of the owning context.
+ *
+ * <p/>Context data are transaction scoped, so released index can be still in use if the removal was not committed.
+ * Released indexes are therefore checked before reuse. Indexes found in use stay released and are checked again by
+ * subsequent allocations, so they are not lost if the removal gets committed later.
+ */
+@ThreadSafe
+public final class IndexAllocator {
+
+    private final long startIndex;
+    private final BitSet released = new BitSet();
+    private long highWaterMark;
+    private boolean initialized;
+
+    /**
+     * @param startIndex lowest index that can be allocated
+     */
+    public IndexAllocator(final long startIndex) {
+        this.startIndex = startIndex;
+        this.highWaterMark = startIndex;
+    }
+
+    /**
+     * Allocates next free index.
+     *
+     * @param persistedIndexes indexes stored in context data, read only on first allocation
+     * @param inUse            checks whether released index is still stored in context data, expected to be O(1)
+     * @return allocated index
+     */
+    public synchronized long allocate(@Nonnull final Supplier<LongStream> persistedIndexes,
+                                      @Nonnull final LongPredicate inUse) {
+        if (!initialized) {
+            persistedIndexes.get().max().ifPresent(max -> highWaterMark = Math.max(highWaterMark, max + 1));
+            initialized = true;
+        }
+
+        for (int offset = released.nextSetBit(0); offset >= 0; offset = released.nextSetBit(offset + 1)) {
+            final long index = startIndex + offset;
+            if (!inUse.test(index)) {
+                released.clear(offset);
+                return index;
+            }
+        }
+        return highWaterMark++;
+    }
+
+    /**
+     * Marks index as used by mapping with explicitly assigned index.
+     */
+    public synchronized void reserve(final long index) {
+        if (index >= highWaterMark) {
+            highWaterMark = index + 1;
+        } else if (isTracked(index)) {
+            released.clear((int) (index - startIndex));
+        }
+    }
+
+    /**
+     * Marks index as free to be reused.
+     */
+    public synchronized void release(final long index) {
+        // indexes above high-water mark or out of bitmap range are never allocated by this allocator
+        if (index < highWaterMark && isTracked(index)) {
+            released.set((int) (index - startIndex));
+        }
+    }
+
+    private boolean isTracked(final long index) {
+        return index >= startIndex && index - startIndex <= Integer.MAX_VALUE - 1;
+    }
+}
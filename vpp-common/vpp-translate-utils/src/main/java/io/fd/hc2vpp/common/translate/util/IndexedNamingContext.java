@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nonnull;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+
+/**
+ * {@link NamingContext} keeping in-memory index of index to name mappings, so that index to name lookups do not
+ * require scanning of all mappings stored in context data tree.
+ *
+ * <p/>Context data tree stays the source of truth. Index hits are verified by keyed read of the mapping (mapping list
+ * is keyed by name), so mappings added by transactions that are not visible to the reader (not committed yet, or
+ * never) are detected. Such entries are not removed from the index, since they can become visible once their
+ * transaction is committed. Instead, the reader falls back to its view of context data. Index misses are answered
+ * from the index only if it was fully loaded from context data, and no removal was done since then (removal could
+ * have been reverted together with its transaction).
+ *
+ * <p/>All modifications of the underlying naming context are expected to be done using this instance.
+ */
+public class IndexedNamingContext extends NamingContext {
+
+    private final Map<Integer, String> indexToName = new ConcurrentHashMap<>();
+    private volatile boolean fullyLoaded = false;
+
+    /**
+     * Create new indexed naming context
+     *
+     * @param artificialNamePrefix artificial name to be used for items without a name in VPP (or not provided)
+     * @param instanceName         name of this context instance. Will be used as list item identifier within context
+     *                             data tree
+     */
+    public IndexedNamingContext(@Nonnull final String artificialNamePrefix, @Nonnull final String instanceName) {
+        super(artificialNamePrefix, instanceName);
+    }
+
+    @Nonnull
+    @Override
+    public Optional<String> getNameIfPresent(final int index, @Nonnull final MappingContext mappingContext) {
+        final String indexed = indexToName.get(index);
+        if (indexed != null) {
+            if (isMapped(index, indexed, mappingContext)) {
+                return Optional.of(indexed);
+            }
+            // mapping is not visible to this transaction, but might be committed by other one, so it is kept
+        } else if (fullyLoaded) {
+            return Optional.empty();
+        }
+
+        load(mappingContext);
+        final String loaded = indexToName.get(index);
+        return loaded != null && isMapped(index, loaded, mappingContext)
+                ? Optional.of(loaded)
+                : Optional.empty();
+    }
+
+    @Override
+    public boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
+        return getNameIfPresent(index, mappingContext).isPresent();
+    }
+
+    @Override
+    public void addName(final int index, final String name, final MappingContext mappingContext) {
+        super.addName(index, name, mappingContext);
+        indexToName.put(index, name);
+    }
+
+    @Override
+    protected void mappingRemoved(@Nonnull final Mapping mapping) {
+        // removal can still be reverted, so misses have to be verified against context data until next load
+        fullyLoaded = false;
+        indexToName.remove(mapping.getIndex(), mapping.getName());
+    }
+
+    private boolean isMapped(final int index, final String name, final MappingContext mappingContext) {
+        final Optional<Mapping> mapping = mappingContext.read(getMappingIid(name));
+        return mapping.isPresent() && mapping.get().getIndex() == index;
+    }
+
+    /**
+     * Loads all mappings from context data. Existing index entries are overwritten but not removed, because they can
+     * belong to transactions not yet visible to provided mapping context. Entries are removed only by removal of
+     * their mappings.
+     */
+    private void load(final MappingContext mappingContext) {
+        final Optional<Mappings> read = mappingContext.read(getMappingsIid());
+        if (read.isPresent() && read.get().getMapping() != null) {
+            read.get().getMapping().forEach(mapping -> indexToName.put(mapping.getIndex(), mapping.getName()));
+        }
+        fullyLoaded = true;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.fd.jvpp.VppBaseCallException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+
+/**
+ * Support for asynchronous consumption of jvpp replies used by {@link JvppReplyConsumer}. Timeouts are enforced by
+ * single shared scheduler thread, so no thread is parked while waiting for reply.
+ */
+final class JvppAsyncReplies {
+
+    private static final ScheduledThreadPoolExecutor TIMEOUT_SCHEDULER = createScheduler();
+
+    private JvppAsyncReplies() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated.");
+    }
+
+    /**
+     * Returns future completed with reply, or failed with exception produced by provided mappers if reply fails or is
+     * not received within timeout.
+     *
+     * @param replyStage       reply of jvpp call
+     * @param timeoutInSeconds reply timeout
+     * @param timeoutMapper    maps {@link TimeoutException} to failure of returned future
+     * @param failureMapper    maps {@link VppBaseCallException} to failure of returned future
+     */
+    static <R> CompletableFuture<R> consume(@Nonnull final CompletionStage<R> replyStage,
+                                            @Nonnegative final int timeoutInSeconds,
+                                            @Nonnull final Function<TimeoutException, ? extends Exception> timeoutMapper,
+                                            @Nonnull final Function<VppBaseCallException, ? extends Exception> failureMapper) {
+        checkArgument(timeoutInSeconds > 0, "Timeout cannot be < 0");
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        final ScheduledFuture<?> timeout = TIMEOUT_SCHEDULER.schedule(
+                () -> result.completeExceptionally(timeoutMapper.apply(
+                        new TimeoutException("Reply not received within " + timeoutInSeconds + " seconds"))),
+                timeoutInSeconds, TimeUnit.SECONDS);
+
+        replyStage.whenComplete((reply, failure) -> {
+            timeout.cancel(false);
+            if (failure == null) {
+                result.complete(reply);
+                return;
+            }
+            final Throwable cause = unwrap(failure);
+            if (cause instanceof VppBaseCallException) {
+                result.completeExceptionally(failureMapper.apply((VppBaseCallException) cause));
+            } else {
+                result.completeExceptionally(new IllegalStateException(cause));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits for completion of future produced by {@link #consume}, rethrowing its failure if of expected type.
+     */
+    static <R, E extends Exception> R join(@Nonnull final CompletionStage<R> asyncReply,
+                                           @Nonnull final Class<E> failureType) throws E {
+        try {
+            return asyncReply.toCompletableFuture().join();
+        } catch (CompletionException e) {
+            final Throwable cause = unwrap(e);
+            if (failureType.isInstance(cause)) {
+                throw failureType.cast(cause);
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static ScheduledThreadPoolExecutor createScheduler() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactoryBuilder().setNameFormat("jvpp-reply-timeout-%d").setDaemon(true).build());
+        // replies usually arrive well before timeout, do not keep cancelled timeouts in the queue
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Lock free histogram of jvpp reply latencies. Latencies are counted in buckets with power of two upper bounds
+ * (in microseconds), so recorded values are kept with relative error below 2x, which is enough to tell which
+ * operations dominate, without any allocation on the request path.
+ */
+@ThreadSafe
+final class JvppLatencyHistogram {
+
+    // 2^36 us is more than 19 hours, way above any reply timeout
+    private static final int BUCKETS = 37;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder sum = new LongAdder();
+
+    JvppLatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(final long latencyInNanos) {
+        final long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(latencyInNanos, 0));
+        // bucket i holds latencies in range (2^(i-1), 2^i] us, bucket 0 holds latencies up to 1 us
+        final int bucket = micros <= 1
+                ? 0
+                : 64 - Long.numberOfLeadingZeros(micros - 1);
+        buckets[Math.min(bucket, BUCKETS - 1)].increment();
+        sum.add(micros);
+    }
+
+    long getCount() {
+        long count = 0;
+        for (final LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    long getSumInMicros() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns upper bound (in microseconds) of latencies of given percentile of recorded replies, or 0 if there are
+     * no replies recorded.
+     */
+    long getPercentileInMicros(final double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100, "Percentile has to be in range (0, 100]");
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        final long rank = (long) Math.ceil(percentile / 100 * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && seen > 0) {
+                return getUpperBoundInMicros(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns cumulative count of latencies up to upper bound of each bucket.
+     */
+    long[] getCumulativeCounts() {
+        final long[] cumulative = new long[BUCKETS];
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets[i].sum();
+            cumulative[i] = seen;
+        }
+        return cumulative;
+    }
+
+    static long getUpperBoundInMicros(final int bucket) {
+        return 1L << bucket;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Keeps reply latencies of most recent calls of single jvpp operation and computes their percentile.
+ *
+ * <p/>Percentile is recomputed when recording every {@code recomputeInterval}-th latency and cached, so reading it
+ * (e.g. for each reply by {@link JvppMetrics}) does not sort the samples.
+ *
+ * <p/>Single timed out reply would become the maximum sample and so (with few samples) the percentile itself,
+ * raising the timeout of the operation at once. Timed out replies are therefore recorded only after
+ * {@code timeoutsToRecord} consecutive timeouts.
+ */
+@ThreadSafe
+final class JvppLatencyTracker {
+
+    private final long[] samples;
+    private final int minSamples;
+    private final double percentile;
+    private final int recomputeInterval;
+    private final int timeoutsToRecord;
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private int consecutiveTimeouts;
+    // negative if there are not enough samples yet
+    private volatile long cachedPercentile = -1;
+
+    /**
+     * @param capacity          number of most recent latencies kept
+     * @param minSamples        number of latencies required before percentile is computed
+     * @param percentile        percentile of latencies provided by {@link #percentile()}
+     * @param recomputeInterval number of recorded latencies after which percentile is recomputed
+     * @param timeoutsToRecord  number of consecutive timeouts after which timed out replies are recorded
+     */
+    JvppLatencyTracker(final int capacity, final int minSamples, final double percentile,
+                       final int recomputeInterval, final int timeoutsToRecord) {
+        checkArgument(capacity > 0, "Capacity has to be positive");
+        checkArgument(minSamples > 0 && minSamples <= capacity, "Min samples has to be in range [1, capacity]");
+        checkArgument(percentile > 0 && percentile <= 100, "Percentile has to be in range (0, 100]");
+        checkArgument(recomputeInterval > 0, "Recompute interval has to be positive");
+        checkArgument(timeoutsToRecord > 0, "Timeouts to record has to be positive");
+        this.samples = new long[capacity];
+        this.minSamples = minSamples;
+        this.percentile = percentile;
+        this.recomputeInterval = recomputeInterval;
+        this.timeoutsToRecord = timeoutsToRecord;
+    }
+
+    synchronized void record(final long latencyInNanos) {
+        consecutiveTimeouts = 0;
+        add(latencyInNanos, false);
+    }
+
+    /**
+     * Records reply that was not received within timeout. Recorded as latency equal to the timeout, but only once
+     * there were enough consecutive timeouts.
+     */
+    synchronized void recordTimeout(final long timeoutInNanos) {
+        if (++consecutiveTimeouts >= timeoutsToRecord) {
+            // timeouts are rare, so let them affect percentile at once
+            add(timeoutInNanos, true);
+        }
+    }
+
+    private void add(final long latencyInNanos, final boolean recompute) {
+        samples[next] = latencyInNanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+        if (count >= minSamples
+                && (++sinceRecompute >= recomputeInterval || cachedPercentile < 0 || recompute)) {
+            sinceRecompute = 0;
+            final long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+            cachedPercentile = sorted[rank - 1];
+        }
+    }
+
+    /**
+     * Returns latency below which configured percentile of recorded latencies fall, as computed by last
+     * recomputation, or empty if there are not enough samples yet.
+     */
+    OptionalLong percentile() {
+        final long value = cachedPercentile;
+        return value < 0
+                ? OptionalLong.empty()
+                : OptionalLong.of(value);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.jvpp.VppBaseCallException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Registry of metrics of jvpp calls. Jvpp apis instrumented by {@link #instrument(Class, Object)} record for each
+ * operation (jvpp api method) number of requests, requests waiting for reply, latency histogram, failures by VPP error
+ * code and replies received later than operation timeout (see {@link JvppReplyConsumer.JvppReplyTimeoutHolder}).
+ * Events related to jvpp that are not api calls (e.g. handling of VPP events) can be counted by
+ * {@link #counter(String)}.
+ */
+@ThreadSafe
+public final class JvppMetrics implements JvppMetricsMXBean {
+
+    /**
+     * JMX object name metrics are registered under.
+     */
+    public static final String OBJECT_NAME = "io.fd.hc2vpp:type=JvppMetrics";
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Wraps jvpp api, so that all its calls returning {@link CompletionStage} are recorded.
+     *
+     * @param jvppApi  jvpp api interface, e.g. FutureJVppCore
+     * @param delegate jvpp api implementation
+     * @return instrumented jvpp api
+     */
+    public <T> T instrument(@Nonnull final Class<T> jvppApi, @Nonnull final T delegate) {
+        checkArgument(jvppApi.isInterface(), "Only jvpp api interfaces can be instrumented, but %s is not", jvppApi);
+        return jvppApi.cast(Proxy.newProxyInstance(jvppApi.getClassLoader(), new Class<?>[] {jvppApi},
+                (proxy, method, args) -> invoke(delegate, method, args)));
+    }
+
+    /**
+     * Returns counter registered under given name, counter is created on first use. All users of the same name share
+     * single counter.
+     *
+     * @param name Prometheus metric name, e.g. interface_events_dropped_total
+     */
+    @Nonnull
+    public LongAdder counter(@Nonnull final String name) {
+        return counters.computeIfAbsent(name, counterName -> new LongAdder());
+    }
+
+    private Object invoke(final Object delegate, final Method method, final Object[] args) throws Throwable {
+        if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+            return invokeDelegate(delegate, method, args);
+        }
+
+        final OperationMetrics metrics = operations.computeIfAbsent(method.getName(), OperationMetrics::new);
+        metrics.requestSent();
+        final long start = System.nanoTime();
+        final CompletionStage<?> reply;
+        try {
+            reply = (CompletionStage<?>) invokeDelegate(delegate, method, args);
+        } catch (Throwable t) {
+            metrics.replyReceived(System.nanoTime() - start, t);
+            throw t;
+        }
+        reply.whenComplete((ignored, failure) -> metrics.replyReceived(System.nanoTime() - start, failure));
+        return reply;
+    }
+
+    private static Object invokeDelegate(final Object delegate, final Method method, final Object[] args)
+            throws Throwable {
+        try {
+            return method.invoke(delegate, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public Map<String, JvppOperationStats> getOperations() {
+        final Map<String, JvppOperationStats> stats = new TreeMap<>();
+        operations.forEach((name, metrics) -> stats.put(name, metrics.getStats()));
+        return stats;
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        final Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+
+    @Override
+    public String getPrometheusText() {
+        final Map<String, OperationMetrics> sorted = new TreeMap<>(operations);
+        final StringBuilder text = new StringBuilder();
+        text.append("# TYPE jvpp_requests_total counter\n");
+        sorted.forEach((name, metrics) -> appendSample(text, "jvpp_requests_total", name, metrics.requests.sum()));
+        text.append("# TYPE jvpp_requests_in_flight gauge\n");
+        sorted.forEach((name, metrics) -> appendSample(text, "jvpp_requests_in_flight", name, metrics.inFlight.get()));
+        text.append("# TYPE jvpp_request_timeouts_total counter\n");
+        sorted.forEach((name, metrics) -> appendSample(text, "jvpp_request_timeouts_total", name,
+                metrics.timeouts.sum()));
+        text.append("# TYPE jvpp_request_failures_total counter\n");
+        sorted.forEach((name, metrics) -> new TreeMap<>(metrics.errorCodes).forEach((code, count) ->
+                text.append("jvpp_request_failures_total{operation=\"").append(name)
+                        .append("\",error_code=\"").append(code).append("\"} ").append(count.sum()).append('\n')));
+        text.append("# TYPE jvpp_request_latency_seconds histogram\n");
+        sorted.forEach((name, metrics) -> appendHistogram(text, name, metrics.latencies));
+        getCounters().forEach((name, value) ->
+                text.append("# TYPE ").append(name).append(" counter\n").append(name).append(' ').append(value)
+                        .append('\n'));
+        return text.toString();
+    }
+
+    private static void appendSample(final StringBuilder text, final String metric, final String operation,
+                                     final long value) {
+        text.append(metric).append("{operation=\"").append(operation).append("\"} ").append(value).append('\n');
+    }
+
+    private static void appendHistogram(final StringBuilder text, final String operation,
+                                        final JvppLatencyHistogram histogram) {
+        final long[] cumulative = histogram.getCumulativeCounts();
+        final long count = cumulative[cumulative.length - 1];
+        // buckets above the slowest reply add no information
+        for (int i = 0; i < cumulative.length && (i == 0 || cumulative[i - 1] < count); i++) {
+            text.append("jvpp_request_latency_seconds_bucket{operation=\"").append(operation).append("\",le=\"")
+                    .append(JvppLatencyHistogram.getUpperBoundInMicros(i) / 1e6).append("\"} ")
+                    .append(cumulative[i]).append('\n');
+        }
+        text.append("jvpp_request_latency_seconds_bucket{operation=\"").append(operation).append("\",le=\"+Inf\"} ")
+                .append(count).append('\n');
+        text.append("jvpp_request_latency_seconds_sum{operation=\"").append(operation).append("\"} ")
+                .append(histogram.getSumInMicros() / 1e6).append('\n');
+        text.append("jvpp_request_latency_seconds_count{operation=\"").append(operation).append("\"} ")
+                .append(count).append('\n');
+    }
+
+    private static final class OperationMetrics {
+        private final String name;
+        private final LongAdder requests = new LongAdder();
+        private final AtomicLong inFlight = new AtomicLong();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final Map<Integer, LongAdder> errorCodes = new ConcurrentHashMap<>();
+        private final JvppLatencyHistogram latencies = new JvppLatencyHistogram();
+        private final LongAccumulator maxLatency = new LongAccumulator(Long::max, 0);
+
+        private OperationMetrics(final String name) {
+            this.name = name;
+        }
+
+        private void requestSent() {
+            requests.increment();
+            inFlight.incrementAndGet();
+        }
+
+        private void replyReceived(final long latencyInNanos, final Throwable failure) {
+            inFlight.decrementAndGet();
+            latencies.record(latencyInNanos);
+            maxLatency.accumulate(TimeUnit.NANOSECONDS.toMicros(latencyInNanos));
+            if (latencyInNanos > TimeUnit.SECONDS.toNanos(JvppReplyConsumer.JvppReplyTimeoutHolder.getTimeout(name))) {
+                timeouts.increment();
+            }
+            if (failure != null) {
+                failures.increment();
+                final Throwable cause = unwrap(failure);
+                if (cause instanceof VppBaseCallException) {
+                    errorCodes.computeIfAbsent(((VppBaseCallException) cause).getErrorCode(), code -> new LongAdder())
+                            .increment();
+                }
+            }
+        }
+
+        private JvppOperationStats getStats() {
+            final Map<Integer, Long> codes = new TreeMap<>();
+            errorCodes.forEach((code, count) -> codes.put(code, count.sum()));
+            return new JvppOperationStats(requests.sum(), inFlight.get(), failures.sum(), timeouts.sum(),
+                    latencies.getPercentileInMicros(50), latencies.getPercentileInMicros(99), maxLatency.get(),
+                    latencies.getSumInMicros(), Collections.unmodifiableMap(codes));
+        }
+
+        private static Throwable unwrap(final Throwable failure) {
+            Throwable cause = failure;
+            while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                    && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            return cause;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link JvppMetrics}.
+ */
+public interface JvppMetricsMXBean {
+
+    /**
+     * @return metrics of jvpp operations keyed by operation name (e.g. ipFibDump)
+     */
+    Map<String, JvppOperationStats> getOperations();
+
+    /**
+     * @return values of counters registered by {@link JvppMetrics#counter(String)} keyed by counter name
+     */
+    Map<String, Long> getCounters();
+
+    /**
+     * @return metrics in Prometheus text exposition format
+     */
+    String getPrometheusText();
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import java.beans.ConstructorProperties;
+import java.util.Map;
+import javax.annotation.Nonnull;
+
+/**
+ * Snapshot of metrics of single jvpp operation, see {@link JvppMetrics}.
+ */
+public final class JvppOperationStats {
+
+    private final long requests;
+    private final long inFlight;
+    private final long failures;
+    private final long timeouts;
+    private final long latencyP50Micros;
+    private final long latencyP99Micros;
+    private final long latencyMaxMicros;
+    private final long latencySumMicros;
+    private final Map<Integer, Long> errorCodes;
+
+    @ConstructorProperties( {"requests", "inFlight", "failures", "timeouts", "latencyP50Micros", "latencyP99Micros",
+            "latencyMaxMicros", "latencySumMicros", "errorCodes"})
+    public JvppOperationStats(final long requests, final long inFlight, final long failures, final long timeouts,
+                              final long latencyP50Micros, final long latencyP99Micros, final long latencyMaxMicros,
+                              final long latencySumMicros, @Nonnull final Map<Integer, Long> errorCodes) {
+        this.requests = requests;
+        this.inFlight = inFlight;
+        this.failures = failures;
+        this.timeouts = timeouts;
+        this.latencyP50Micros = latencyP50Micros;
+        this.latencyP99Micros = latencyP99Micros;
+        this.latencyMaxMicros = latencyMaxMicros;
+        this.latencySumMicros = latencySumMicros;
+        this.errorCodes = errorCodes;
+    }
+
+    /**
+     * @return number of requests sent
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return number of requests waiting for reply
+     */
+    public long getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of failed requests
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return number of replies received later than reply timeout of the operation
+     */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getLatencyP50Micros() {
+        return latencyP50Micros;
+    }
+
+    public long getLatencyP99Micros() {
+        return latencyP99Micros;
+    }
+
+    public long getLatencyMaxMicros() {
+        return latencyMaxMicros;
+    }
+
+    public long getLatencySumMicros() {
+        return latencySumMicros;
+    }
+
+    /**
+     * @return number of failures by VPP error code (retval)
+     */
+    public Map<Integer, Long> getErrorCodes() {
+        return errorCodes;
+    }
+
+    @Override
+    public String toString() {
+        return "JvppOperationStats{"
+                + "requests=" + requests
+                + ", inFlight=" + inFlight
+                + ", failures=" + failures
+                + ", timeouts=" + timeouts
+                + ", latencyP50Micros=" + latencyP50Micros
+                + ", latencyP99Micros=" + latencyP99Micros
+                + ", latencyMaxMicros=" + latencyMaxMicros
+                + ", errorCodes=" + errorCodes
+                + '}';
+    }
+}
@@ -18,11 +18,19 @@ package io.fd.hc2vpp.common.translate.util;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.fd.honeycomb.translate.read.ReadFailedException;
 import io.fd.honeycomb.translate.write.WriteFailedException;
 import io.fd.jvpp.VppBaseCallException;
 import io.fd.jvpp.dto.JVppReply;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -175,6 +183,114 @@ public interface JvppReplyConsumer {
         }
     }
 
+    /**
+     * Consumes reply for jvpp call of given operation representing any write operation, using timeout of the operation
+     * (see {@link JvppReplyTimeoutHolder#getTimeout(String)}). Repeatedly timed out replies are recorded with latency
+     * equal to the timeout, so that timeout of the operation can adapt even if no reply arrives in time.
+     *
+     * @param operation name of jvpp operation, e.g. swInterfaceSetFlags
+     */
+    default <R extends JVppReply<?>> R getReplyForWrite(@Nonnull Future<R> future,
+                                                            @Nonnull final InstanceIdentifier<?> replyType,
+                                                            @Nonnull final String operation)
+            throws WriteFailedException {
+        final int timeout = JvppReplyTimeoutHolder.getTimeout(operation);
+        final long start = System.nanoTime();
+        final R reply;
+        try {
+            reply = getReplyForWrite(future, replyType, timeout);
+        } catch (WriteTimeoutException e) {
+            JvppReplyTimeoutHolder.recordTimeout(operation, timeout);
+            throw e;
+        }
+        JvppReplyTimeoutHolder.recordLatency(operation, System.nanoTime() - start);
+        return reply;
+    }
+
+    /**
+     * Consumes reply for jvpp call of given operation representing read, using timeout of the operation
+     * (see {@link JvppReplyTimeoutHolder#getTimeout(String)}). Repeatedly timed out replies are recorded with latency
+     * equal to the timeout.
+     *
+     * @param operation name of jvpp operation, e.g. ipFibDump
+     */
+    default <R extends JVppReply<?>> R getReplyForRead(@Nonnull Future<R> future,
+                                                           @Nonnull final InstanceIdentifier<?> replyType,
+                                                           @Nonnull final String operation)
+            throws ReadFailedException {
+        final int timeout = JvppReplyTimeoutHolder.getTimeout(operation);
+        final long start = System.nanoTime();
+        final R reply;
+        try {
+            reply = getReplyForRead(future, replyType, timeout);
+        } catch (ReadTimeoutException e) {
+            JvppReplyTimeoutHolder.recordTimeout(operation, timeout);
+            throw e;
+        }
+        JvppReplyTimeoutHolder.recordLatency(operation, System.nanoTime() - start);
+        return reply;
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #getReplyForWrite(Future, InstanceIdentifier)}. Does not block calling
+     * thread, so independent requests can be sent at once and joined using {@link #joinReplyForWrite}.
+     *
+     * @return future completed with reply, or failed with {@link WriteFailedException}
+     * ({@link WriteTimeoutException} if reply was not received in time)
+     */
+    default <R extends JVppReply<?>> CompletableFuture<R> getReplyForWriteAsync(
+            @Nonnull final CompletionStage<R> replyStage, @Nonnull final InstanceIdentifier<?> replyType) {
+        return getReplyForWriteAsync(replyStage, replyType, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #getReplyForWrite(Future, InstanceIdentifier, int)}.
+     */
+    default <R extends JVppReply<?>> CompletableFuture<R> getReplyForWriteAsync(
+            @Nonnull final CompletionStage<R> replyStage, @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnegative final int timeoutInSeconds) {
+        return JvppAsyncReplies.consume(replyStage, timeoutInSeconds,
+                e -> new WriteTimeoutException(replyType, e),
+                e -> new WriteFailedException(replyType, e));
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #getReplyForRead(Future, InstanceIdentifier)}. Does not block calling
+     * thread, so independent requests can be sent at once and joined using {@link #joinReplyForRead}.
+     *
+     * @return future completed with reply, or failed with {@link ReadFailedException}
+     * ({@link ReadTimeoutException} if reply was not received in time)
+     */
+    default <R extends JVppReply<?>> CompletableFuture<R> getReplyForReadAsync(
+            @Nonnull final CompletionStage<R> replyStage, @Nonnull final InstanceIdentifier<?> replyType) {
+        return getReplyForReadAsync(replyStage, replyType, JvppReplyTimeoutHolder.getTimeout());
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #getReplyForRead(Future, InstanceIdentifier, int)}.
+     */
+    default <R extends JVppReply<?>> CompletableFuture<R> getReplyForReadAsync(
+            @Nonnull final CompletionStage<R> replyStage, @Nonnull final InstanceIdentifier<?> replyType,
+            @Nonnegative final int timeoutInSeconds) {
+        return JvppAsyncReplies.consume(replyStage, timeoutInSeconds,
+                e -> new ReadTimeoutException(replyType, e),
+                e -> new ReadFailedException(replyType, e));
+    }
+
+    /**
+     * Waits for reply consumed by {@link #getReplyForWriteAsync}. Timeout is already enforced by the async reply.
+     */
+    default <R> R joinReplyForWrite(@Nonnull final CompletionStage<R> asyncReply) throws WriteFailedException {
+        return JvppAsyncReplies.join(asyncReply, WriteFailedException.class);
+    }
+
+    /**
+     * Waits for reply consumed by {@link #getReplyForReadAsync}. Timeout is already enforced by the async reply.
+     */
+    default <R> R joinReplyForRead(@Nonnull final CompletionStage<R> asyncReply) throws ReadFailedException {
+        return JvppAsyncReplies.join(asyncReply, ReadFailedException.class);
+    }
+
     default <R extends JVppReply<?>> R getReply(@Nonnull Future<R> future)
             throws TimeoutException, VppBaseCallException {
         return getReply(future, JvppReplyTimeoutHolder.getTimeout());
@@ -200,11 +316,30 @@ public interface JvppReplyConsumer {
     }
 
     /**
-     * Wrapper for reply timeout
+     * Wrapper for reply timeout.
+     *
+     * <p/>Besides global timeout, timeouts of particular jvpp operations (e.g. large dumps) can be configured.
+     * Timeout of an operation also adapts to observed load: once enough replies are received, it is raised to
+     * {@link #ADAPTIVE_FACTOR} times 99th percentile of their latencies, but never above {@link #ADAPTIVE_FACTOR}
+     * times the configured timeout. Latencies of dumps include time needed to transfer all the details, so timeout
+     * of a dump grows with number of dumped entries.
      */
     class JvppReplyTimeoutHolder {
         private static final Logger LOG = LoggerFactory.getLogger(JvppReplyTimeoutHolder.class);
+        static final int ADAPTIVE_FACTOR = 4;
+        private static final int LATENCY_SAMPLES = 128;
+        private static final int MIN_LATENCY_SAMPLES = 16;
+        private static final double LATENCY_PERCENTILE = 99;
+        private static final int LATENCY_RECOMPUTE_INTERVAL = 16;
+        // single timeout would raise timeout of the operation at once, so that even simple writes would not fail fast
+        static final int TIMEOUTS_TO_ADAPT = 3;
         private static Optional<Integer> timeout = Optional.empty();
+        // there can be many sessions with current ietf-acl implementation (could be probably removed after fixing
+        // HONEYCOMB-247)
+        private static final Map<String, Integer> DEFAULT_OPERATION_TIMEOUTS =
+                Collections.singletonMap("classifySessionDump", 30);
+        private static volatile Map<String, Integer> operationTimeouts = DEFAULT_OPERATION_TIMEOUTS;
+        private static final Map<String, JvppLatencyTracker> LATENCIES = new ConcurrentHashMap<>();
 
         private JvppReplyTimeoutHolder() {
             throw new UnsupportedOperationException("Utility class cannot be instantiated.");
@@ -220,8 +355,70 @@ public interface JvppReplyConsumer {
             LOG.info("Jvpp reply timeout configured to {} seconds", timeout.get());
         }
 
+        /**
+         * Configures timeouts of particular jvpp operations.
+         *
+         * @param jvppOperationTimeouts timeouts in seconds keyed by jvpp operation name, e.g. ipFibDump
+         */
+        public static synchronized void setupOperationTimeouts(
+                @Nonnull final Map<String, Integer> jvppOperationTimeouts) {
+            jvppOperationTimeouts.forEach((operation, operationTimeout) ->
+                    checkArgument(operationTimeout > 0, "Timeout of %s cannot be < 0", operation));
+            final Map<String, Integer> timeouts = new HashMap<>(DEFAULT_OPERATION_TIMEOUTS);
+            timeouts.putAll(jvppOperationTimeouts);
+            operationTimeouts = Collections.unmodifiableMap(timeouts);
+            LOG.info("Jvpp reply timeouts of operations configured to {} seconds", operationTimeouts);
+        }
+
         public static int getTimeout() {
             return timeout.orElse(5);
         }
+
+        /**
+         * Returns timeout for reply of given jvpp operation, adapted to its observed latencies.
+         */
+        public static int getTimeout(@Nonnull final String operation) {
+            final int configured = operationTimeouts.getOrDefault(operation, getTimeout());
+            final JvppLatencyTracker latencies = LATENCIES.get(operation);
+            if (latencies == null) {
+                return configured;
+            }
+            final OptionalLong percentile = latencies.percentile();
+            if (!percentile.isPresent()) {
+                return configured;
+            }
+            final long adaptive = ADAPTIVE_FACTOR * TimeUnit.NANOSECONDS.toSeconds(
+                    percentile.getAsLong() + TimeUnit.SECONDS.toNanos(1) - 1);
+            return (int) Math.max(configured, Math.min(adaptive, (long) ADAPTIVE_FACTOR * configured));
+        }
+
+        /**
+         * Restores default operation timeouts and forgets recorded latencies.
+         */
+        @VisibleForTesting
+        static synchronized void resetOperationTimeouts() {
+            operationTimeouts = DEFAULT_OPERATION_TIMEOUTS;
+            LATENCIES.clear();
+        }
+
+        /**
+         * Records latency of received reply of given jvpp operation.
+         */
+        public static void recordLatency(@Nonnull final String operation, final long latencyInNanos) {
+            getLatencies(operation).record(latencyInNanos);
+        }
+
+        /**
+         * Records reply of given jvpp operation not received within timeout. Timed out replies affect timeout of
+         * the operation only after {@link #TIMEOUTS_TO_ADAPT} consecutive timeouts.
+         */
+        public static void recordTimeout(@Nonnull final String operation, final int timeoutInSeconds) {
+            getLatencies(operation).recordTimeout(TimeUnit.SECONDS.toNanos(timeoutInSeconds));
+        }
+
+        private static JvppLatencyTracker getLatencies(@Nonnull final String operation) {
+            return LATENCIES.computeIfAbsent(operation, op -> new JvppLatencyTracker(LATENCY_SAMPLES,
+                    MIN_LATENCY_SAMPLES, LATENCY_PERCENTILE, LATENCY_RECOMPUTE_INTERVAL, TIMEOUTS_TO_ADAPT));
+        }
     }
 }
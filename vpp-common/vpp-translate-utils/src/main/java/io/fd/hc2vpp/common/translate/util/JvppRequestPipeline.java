@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.dto.JVppReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+/**
+ * Sends independent jvpp write requests without waiting for reply of previous request, keeping at most
+ * {@code window} requests in flight. Replies are correlated with requests by jvpp (using context id), so throughput
+ * is bounded by VPP processing rate instead of round trip latency.
+ *
+ * <p/>Failure of a request is reported as {@link WriteFailedException} for identifier it was submitted with, by
+ * {@link #submit} if already known, otherwise by {@link #join()}. Only requests that do not depend on each other
+ * should be submitted to single pipeline, since order in which VPP processes them is not guaranteed to matter.
+ */
+@NotThreadSafe
+public final class JvppRequestPipeline implements JvppReplyConsumer {
+
+    /**
+     * Default number of requests in flight.
+     */
+    public static final int DEFAULT_WINDOW = 64;
+
+    private final Semaphore window;
+    private final List<CompletableFuture<?>> replies = new ArrayList<>();
+    private volatile boolean failed;
+
+    public JvppRequestPipeline() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param window maximum number of requests waiting for reply
+     */
+    public JvppRequestPipeline(final int window) {
+        checkArgument(window > 0, "Window has to be positive, but was %s", window);
+        this.window = new Semaphore(window);
+    }
+
+    /**
+     * Sends request once there is a free slot in the window.
+     *
+     * @param id      identifier of data request is translated from, failure of request is reported for it
+     * @param request sends jvpp request
+     * @throws WriteFailedException if some of previously submitted requests already failed, in which case request is
+     *                              not sent
+     */
+    public <R extends JVppReply<?>> void submit(@Nonnull final InstanceIdentifier<?> id,
+                                                @Nonnull final Supplier<CompletionStage<R>> request)
+            throws WriteFailedException {
+        if (failed) {
+            // fail fast, no need to send rest of requests
+            join();
+        }
+        acquire();
+        final CompletableFuture<R> reply;
+        try {
+            reply = getReplyForWriteAsync(request.get(), id);
+        } catch (RuntimeException e) {
+            window.release();
+            throw e;
+        }
+        reply.whenComplete((ignored, failure) -> {
+            if (failure != null) {
+                failed = true;
+            }
+            window.release();
+        });
+        replies.add(reply);
+    }
+
+    /**
+     * Waits for replies of all submitted requests.
+     *
+     * @throws WriteFailedException failure of first failed request, in order of submission
+     */
+    public void join() throws WriteFailedException {
+        WriteFailedException failure = null;
+        for (final CompletableFuture<?> reply : replies) {
+            try {
+                joinReplyForWrite(reply);
+            } catch (WriteFailedException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        replies.clear();
+        failed = false;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void acquire() {
+        try {
+            window.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for free slot in jvpp request window", e);
+        }
+    }
+}
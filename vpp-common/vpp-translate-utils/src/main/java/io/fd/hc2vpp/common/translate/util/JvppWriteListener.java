@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Listener of successful jvpp write requests, used to keep data dumped from VPP up to date with writes.
+ *
+ * @see SharedDumpCache#addWriteListener(JvppWriteListener)
+ */
+@FunctionalInterface
+public interface JvppWriteListener {
+
+    /**
+     * Invoked when reply of write request is received.
+     *
+     * @param operation jvpp operation name, e.g. swInterfaceSetFlags
+     * @param request   jvpp request
+     */
+    void onWrite(@Nonnull String operation, @Nonnull Object request);
+}
@@ -126,6 +126,37 @@ public interface MacTranslator {
         }
     }
 
+    /**
+     * Converts first 6 bytes of MAC address to long. Suitable as lookup key, that does not require string
+     * representation of the address.
+     */
+    default long macToLong(@Nonnull final byte[] macAddress) {
+        checkArgument(macAddress.length >= 6, "Illegal array length");
+        long mac = 0;
+        for (int i = 0; i < 6; i++) {
+            mac = (mac << 8) | (macAddress[i] & 0xff);
+        }
+        return mac;
+    }
+
+    /**
+     * Converts string represented mac address (using ":" as separator) to long, without any intermediate objects.
+     * Result is equal to {@link #macToLong(byte[])} of the same address.
+     */
+    default long macToLong(@Nonnull final String macAddress) {
+        checkArgument(macAddress.length() == 17, "Mac address is expected to have 6 parts but was: %s", macAddress);
+        long mac = 0;
+        for (int i = 0; i < 6; i++) {
+            final int offset = i * 3;
+            checkArgument(i == 0 || macAddress.charAt(offset - 1) == ':', "Invalid mac address: %s", macAddress);
+            final int high = Character.digit(macAddress.charAt(offset), 16);
+            final int low = Character.digit(macAddress.charAt(offset + 1), 16);
+            checkArgument(high >= 0 && low >= 0, "Invalid mac address: %s", macAddress);
+            mac = (mac << 8) | (high << 4) | low;
+        }
+        return mac;
+    }
+
     default byte parseHexByte(final String aByte) {
         return (byte) Integer.parseInt(aByte, 16);
     }
@@ -19,12 +19,16 @@ package io.fd.hc2vpp.common.translate.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
-import java.util.Optional;
+import com.google.common.util.concurrent.Striped;
 import io.fd.honeycomb.translate.MappingContext;
 import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.Collections;
-import java.util.OptionalInt;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.MultiMappingCtxAugmentation;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.MultiNamingContexts;
@@ -36,20 +40,34 @@ import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.MappingKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.Value;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.multi.naming.context.rev160411.multi.naming.contexts.attributes.multi.naming.contexts.multi.naming.mappings.mapping.ValueKey;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 
 /**
  * One to many context mapping
+ *
+ * <p/>Reads are not synchronized. Operations that read and then write children of a parent mapping are guarded by
+ * locks striped by parent name. Child indexes are assigned by {@link IndexAllocator} kept per parent. Names of removed
+ * children are remembered until their index is reused, so that allocator can check by keyed read whether the removal
+ * was committed.
  */
 public class MultiNamingContext {
 
+    private static final int LOCK_STRIPES = 64;
+
     private final KeyedInstanceIdentifier<MultiNaming, MultiNamingKey>
             multiNamingContextIid;
 
     private final int startIndex;
 
+    private final Striped<Lock> parentLocks = Striped.lock(LOCK_STRIPES);
+
+    private final Map<String, IndexAllocator> allocators = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<Integer, String>> releasedChildNames = new ConcurrentHashMap<>();
+
     public MultiNamingContext(@Nonnull final String instanceName, final int startIndex) {
         multiNamingContextIid = InstanceIdentifier.create(Contexts.class)
                 .augmentation(MultiMappingCtxAugmentation.class)
@@ -58,10 +76,35 @@ public class MultiNamingContext {
         this.startIndex = startIndex;
     }
 
-    public synchronized void addChild(@Nonnull final String parentName, final int childIndex,
-                                      @Nonnull final String childName,
-                                      @Nonnull final MappingContext mappingContext) {
+    public void addChild(@Nonnull final String parentName, final int childIndex,
+                         @Nonnull final String childName,
+                         @Nonnull final MappingContext mappingContext) {
         checkArgument(childIndex >= startIndex, "Index cannot be lower than start index %s", startIndex);
+        final Lock lock = parentLocks.get(parentName);
+        lock.lock();
+        try {
+            addChildUnderLock(parentName, childIndex, childName, mappingContext);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addChild(@Nonnull final String parentName,
+                         @Nonnull final String childName,
+                         @Nonnull final MappingContext mappingContext) {
+        final Lock lock = parentLocks.get(parentName);
+        lock.lock();
+        try {
+            addChildUnderLock(parentName, getNextAvailableChildIndex(parentName, mappingContext), childName,
+                    mappingContext);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void addChildUnderLock(@Nonnull final String parentName, final int childIndex,
+                                   @Nonnull final String childName,
+                                   @Nonnull final MappingContext mappingContext) {
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(parentName);
 
         //uses merge to preserve previous
@@ -70,17 +113,13 @@ public class MultiNamingContext {
                         .setIndex(childIndex)
                         .setName(childName)
                         .build())).build());
+        getAllocator(parentName).reserve(childIndex);
+        getReleasedChildNames(parentName).remove(childIndex);
     }
 
-    public synchronized void addChild(@Nonnull final String parentName,
-                                      @Nonnull final String childName,
-                                      @Nonnull final MappingContext mappingContext) {
-        addChild(parentName, getNextAvailableChildIndex(parentName, mappingContext), childName, mappingContext);
-    }
-
-    public synchronized String getChildName(@Nonnull final String parentName,
-                                            @Nonnull final int childIndex,
-                                            @Nonnull final MappingContext mappingContext) {
+    public String getChildName(@Nonnull final String parentName,
+                               @Nonnull final int childIndex,
+                               @Nonnull final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
         checkState(read.isPresent(), "Mapping not present");
@@ -90,9 +129,9 @@ public class MultiNamingContext {
                 .collect(RWUtils.singleItemCollector()).getName();
     }
 
-    public synchronized int getChildIndex(@Nonnull final String parentName,
-                                          @Nonnull final String childName,
-                                          @Nonnull final MappingContext mappingContext) {
+    public int getChildIndex(@Nonnull final String parentName,
+                             @Nonnull final String childName,
+                             @Nonnull final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
         checkState(read.isPresent(), "Mapping not present");
@@ -103,15 +142,34 @@ public class MultiNamingContext {
     }
 
 
-    public synchronized void removeChild(@Nonnull final String parentName,
-                                         @Nonnull final String childName,
-                                         @Nonnull final MappingContext mappingContext) {
+    public void removeChild(@Nonnull final String parentName,
+                            @Nonnull final String childName,
+                            @Nonnull final MappingContext mappingContext) {
+        final Lock lock = parentLocks.get(parentName);
+        lock.lock();
+        try {
+            removeChildUnderLock(parentName, childName, mappingContext);
+        } finally {
+            lock.unlock();
+        }
+    }
 
+    private void removeChildUnderLock(@Nonnull final String parentName,
+                                      @Nonnull final String childName,
+                                      @Nonnull final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(parentName));
 
         // ignore delete's for non-existing parent
         if (read.isPresent()) {
             final Mapping mapping = read.get();
+            final IndexAllocator allocator = getAllocator(parentName);
+            final Map<Integer, String> releasedNames = getReleasedChildNames(parentName);
+            mapping.getValue().stream()
+                    .filter(value -> value.getName().equals(childName))
+                    .forEach(value -> {
+                        releasedNames.put(value.getIndex(), value.getName());
+                        allocator.release(value.getIndex());
+                    });
 
             // overrides old data with new(without removed child)
             mappingContext.put(getMappingIid(parentName), new MappingBuilder()
@@ -126,26 +184,40 @@ public class MultiNamingContext {
     }
 
     /**
-     * Returns next available index for mapping
+     * Returns next available index for mapping. Context data are read only on first allocation for a parent.
      */
     private int getNextAvailableChildIndex(final String parentName, final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(mappingIdBase());
+        return Math.toIntExact(getAllocator(parentName).allocate(
+                () -> readChildIndexes(parentName, mappingContext),
+                index -> isChildStillMapped(parentName, (int) index, mappingContext)));
+    }
 
-        if (!read.isPresent()) {
-            return startIndex;
+    /**
+     * Checks whether child removed from released index is still present in context data (removal was not committed).
+     */
+    private boolean isChildStillMapped(final String parentName, final int index, final MappingContext mappingContext) {
+        final String childName = getReleasedChildNames(parentName).get(index);
+        if (childName == null) {
+            return false;
         }
+        final Optional<Value> child =
+                mappingContext.read(getMappingIid(parentName).child(Value.class, new ValueKey(childName)));
+        return child.isPresent() && child.get().getIndex() == index;
+    }
 
-        final OptionalInt max = read.get().getMapping()
-            .stream()
-            .filter(mapping -> mapping.getName().equals(parentName))
-            .flatMap(mapping -> mapping.getValue().stream())
-            .mapToInt(Value::getIndex)
-            .max();
-        if (max.isPresent()) {
-            return max.getAsInt() + 1;
-        } else {
-            return startIndex;
-        }
+    private LongStream readChildIndexes(final String parentName, final MappingContext mappingContext) {
+        return mappingContext.read(getMappingIid(parentName))
+                .map(Mapping::getValue)
+                .map(values -> values.stream().mapToLong(Value::getIndex))
+                .orElse(LongStream.empty());
+    }
+
+    private IndexAllocator getAllocator(final String parentName) {
+        return allocators.computeIfAbsent(parentName, name -> new IndexAllocator(startIndex));
+    }
+
+    private Map<Integer, String> getReleasedChildNames(final String parentName) {
+        return releasedChildNames.computeIfAbsent(parentName, name -> new ConcurrentHashMap<>());
     }
 
     private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String name) {
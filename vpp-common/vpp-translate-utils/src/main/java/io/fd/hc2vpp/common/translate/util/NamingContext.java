@@ -17,15 +17,17 @@
 package io.fd.hc2vpp.common.translate.util;
 
 import static com.google.common.base.Preconditions.checkArgument;
-import static com.google.common.base.Preconditions.checkState;
 
-import java.util.Optional;
+import com.google.common.util.concurrent.Striped;
 import io.fd.honeycomb.translate.MappingContext;
-import io.fd.honeycomb.translate.util.RWUtils;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
 import java.util.function.Supplier;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import javax.annotation.Nonnull;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
 import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContextKey;
@@ -39,14 +41,24 @@ import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 /**
  * Utility adapter on top of {@link MappingContext} storing integer to string mappings according to naming-context yang
  * model.
+ *
+ * <p/>Reads are not synchronized, since all data is held by transaction scoped {@link MappingContext}. Only operations
+ * that read and then write mappings (artificial name and index assignment) are guarded by locks.
+ *
+ * <p/>Next available indexes are assigned by {@link IndexAllocator}, initialized from context data on first use.
+ * Names of removed mappings are remembered until their index is reused, so that allocator can check by keyed read
+ * whether the removal was committed.
  */
-public final class NamingContext implements AutoCloseable {
+public class NamingContext implements AutoCloseable {
 
-    private static final Collector<Mapping, ?, Mapping> SINGLE_ITEM_COLLECTOR = RWUtils.singleItemCollector();
     private static final int START_INDEX = 0;
+    private static final int LOCK_STRIPES = 64;
     private final String artificialNamePrefix;
     private final KeyedInstanceIdentifier<org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContext, NamingContextKey>
             namingContextIid;
+    private final Striped<Lock> indexLocks = Striped.lock(LOCK_STRIPES);
+    private final IndexAllocator indexAllocator = new IndexAllocator(START_INDEX);
+    private final Map<Integer, String> releasedNames = new ConcurrentHashMap<>();
 
     /**
      * Create new naming context
@@ -71,18 +83,24 @@ public final class NamingContext implements AutoCloseable {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized String getName(final int index, @Nonnull final MappingContext mappingContext) {
-        if (!containsName(index, mappingContext)) {
-            final String artificialName = getArtificialName(index);
-            addName(index, artificialName, mappingContext);
+    public String getName(final int index, @Nonnull final MappingContext mappingContext) {
+        final Optional<String> name = getNameIfPresent(index, mappingContext);
+        if (name.isPresent()) {
+            return name.get();
         }
 
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
-        checkState(read.isPresent(), "Mapping for index: %s is not present. But should be", index);
-
-        return read.get().getMapping().stream()
-                .filter(mapping -> mapping.getIndex().equals(index))
-                .collect(SINGLE_ITEM_COLLECTOR).getName();
+        // only concurrent attempts to create artificial name for the same index need to be serialized
+        final Lock lock = indexLocks.get(index);
+        lock.lock();
+        try {
+            return getNameIfPresent(index, mappingContext).orElseGet(() -> {
+                final String artificialName = getArtificialName(index);
+                addName(index, artificialName, mappingContext);
+                return artificialName;
+            });
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -93,8 +111,8 @@ public final class NamingContext implements AutoCloseable {
      * @return name mapped to provided index
      */
     @Nonnull
-    public synchronized Optional<String> getNameIfPresent(final int index,
-                                                          @Nonnull final MappingContext mappingContext) {
+    public Optional<String> getNameIfPresent(final int index,
+                                             @Nonnull final MappingContext mappingContext) {
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
         if (!read.isPresent()) {
             return Optional.empty();
@@ -120,7 +138,7 @@ public final class NamingContext implements AutoCloseable {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
+    public boolean containsName(final int index, @Nonnull final MappingContext mappingContext) {
         final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
         return read.isPresent()
                 ? read.get().getMapping().stream().anyMatch(mapping -> mapping.getIndex().equals(index))
@@ -135,9 +153,11 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addName(final int index, final String name, final MappingContext mappingContext) {
+    public void addName(final int index, final String name, final MappingContext mappingContext) {
         final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(name);
         mappingContext.put(mappingIid, new MappingBuilder().setIndex(index).setName(name).build());
+        indexAllocator.reserve(index);
+        releasedNames.remove(index);
     }
 
     /**
@@ -147,12 +167,16 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void addName(final String name, final MappingContext mappingContext) {
+    public void addName(final String name, final MappingContext mappingContext) {
         addName(getNextAvailableIndex(mappingContext), name, mappingContext);
     }
 
-    private KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String name) {
-        return namingContextIid.child(Mappings.class).child(Mapping.class, new MappingKey(name));
+    protected KeyedInstanceIdentifier<Mapping, MappingKey> getMappingIid(final String name) {
+        return getMappingsIid().child(Mapping.class, new MappingKey(name));
+    }
+
+    protected InstanceIdentifier<Mappings> getMappingsIid() {
+        return namingContextIid.child(Mappings.class);
     }
 
     /**
@@ -161,8 +185,24 @@ public final class NamingContext implements AutoCloseable {
      * @param name           name of a mapped item
      * @param mappingContext mapping context providing context data for current transaction
      */
-    public synchronized void removeName(final String name, final MappingContext mappingContext) {
-        mappingContext.delete(getMappingIid(name));
+    public void removeName(final String name, final MappingContext mappingContext) {
+        final KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid = getMappingIid(name);
+        final Optional<Mapping> mapping = mappingContext.read(mappingIid);
+        mappingContext.delete(mappingIid);
+        mapping.ifPresent(removed -> {
+            releasedNames.put(removed.getIndex(), removed.getName());
+            indexAllocator.release(removed.getIndex());
+            mappingRemoved(removed);
+        });
+    }
+
+    /**
+     * Invoked after mapping was removed from context data of current transaction.
+     *
+     * @param mapping removed mapping
+     */
+    protected void mappingRemoved(@Nonnull final Mapping mapping) {
+        // NOOP
     }
 
     /**
@@ -173,7 +213,7 @@ public final class NamingContext implements AutoCloseable {
      * @return integer index value matching supplied name
      * @throws IllegalArgumentException if name was not found
      */
-    public synchronized int getIndex(final String name, final MappingContext mappingContext) {
+    public int getIndex(final String name, final MappingContext mappingContext) {
         final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
         checkArgument(read.isPresent(), "No mapping stored for name: %s", name);
         return read.get().getIndex();
@@ -189,9 +229,9 @@ public final class NamingContext implements AutoCloseable {
      * @return integer index value matching supplied name
      * @throws T if name was not found
      */
-    public synchronized <T extends Throwable> int getIndex(final String name,
-                                                           final MappingContext mappingContext,
-                                                           final Supplier<T> throwIfNonExisting) throws T {
+    public <T extends Throwable> int getIndex(final String name,
+                                              final MappingContext mappingContext,
+                                              final Supplier<T> throwIfNonExisting) throws T {
         // supplier is used to not instantiate exception if not needed
         final Optional<Mapping> read = mappingContext.read(getMappingIid(name));
         if (!read.isPresent()) {
@@ -207,28 +247,37 @@ public final class NamingContext implements AutoCloseable {
      * @param mappingContext mapping context providing context data for current transaction
      * @return true if present, false otherwise
      */
-    public synchronized boolean containsIndex(final String name, final MappingContext mappingContext) {
+    public boolean containsIndex(final String name, final MappingContext mappingContext) {
         return mappingContext.read(getMappingIid(name)).isPresent();
     }
 
-    private String getArtificialName(final int index) {
+    protected String getArtificialName(final int index) {
         return artificialNamePrefix + index;
     }
 
     /**
-     * Returns next available index for mapping
+     * Returns next available index for mapping. Context data are scanned only on first allocation.
      */
     private int getNextAvailableIndex(final MappingContext mappingContext) {
-        final Optional<Mappings> read = mappingContext.read(namingContextIid.child(Mappings.class));
+        return Math.toIntExact(indexAllocator.allocate(() -> {
+            final Optional<Mappings> read = mappingContext.read(getMappingsIid());
+            return read.isPresent() && read.get().getMapping() != null
+                    ? read.get().getMapping().stream().mapToLong(Mapping::getIndex)
+                    : LongStream.empty();
+        }, index -> isStillMapped((int) index, mappingContext)));
+    }
 
-        if (!read.isPresent() || read.get().getMapping().isEmpty()) {
-            return START_INDEX;
+    /**
+     * Checks whether mapping removed from released index is still present in context data (removal was not
+     * committed).
+     */
+    private boolean isStillMapped(final int index, final MappingContext mappingContext) {
+        final String name = releasedNames.get(index);
+        if (name == null) {
+            return false;
         }
-
-        return 1 + read.get().getMapping()
-            .stream()
-            .mapToInt(Mapping::getIndex)
-            .max().getAsInt();
+        final Optional<Mapping> mapping = mappingContext.read(getMappingIid(name));
+        return mapping.isPresent() && mapping.get().getIndex() == index;
     }
 
     @Override
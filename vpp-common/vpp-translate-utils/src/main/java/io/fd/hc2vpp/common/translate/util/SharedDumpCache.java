@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Dump cache shared across transactions. Complements per transaction caching done by
+ * {@link io.fd.honeycomb.translate.util.read.cache.DumpCacheManager}, so repeated polling of operational data
+ * (e.g. by monitoring systems) does not produce identical dumps in VPP.
+ *
+ * <p/>Only dump types with configured time to live are cached, cached dumps are evicted after their time to live,
+ * or if number of cached dumps exceeds maximum size. Cached dumps are invalidated by any write request sent
+ * over jvpp api instrumented by {@link #invalidateOnWrite(Class, Object)}, so writes are visible to next read.
+ * Dump that was started before a write is never cached, so it is not served after the write.
+ * Other caches of dumped data can listen to the same writes using {@link #addWriteListener(JvppWriteListener)}.
+ *
+ * <p/>Only core jvpp api is instrumented. Writes sent using jvpp plugin facades (e.g. acl or nat) do not invalidate
+ * the cache, so time to live should be configured only for dumps of data not modified by plugins.
+ *
+ * <p/>Cached dumps are shared by all readers, so they must not be modified.
+ */
+@ThreadSafe
+public final class SharedDumpCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedDumpCache.class);
+
+    /**
+     * Naming of jvpp requests that do not modify VPP state, e.g. swInterfaceDump, swInterfaceGetTable, showVersion,
+     * classifyTableByInterface or controlPing.
+     */
+    private static final Pattern READ_OPERATION = Pattern.compile(
+            "(show|get|want)[A-Z].*|controlPing|.*Get[A-Z].*|.*(Dump|Get|Ids|Info|ByInterface)");
+
+    private final Map<String, Long> ttlsInNanos;
+    private final Cache<DumpKey, CachedDump> dumps;
+    private final List<JvppWriteListener> writeListeners = new CopyOnWriteArrayList<>();
+    // incremented by each write, dumps started in previous generation are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param maximumSize  maximum number of cached dumps
+     * @param ttlsInMillis time to live of cached dumps in milliseconds, by dump type (jvpp dump operation name,
+     *                     e.g. ipFibDump)
+     */
+    public SharedDumpCache(final long maximumSize, @Nonnull final Map<String, Long> ttlsInMillis) {
+        checkArgument(maximumSize >= 0, "Maximum size cannot be < 0");
+        final Map<String, Long> ttls = new HashMap<>();
+        ttlsInMillis.forEach((dumpType, ttl) -> {
+            checkArgument(ttl > 0, "Time to live of %s has to be positive", dumpType);
+            ttls.put(dumpType, TimeUnit.MILLISECONDS.toNanos(ttl));
+        });
+        this.ttlsInNanos = Collections.unmodifiableMap(ttls);
+        this.dumps = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+
+    /**
+     * Returns cache that caches nothing.
+     */
+    public static SharedDumpCache disabled() {
+        return new SharedDumpCache(0, Collections.emptyMap());
+    }
+
+    /**
+     * Wraps dump executor, so its dumps are cached if time to live is configured for dump type.
+     *
+     * @param dumpType jvpp dump operation name, e.g. ipFibDump
+     * @param executor executor performing the dump
+     */
+    public <T, U> EntityDumpExecutor<T, U> cached(@Nonnull final String dumpType,
+                                                  @Nonnull final EntityDumpExecutor<T, U> executor) {
+        final Long ttl = ttlsInNanos.get(dumpType);
+        if (ttl == null) {
+            return executor;
+        }
+        LOG.debug("Caching {} dumps for {} ms", dumpType, TimeUnit.NANOSECONDS.toMillis(ttl));
+        return (identifier, params) -> {
+            final DumpKey key = new DumpKey(dumpType, params);
+            final long currentGeneration = generation.get();
+            final CachedDump cached = dumps.getIfPresent(key);
+            if (cached != null && (cached.isExpired(ttl) || cached.generation != currentGeneration)) {
+                dumps.asMap().remove(key, cached);
+            }
+            try {
+                // concurrent readers of the same dump wait for single dump
+                final CachedDump dump = dumps.get(key,
+                        () -> new CachedDump(executor.executeDump(identifier, params), currentGeneration));
+                if (dump.generation != currentGeneration || generation.get() != currentGeneration) {
+                    // write was sent while dumping, dump might not contain it
+                    dumps.asMap().remove(key, dump);
+                    if (dump.generation != currentGeneration) {
+                        // dump was started before this read, dump again without caching
+                        return executor.executeDump(identifier, params);
+                    }
+                }
+                @SuppressWarnings("unchecked")
+                final T result = (T) dump.dump;
+                return result;
+            } catch (ExecutionException | UncheckedExecutionException e) {
+                if (e.getCause() instanceof ReadFailedException) {
+                    throw (ReadFailedException) e.getCause();
+                }
+                throw new IllegalStateException("Unable to dump " + dumpType, e.getCause());
+            }
+        };
+    }
+
+    /**
+     * Invalidates cached dumps of given type.
+     */
+    public void invalidate(@Nonnull final String dumpType) {
+        dumps.asMap().keySet().removeIf(key -> key.dumpType.equals(dumpType));
+    }
+
+    /**
+     * Invalidates all cached dumps.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        dumps.invalidateAll();
+    }
+
+    /**
+     * Registers listener notified about successful write requests sent over jvpp api instrumented by
+     * {@link #invalidateOnWrite(Class, Object)}.
+     */
+    public void addWriteListener(@Nonnull final JvppWriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    /**
+     * Wraps jvpp api, so that all cached dumps are invalidated when write request is sent, and write listeners are
+     * notified when its reply is received. Requests following naming of read requests (dumps, gets, show and info
+     * requests, control ping) are not considered writes.
+     *
+     * @param jvppApi  jvpp api interface, e.g. FutureJVppCore
+     * @param delegate jvpp api implementation
+     * @return jvpp api invalidating this cache
+     */
+    public <T> T invalidateOnWrite(@Nonnull final Class<T> jvppApi, @Nonnull final T delegate) {
+        checkArgument(jvppApi.isInterface(), "Only jvpp api interfaces can be wrapped, but %s is not", jvppApi);
+        return jvppApi.cast(Proxy.newProxyInstance(jvppApi.getClassLoader(), new Class<?>[] {jvppApi},
+                (proxy, method, args) -> {
+                    final boolean isWrite = isWrite(method, args);
+                    if (isWrite) {
+                        invalidateAll();
+                    }
+                    final Object result;
+                    try {
+                        result = method.invoke(delegate, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (isWrite && result instanceof CompletionStage && !writeListeners.isEmpty()) {
+                        ((CompletionStage<?>) result).thenRun(() -> notifyWrite(method.getName(), args[0]));
+                    }
+                    return result;
+                }));
+    }
+
+    private static boolean isWrite(final Method method, final Object[] args) {
+        return CompletionStage.class.isAssignableFrom(method.getReturnType()) && args != null && args.length == 1
+                && !READ_OPERATION.matcher(method.getName()).matches();
+    }
+
+    private void notifyWrite(final String operation, final Object request) {
+        for (final JvppWriteListener listener : writeListeners) {
+            try {
+                listener.onWrite(operation, request);
+            } catch (RuntimeException e) {
+                // do not fail jvpp reply processing because of listener
+                LOG.warn("Write listener {} failed to process {}", listener, operation, e);
+            }
+        }
+    }
+
+    private static final class DumpKey {
+        private final String dumpType;
+        private final Object params;
+
+        private DumpKey(final String dumpType, final Object params) {
+            this.dumpType = dumpType;
+            this.params = params;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final DumpKey that = (DumpKey) o;
+            return dumpType.equals(that.dumpType) && Objects.equals(params, that.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dumpType, params);
+        }
+    }
+
+    private static final class CachedDump {
+        private final Object dump;
+        private final long generation;
+        private final long createdAt = System.nanoTime();
+
+        private CachedDump(final Object dump, final long generation) {
+            this.dump = dump;
+            this.generation = generation;
+        }
+
+        private boolean isExpired(final long ttlInNanos) {
+            return System.nanoTime() - createdAt >= ttlInNanos;
+        }
+    }
+}
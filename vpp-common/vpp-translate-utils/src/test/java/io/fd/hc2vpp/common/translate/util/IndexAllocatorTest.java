@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.junit.Test;
+
+public class IndexAllocatorTest {
+
+    @Test
+    public void testStartIndex() {
+        final IndexAllocator allocator = new IndexAllocator(3);
+        assertEquals(3, allocator.allocate(LongStream::empty, index -> false));
+        assertEquals(4, allocator.allocate(LongStream::empty, index -> false));
+    }
+
+    @Test
+    public void testInitializedOnce() {
+        final IndexAllocator allocator = new IndexAllocator(0);
+        final AtomicInteger reads = new AtomicInteger();
+        assertEquals(8, allocator.allocate(() -> {
+            reads.incrementAndGet();
+            return LongStream.of(1, 7, 2);
+        }, index -> false));
+        assertEquals(9, allocator.allocate(() -> {
+            reads.incrementAndGet();
+            return LongStream.of(1, 7, 2);
+        }, index -> false));
+        assertEquals(1, reads.get());
+    }
+
+    @Test
+    public void testReleasedIndexReused() {
+        final IndexAllocator allocator = new IndexAllocator(0);
+        assertEquals(5, allocator.allocate(() -> LongStream.of(4), index -> false));
+        allocator.release(2);
+        allocator.release(1);
+        assertEquals(1, allocator.allocate(LongStream::empty, index -> false));
+        assertEquals(2, allocator.allocate(LongStream::empty, index -> false));
+        assertEquals(6, allocator.allocate(LongStream::empty, index -> false));
+    }
+
+    @Test
+    public void testReleasedIndexStillInUse() {
+        final IndexAllocator allocator = new IndexAllocator(0);
+        assertEquals(5, allocator.allocate(() -> LongStream.of(4), index -> false));
+        allocator.release(2);
+        // removal was not committed
+        assertEquals(6, allocator.allocate(LongStream::empty, index -> index == 2));
+    }
+
+    @Test
+    public void testReleasedIndexReusedOnceFree() {
+        final IndexAllocator allocator = new IndexAllocator(0);
+        assertEquals(5, allocator.allocate(() -> LongStream.of(4), index -> false));
+        allocator.release(2);
+        assertEquals(6, allocator.allocate(LongStream::empty, index -> index == 2));
+        // removal committed later
+        assertEquals(2, allocator.allocate(LongStream::empty, index -> false));
+        assertEquals(7, allocator.allocate(LongStream::empty, index -> false));
+    }
+
+    @Test
+    public void testReserve() {
+        final IndexAllocator allocator = new IndexAllocator(0);
+        allocator.reserve(10);
+        assertEquals(11, allocator.allocate(() -> LongStream.of(4), index -> false));
+        allocator.release(3);
+        allocator.reserve(3);
+        assertEquals(12, allocator.allocate(LongStream::empty, index -> false));
+    }
+}
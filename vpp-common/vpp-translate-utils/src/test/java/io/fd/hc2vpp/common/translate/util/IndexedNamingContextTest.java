@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import io.fd.honeycomb.translate.MappingContext;
+import java.util.Optional;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.Contexts;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContextKey;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.Mappings;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.MappingsBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.Mapping;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingBuilder;
+import org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.naming.context.mappings.MappingKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
+
+public class IndexedNamingContextTest {
+
+    private static final String NAME_1 = "name-1";
+    private static final String NAME_2 = "name-2";
+
+    @Mock
+    private MappingContext mappingContext;
+
+    private IndexedNamingContext namingContext;
+    private InstanceIdentifier<Mappings> mappingsIid;
+    private Mapping mapping1;
+    private Mapping mapping2;
+
+    @Before
+    public void init() {
+        MockitoAnnotations.initMocks(this);
+        namingContext = new IndexedNamingContext("prefix-", "context");
+        mappingsIid = InstanceIdentifier.create(Contexts.class).child(
+                org.opendaylight.yang.gen.v1.http.fd.io.hc2vpp.yang.naming.context.rev160513.contexts.NamingContext.class,
+                new NamingContextKey("context")).child(Mappings.class);
+
+        mapping1 = new MappingBuilder().setIndex(1).setName(NAME_1).build();
+        mapping2 = new MappingBuilder().setIndex(2).setName(NAME_2).build();
+        when(mappingContext.read(mappingsIid))
+                .thenReturn(Optional.of(new MappingsBuilder().setMapping(Lists.newArrayList(mapping1, mapping2)).build()));
+        when(mappingContext.read(mappingIid(NAME_1))).thenReturn(Optional.of(mapping1));
+        when(mappingContext.read(mappingIid(NAME_2))).thenReturn(Optional.of(mapping2));
+        when(mappingContext.read(mappingIid("prefix-3"))).thenReturn(Optional.empty());
+    }
+
+    @Test
+    public void testGetNameLoadsContextOnce() {
+        assertEquals(NAME_1, namingContext.getName(1, mappingContext));
+        assertEquals(NAME_2, namingContext.getName(2, mappingContext));
+        assertEquals(Optional.of(NAME_1), namingContext.getNameIfPresent(1, mappingContext));
+        assertFalse(namingContext.containsName(5, mappingContext));
+        verify(mappingContext, times(1)).read(mappingsIid);
+    }
+
+    @Test
+    public void testGetNameAddsArtificialName() {
+        assertEquals("prefix-3", namingContext.getName(3, mappingContext));
+        verify(mappingContext).put(mappingIid("prefix-3"), new MappingBuilder().setIndex(3).setName("prefix-3").build());
+    }
+
+    @Test
+    public void testStaleEntryNotReturned() {
+        namingContext.addName(7, "name-7", mappingContext);
+        // mapping was not committed
+        when(mappingContext.read(mappingIid("name-7"))).thenReturn(Optional.empty());
+        assertFalse(namingContext.getNameIfPresent(7, mappingContext).isPresent());
+    }
+
+    @Test
+    public void testUncommittedWriteInterleavedWithRead() {
+        final MappingContext writeContext = mock(MappingContext.class);
+        when(writeContext.read(mappingIid("name-7")))
+                .thenReturn(Optional.of(new MappingBuilder().setIndex(7).setName("name-7").build()));
+        namingContext.addName(7, "name-7", writeContext);
+
+        // concurrent read does not see uncommitted mapping
+        when(mappingContext.read(mappingIid("name-7"))).thenReturn(Optional.empty());
+        assertFalse(namingContext.getNameIfPresent(7, mappingContext).isPresent());
+
+        // write committed
+        when(mappingContext.read(mappingIid("name-7")))
+                .thenReturn(Optional.of(new MappingBuilder().setIndex(7).setName("name-7").build()));
+        assertEquals("name-7", namingContext.getName(7, mappingContext));
+        verify(mappingContext, never()).put(eq(mappingIid("prefix-7")), any());
+    }
+
+    @Test
+    public void testRemoveNameInvalidatesMisses() {
+        assertTrue(namingContext.containsName(1, mappingContext));
+        namingContext.removeName(NAME_1, mappingContext);
+        verify(mappingContext).delete(mappingIid(NAME_1));
+
+        // removal reverted, mapping still present in context data
+        assertTrue(namingContext.containsName(1, mappingContext));
+        verify(mappingContext, times(2)).read(mappingsIid);
+    }
+
+    private KeyedInstanceIdentifier<Mapping, MappingKey> mappingIid(final String name) {
+        return mappingsIid.child(Mapping.class, new MappingKey(name));
+    }
+}
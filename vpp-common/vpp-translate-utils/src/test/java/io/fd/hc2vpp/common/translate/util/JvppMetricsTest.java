@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.fd.jvpp.VppCallbackException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JvppMetricsTest {
+
+    private JvppMetrics metrics;
+    private CompletableFuture<String> reply;
+    private TestApi api;
+
+    @Before
+    public void setUp() {
+        metrics = new JvppMetrics();
+        reply = new CompletableFuture<>();
+        api = metrics.instrument(TestApi.class, new TestApi() {
+            @Override
+            public CompletionStage<String> testDump(final String request) {
+                return reply;
+            }
+
+            @Override
+            public int notInstrumented() {
+                return 1;
+            }
+        });
+    }
+
+    @Test
+    public void testSuccessfulCall() {
+        final CompletionStage<String> stage = api.testDump("request");
+        assertSame(reply, stage);
+        assertEquals(1, metrics.getOperations().get("testDump").getInFlight());
+
+        reply.complete("reply");
+        final JvppOperationStats stats = metrics.getOperations().get("testDump");
+        assertEquals(1, stats.getRequests());
+        assertEquals(0, stats.getInFlight());
+        assertEquals(0, stats.getFailures());
+        assertEquals(0, stats.getTimeouts());
+        assertTrue(stats.getLatencyP99Micros() > 0);
+    }
+
+    @Test
+    public void testFailedCall() {
+        api.testDump("request");
+        reply.completeExceptionally(new VppCallbackException("testDump", "test error msg", 1, -3));
+        final JvppOperationStats stats = metrics.getOperations().get("testDump");
+        assertEquals(1, stats.getFailures());
+        assertEquals(ImmutableMap.of(-3, 1L), stats.getErrorCodes());
+    }
+
+    @Test
+    public void testNotInstrumented() {
+        assertEquals(1, api.notInstrumented());
+        assertTrue(metrics.getOperations().isEmpty());
+    }
+
+    @Test
+    public void testPrometheusText() {
+        api.testDump("request");
+        reply.completeExceptionally(new VppCallbackException("testDump", "test error msg", 1, -3));
+        final String text = metrics.getPrometheusText();
+        assertTrue(text.contains("jvpp_requests_total{operation=\"testDump\"} 1\n"));
+        assertTrue(text.contains("jvpp_requests_in_flight{operation=\"testDump\"} 0\n"));
+        assertTrue(text.contains("jvpp_request_failures_total{operation=\"testDump\",error_code=\"-3\"} 1\n"));
+        assertTrue(text.contains("jvpp_request_latency_seconds_bucket{operation=\"testDump\",le=\"+Inf\"} 1\n"));
+        assertTrue(text.contains("jvpp_request_latency_seconds_count{operation=\"testDump\"} 1\n"));
+    }
+
+    @Test
+    public void testCounters() {
+        metrics.counter("test_events_total").increment();
+        metrics.counter("test_events_total").add(2);
+        assertSame(metrics.counter("test_events_total"), metrics.counter("test_events_total"));
+        assertEquals(ImmutableMap.of("test_events_total", 3L), metrics.getCounters());
+        assertTrue(metrics.getPrometheusText().contains("# TYPE test_events_total counter\ntest_events_total 3\n"));
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        final JvppLatencyHistogram histogram = new JvppLatencyHistogram();
+        histogram.record(500);
+        histogram.record(3_000);
+        histogram.record(1_000_000);
+        assertEquals(3, histogram.getCount());
+        assertEquals(1, histogram.getPercentileInMicros(30));
+        assertEquals(4, histogram.getPercentileInMicros(50));
+        assertEquals(1024, histogram.getPercentileInMicros(99));
+    }
+
+    public interface TestApi {
+        CompletionStage<String> testDump(String request);
+
+        int notInstrumented();
+    }
+}
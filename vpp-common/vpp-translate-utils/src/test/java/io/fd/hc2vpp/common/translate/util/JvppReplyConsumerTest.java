@@ -16,6 +16,7 @@
 
 package io.fd.hc2vpp.common.translate.util;
 
+import static io.fd.hc2vpp.common.translate.util.JvppReplyConsumer.JvppReplyTimeoutHolder.ADAPTIVE_FACTOR;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -24,10 +25,17 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer.JvppReplyTimeoutHolder;
+import io.fd.honeycomb.translate.read.ReadFailedException;
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.VppCallbackException;
 import io.fd.jvpp.dto.JVppReply;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.LongStream;
+import org.junit.After;
 import org.junit.Test;
 import org.opendaylight.yangtools.yang.binding.DataContainer;
 import org.opendaylight.yangtools.yang.binding.DataObject;
@@ -42,6 +50,43 @@ public class JvppReplyConsumerTest implements JvppReplyConsumer {
         }
     }
 
+    @After
+    public void tearDown() {
+        JvppReplyTimeoutHolder.resetOperationTimeouts();
+    }
+
+    @Test
+    public void testRepeatedTimeoutsRecorded() throws Exception {
+        final int configured = JvppReplyTimeoutHolder.getTimeout("timedOutDump");
+        LongStream.range(0, 16).forEach(
+                i -> JvppReplyTimeoutHolder.recordLatency("timedOutDump", TimeUnit.MILLISECONDS.toNanos(10)));
+
+        // single timeouts do not raise timeout, so simple operations still fail fast
+        for (int i = 1; i < JvppReplyTimeoutHolder.TIMEOUTS_TO_ADAPT; i++) {
+            readTimedOut("timedOutDump");
+            assertEquals(configured, JvppReplyTimeoutHolder.getTimeout("timedOutDump"));
+        }
+        JvppReplyTimeoutHolder.recordLatency("timedOutDump", TimeUnit.MILLISECONDS.toNanos(10));
+        for (int i = 1; i < JvppReplyTimeoutHolder.TIMEOUTS_TO_ADAPT; i++) {
+            readTimedOut("timedOutDump");
+            assertEquals(configured, JvppReplyTimeoutHolder.getTimeout("timedOutDump"));
+        }
+
+        readTimedOut("timedOutDump");
+        assertEquals(ADAPTIVE_FACTOR * configured, JvppReplyTimeoutHolder.getTimeout("timedOutDump"));
+    }
+
+    private void readTimedOut(final String operation) throws Exception {
+        final Future<JVppReply<?>> future = mock(Future.class);
+        when(future.get(anyLong(), eq(TimeUnit.SECONDS))).thenThrow(TimeoutException.class);
+        try {
+            getReplyForRead(future, InstanceIdentifier.create(AnDataObject.class), operation);
+            fail("ReadTimeoutException expected");
+        } catch (ReadTimeoutException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testGetReplyForWriteTimeout() throws Exception {
         final Future<JVppReply<?>> future = mock(Future.class);
@@ -73,4 +118,42 @@ public class JvppReplyConsumerTest implements JvppReplyConsumer {
         }
         fail("ReadTimeoutException was expected");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetReplyForWriteAsync() throws Exception {
+        final JVppReply<?> reply = mock(JVppReply.class);
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        assertEquals(reply, joinReplyForWrite(
+                getReplyForWriteAsync(CompletableFuture.<JVppReply<?>>completedFuture(reply), replyType)));
+    }
+
+    @Test
+    public void testGetReplyForWriteAsyncFailed() {
+        final CompletableFuture<JVppReply<?>> future = new CompletableFuture<>();
+        future.completeExceptionally(new VppCallbackException("test-call", "test error msg", 1, -1));
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        try {
+            joinReplyForWrite(getReplyForWriteAsync(future, replyType));
+        } catch (WriteFailedException e) {
+            assertTrue(e.getCause() instanceof VppCallbackException);
+            assertEquals(replyType, e.getFailedId());
+            return;
+        }
+        fail("WriteFailedException was expected");
+    }
+
+    @Test
+    public void testGetReplyForReadAsyncTimeout() {
+        final InstanceIdentifier<AnDataObject> replyType = InstanceIdentifier.create(AnDataObject.class);
+        try {
+            joinReplyForRead(getReplyForReadAsync(new CompletableFuture<JVppReply<?>>(), replyType, 1));
+        } catch (ReadTimeoutException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+            assertEquals(replyType, e.getFailedId());
+            return;
+        } catch (ReadFailedException e) {
+            fail("ReadTimeoutException was expected, but was " + e);
+        }
+        fail("ReadTimeoutException was expected");
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static io.fd.hc2vpp.common.translate.util.JvppReplyConsumer.JvppReplyTimeoutHolder.ADAPTIVE_FACTOR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.google.common.collect.ImmutableMap;
+import io.fd.hc2vpp.common.translate.util.JvppReplyConsumer.JvppReplyTimeoutHolder;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.junit.After;
+import org.junit.Test;
+
+public class JvppReplyTimeoutHolderTest {
+
+    @After
+    public void tearDown() {
+        JvppReplyTimeoutHolder.resetOperationTimeouts();
+    }
+
+    @Test
+    public void testOperationTimeout() {
+        JvppReplyTimeoutHolder.setupOperationTimeouts(ImmutableMap.of("configuredDump", 30));
+        assertEquals(30, JvppReplyTimeoutHolder.getTimeout("configuredDump"));
+        assertEquals(JvppReplyTimeoutHolder.getTimeout(), JvppReplyTimeoutHolder.getTimeout("otherOperation"));
+    }
+
+    @Test
+    public void testAdaptiveTimeout() {
+        final int configured = JvppReplyTimeoutHolder.getTimeout();
+        // fast replies do not change timeout
+        LongStream.range(0, 100).forEach(
+                i -> JvppReplyTimeoutHolder.recordLatency("adaptiveDump", TimeUnit.MILLISECONDS.toNanos(10)));
+        assertEquals(configured, JvppReplyTimeoutHolder.getTimeout("adaptiveDump"));
+
+        // slow replies raise it
+        LongStream.range(0, 128).forEach(
+                i -> JvppReplyTimeoutHolder.recordLatency("adaptiveDump", TimeUnit.MILLISECONDS.toNanos(1500)));
+        assertEquals(ADAPTIVE_FACTOR * 2, JvppReplyTimeoutHolder.getTimeout("adaptiveDump"));
+
+        // but not above limit
+        LongStream.range(0, 128).forEach(
+                i -> JvppReplyTimeoutHolder.recordLatency("adaptiveDump", TimeUnit.SECONDS.toNanos(100)));
+        assertEquals(ADAPTIVE_FACTOR * configured, JvppReplyTimeoutHolder.getTimeout("adaptiveDump"));
+    }
+
+    @Test
+    public void testPercentile() {
+        final JvppLatencyTracker tracker = new JvppLatencyTracker(100, 10, 99, 1, 1);
+        LongStream.range(0, 9).forEach(tracker::record);
+        assertFalse(tracker.percentile().isPresent());
+        LongStream.range(9, 200).forEach(tracker::record);
+        // only last 100 samples are kept
+        assertEquals(198, tracker.percentile().getAsLong());
+
+        final JvppLatencyTracker median = new JvppLatencyTracker(100, 10, 50, 1, 1);
+        LongStream.range(0, 200).forEach(median::record);
+        assertEquals(149, median.percentile().getAsLong());
+    }
+
+    @Test
+    public void testPercentileRecomputedPeriodically() {
+        final JvppLatencyTracker tracker = new JvppLatencyTracker(100, 10, 100, 10, 1);
+        LongStream.range(0, 10).forEach(tracker::record);
+        // computed as soon as there are enough samples
+        assertEquals(9, tracker.percentile().getAsLong());
+        LongStream.range(10, 19).forEach(tracker::record);
+        assertEquals(9, tracker.percentile().getAsLong());
+        tracker.record(19);
+        assertEquals(19, tracker.percentile().getAsLong());
+    }
+}
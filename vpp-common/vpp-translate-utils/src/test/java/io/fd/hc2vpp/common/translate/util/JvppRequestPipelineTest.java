@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import io.fd.honeycomb.translate.write.WriteFailedException;
+import io.fd.jvpp.VppCallbackException;
+import io.fd.jvpp.dto.JVppReply;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.opendaylight.yangtools.yang.binding.DataContainer;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+
+public class JvppRequestPipelineTest {
+
+    private static final InstanceIdentifier<FirstDataObject> FIRST_ID =
+            InstanceIdentifier.create(FirstDataObject.class);
+    private static final InstanceIdentifier<SecondDataObject> SECOND_ID =
+            InstanceIdentifier.create(SecondDataObject.class);
+
+    @Test
+    public void testRequestsSentBeforeReplies() throws WriteFailedException {
+        final JvppRequestPipeline pipeline = new JvppRequestPipeline(3);
+        final List<CompletableFuture<JVppReply<?>>> replies = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            pipeline.submit(FIRST_ID, () -> newReply(replies));
+        }
+        assertEquals(3, replies.size());
+        replies.forEach(reply -> reply.complete(null));
+        pipeline.join();
+    }
+
+    @Test(timeout = 10000)
+    public void testWindow() throws Exception {
+        final JvppRequestPipeline pipeline = new JvppRequestPipeline(1);
+        final List<CompletableFuture<JVppReply<?>>> replies = new ArrayList<>();
+        pipeline.submit(FIRST_ID, () -> newReply(replies));
+        final CompletableFuture<JVppReply<?>> first = replies.get(0);
+        // window is full until first reply is received
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        executor.schedule(() -> first.complete(null), 100, TimeUnit.MILLISECONDS);
+        pipeline.submit(FIRST_ID, () -> {
+            assertTrue(first.isDone());
+            return CompletableFuture.completedFuture(null);
+        });
+        pipeline.join();
+        executor.shutdown();
+    }
+
+    @Test
+    public void testFailureAttributedToId() {
+        final JvppRequestPipeline pipeline = new JvppRequestPipeline();
+        final CompletableFuture<JVppReply<?>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new VppCallbackException("test-call", "test error msg", 1, -1));
+        try {
+            pipeline.submit(FIRST_ID, () -> CompletableFuture.completedFuture(null));
+            pipeline.submit(SECOND_ID, () -> failed);
+            pipeline.submit(FIRST_ID, () -> {
+                throw new AssertionError("No request should be sent after failure");
+            });
+        } catch (WriteFailedException e) {
+            assertEquals(SECOND_ID, e.getFailedId());
+            assertTrue(e.getCause() instanceof VppCallbackException);
+            return;
+        }
+        fail("WriteFailedException was expected");
+    }
+
+    private static CompletionStage<JVppReply<?>> newReply(final List<CompletableFuture<JVppReply<?>>> replies) {
+        final CompletableFuture<JVppReply<?>> reply = new CompletableFuture<>();
+        replies.add(reply);
+        return reply;
+    }
+
+    private static class FirstDataObject implements DataObject {
+        @Override
+        public Class<? extends DataContainer> getImplementedInterface() {
+            return FirstDataObject.class;
+        }
+    }
+
+    private static class SecondDataObject implements DataObject {
+        @Override
+        public Class<? extends DataContainer> getImplementedInterface() {
+            return SecondDataObject.class;
+        }
+    }
+}
@@ -160,6 +160,26 @@ public class MultiNamingContextTest implements InjectablesProcessor {
         assertEquals(4, child.getIndex().intValue());
     }
 
+    @Test
+    public void addChildReusesRemovedIndexOnceRemovalCommitted() {
+        final KeyedInstanceIdentifier<Value, ValueKey> child3Key =
+                parentKey(PARENT_1).child(Value.class, new ValueKey(CHILD_3));
+        namingContext.addChild(PARENT_1, "child-4", mappingContext);
+        namingContext.removeChild(PARENT_1, CHILD_3, mappingContext);
+        // removal of child-3 is not visible yet
+        when(mappingContext.read(child3Key)).thenReturn(Optional.of(valueFor(CHILD_3, 3)));
+        namingContext.addChild(PARENT_1, "child-5", mappingContext);
+        when(mappingContext.read(child3Key)).thenReturn(Optional.empty());
+        namingContext.addChild(PARENT_1, "child-6", mappingContext);
+
+        verify(mappingContext, times(3))
+                .merge(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+        final List<Mapping> merged = mappingArgumentCaptor.getAllValues();
+        assertEquals(4, merged.get(0).getValue().get(0).getIndex().intValue());
+        assertEquals(5, merged.get(1).getValue().get(0).getIndex().intValue());
+        assertEquals(3, merged.get(2).getValue().get(0).getIndex().intValue());
+    }
+
     @Test
     public void getChildName() throws Exception {
         assertEquals(CHILD_1, namingContext.getChildName(PARENT_1, 1, mappingContext));
@@ -123,6 +123,22 @@ public class NamingContextTest implements InjectablesProcessor {
             .build());
     }
 
+    @Test
+    public void addNameReusesRemovedIndexOnceRemovalCommitted() {
+        namingContext.addName("name-3", mappingContext);
+        namingContext.removeName(NAME_1, mappingContext);
+        // removal of name-1 is not visible yet
+        namingContext.addName("name-4", mappingContext);
+        when(mappingContext.read(parentKey(NAME_1))).thenReturn(Optional.empty());
+        namingContext.addName("name-5", mappingContext);
+
+        verify(mappingContext, times(3))
+            .put(instanceIdentifierArgumentCaptor.capture(), mappingArgumentCaptor.capture());
+        assertEquals(3, mappingArgumentCaptor.getAllValues().get(0).getIndex().intValue());
+        assertEquals(4, mappingArgumentCaptor.getAllValues().get(1).getIndex().intValue());
+        assertEquals(1, mappingArgumentCaptor.getAllValues().get(2).getIndex().intValue());
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void getAndThrow() {
         when(mappingContext.read(any())).thenReturn(Optional.empty());
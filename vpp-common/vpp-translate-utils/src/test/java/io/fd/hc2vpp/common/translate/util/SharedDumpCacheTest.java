@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2019 Cisco and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.fd.hc2vpp.common.translate.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.google.common.collect.ImmutableMap;
+import io.fd.honeycomb.translate.util.read.cache.EntityDumpExecutor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedDumpCacheTest {
+
+    private AtomicInteger dumps;
+    private EntityDumpExecutor<String, Integer> executor;
+
+    @Before
+    public void setUp() {
+        dumps = new AtomicInteger();
+        executor = (identifier, params) -> "dump-" + params + "-" + dumps.incrementAndGet();
+    }
+
+    @Test
+    public void testCached() throws Exception {
+        final SharedDumpCache cache = new SharedDumpCache(10, ImmutableMap.of("testDump", 60_000L));
+        final EntityDumpExecutor<String, Integer> cached = cache.cached("testDump", executor);
+        assertEquals("dump-1-1", cached.executeDump(null, 1));
+        assertEquals("dump-1-1", cached.executeDump(null, 1));
+        assertEquals("dump-2-2", cached.executeDump(null, 2));
+        assertEquals(2, dumps.get());
+    }
+
+    @Test
+    public void testNotConfigured() {
+        final SharedDumpCache cache = new SharedDumpCache(10, ImmutableMap.of("testDump", 60_000L));
+        assertSame(executor, cache.cached("otherDump", executor));
+        assertSame(executor, SharedDumpCache.disabled().cached("testDump", executor));
+    }
+
+    @Test
+    public void testExpired() throws Exception {
+        final SharedDumpCache cache = new SharedDumpCache(10, ImmutableMap.of("testDump", 1L));
+        final EntityDumpExecutor<String, Integer> cached = cache.cached("testDump", executor);
+        cached.executeDump(null, 1);
+        Thread.sleep(5);
+        assertEquals("dump-1-2", cached.executeDump(null, 1));
+    }
+
+    @Test
+    public void testInvalidateOnWrite() throws Exception {
+        final SharedDumpCache cache = new SharedDumpCache(10, ImmutableMap.of("testDump", 60_000L));
+        final EntityDumpExecutor<String, Integer> cached = cache.cached("testDump", executor);
+        final TestApi api = cache.invalidateOnWrite(TestApi.class, new TestApiImpl());
+        cached.executeDump(null, 1);
+        api.testDump("request");
+        assertEquals("dump-1-1", cached.executeDump(null, 1));
+        api.testAddDel("request");
+        assertEquals("dump-1-2", cached.executeDump(null, 1));
+    }
+
+    @Test
+    public void testNotInvalidatedByReadRequests() throws Exception {
+        final SharedDumpCache cache = new SharedDumpCache(10, ImmutableMap.of("testDump", 60_000L));
+        final EntityDumpExecutor<String, Integer> cached = cache.cached("testDump", executor);
+        final TestApi api = cache.invalidateOnWrite(TestApi.class, new TestApiImpl());
+        cached.executeDump(null, 1);
+        api.swInterfaceGetTable("request");
+        api.showVersion("request");
+        api.classifyTableByInterface("request");
+        api.classifyTableIds("request");
+        api.classifyTableInfo("request");
+        api.controlPing("request");
+        assertEquals("dump-1-1", cached.executeDump(null, 1));
+    }
+
+    @Test
+    public void testDumpRacingWithWriteNotCached() throws Exception {
+        final SharedDumpCache cache = new SharedDumpCache(10, ImmutableMap.of("testDump", 60_000L));
+        final EntityDumpExecutor<String, Integer> cached = cache.cached("testDump", (identifier, params) -> {
+            final String dump = executor.executeDump(identifier, params);
+            if (dumps.get() == 1) {
+                // write sent while first dump is in progress
+                cache.invalidateAll();
+            }
+            return dump;
+        });
+        assertEquals("dump-1-1", cached.executeDump(null, 1));
+        assertEquals("dump-1-2", cached.executeDump(null, 1));
+        assertEquals("dump-1-2", cached.executeDump(null, 1));
+    }
+
+    @Test
+    public void testWriteListener() {
+        final SharedDumpCache cache = SharedDumpCache.disabled();
+        final List<String> writes = new ArrayList<>();
+        cache.addWriteListener((operation, request) -> writes.add(operation + ":" + request));
+        final TestApi api = cache.invalidateOnWrite(TestApi.class, new TestApiImpl());
+        api.testDump("dumpRequest");
+        api.testAddDel("writeRequest");
+        assertEquals(Collections.singletonList("testAddDel:writeRequest"), writes);
+    }
+
+    public interface TestApi {
+        CompletionStage<Void> testDump(Object request);
+
+        CompletionStage<Void> testAddDel(Object request);
+
+        CompletionStage<Void> swInterfaceGetTable(Object request);
+
+        CompletionStage<Void> showVersion(Object request);
+
+        CompletionStage<Void> classifyTableByInterface(Object request);
+
+        CompletionStage<Void> classifyTableIds(Object request);
+
+        CompletionStage<Void> classifyTableInfo(Object request);
+
+        CompletionStage<Void> controlPing(Object request);
+    }
+
+    private static final class TestApiImpl implements TestApi {
+        @Override
+        public CompletionStage<Void> testDump(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> testAddDel(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> swInterfaceGetTable(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> showVersion(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> classifyTableByInterface(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> classifyTableIds(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> classifyTableInfo(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public CompletionStage<Void> controlPing(final Object request) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}